@@ -5,6 +5,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -34,6 +36,11 @@ public class ChatroomH2Repository implements ChatroomRepositoryImple {
         return chatRoomJpaRepository.findById(id);
     }
 
+    @Override
+    public Chatroom getReference(Long id) {
+        return chatRoomJpaRepository.getReferenceById(id);
+    }
+
     @Transactional
     @Override
     public Chatroom save(Chatroom chatroom) {
@@ -68,6 +75,24 @@ public class ChatroomH2Repository implements ChatroomRepositoryImple {
         return chatRoomJpaRepository.findByEventId(eventId);
     }
 
+    @Override
+    public Optional<Long> findHostIdById(Long chatroomId) {
+        return chatRoomJpaRepository.findHostIdById(chatroomId);
+    }
+
+    @Override
+    public List<Long> findIdsByHostId(Long userId) {
+        return chatRoomJpaRepository.findIdsByHostId(userId);
+    }
+
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> chatroomIds) {
+        if (chatroomIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(chatRoomJpaRepository.findExistingIds(chatroomIds));
+    }
+
     @Override
     public List<Chatroom> findAll() {
         log.debug("Finding all chatrooms");
@@ -1,11 +1,27 @@
 package com.runinto.chat.domain.repository.chatroom;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ChatroomJpaRepository extends JpaRepository<Chatroom, Long> {
     Optional<Chatroom> findByEventId(Long eventId);
+
+    // 방장 확인용 (엔티티 그래프를 읽지 않고 ID 하나만 조회)
+    @Query("select c.event.host.userId from Chatroom c where c.id = :chatroomId")
+    Optional<Long> findHostIdById(@Param("chatroomId") Long chatroomId);
+
+    // 방장은 참여자로 저장되지 않으므로 접속할 때 구독할 방 목록에 따로 더함
+    @Query("select c.id from Chatroom c where c.event.host.userId = :userId")
+    List<Long> findIdsByHostId(@Param("userId") Long userId);
+
+    // 메시지를 저장하기 전에 아직 남아 있는 방만 골라냄 (삭제된 방은 FK 위반)
+    @Query("select c.id from Chatroom c where c.id in :chatroomIds")
+    List<Long> findExistingIds(@Param("chatroomIds") Collection<Long> chatroomIds);
 }
@@ -1,9 +1,25 @@
 package com.runinto.chat.domain.repository.chatroom;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ChatroomParticipantJPARepository extends JpaRepository<ChatroomParticipant, Long> {
 
+    // 엔티티를 로딩하지 않고 ID만 조회 (웹소켓 연결/메시지 전달 경로에서 사용)
+    @Query("SELECT p.chatroom.id FROM ChatroomParticipant p WHERE p.user.userId = :userId")
+    List<Long> findChatroomIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT p.user.userId FROM ChatroomParticipant p WHERE p.chatroom.id = :chatroomId")
+    List<Long> findUserIdsByChatroomId(@Param("chatroomId") Long chatroomId);
+
+    // 참여자 컬렉션을 로딩하지 않고 바로 삭제 (강퇴/나가기)
+    @Modifying
+    @Query("DELETE FROM ChatroomParticipant p WHERE p.chatroom.id = :chatroomId AND p.user.userId = :userId")
+    int deleteByChatroomIdAndUserId(@Param("chatroomId") Long chatroomId, @Param("userId") Long userId);
 }
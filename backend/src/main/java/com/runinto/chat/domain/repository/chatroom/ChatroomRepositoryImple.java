@@ -1,5 +1,6 @@
 package com.runinto.chat.domain.repository.chatroom;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -8,6 +9,9 @@ public interface ChatroomRepositoryImple {
 
     Optional<Chatroom> findById(Long id);
 
+    // 조회 없이 연관관계만 걸 때 사용하는 프록시
+    Chatroom getReference(Long id);
+
     Chatroom save(Chatroom chatroom);
 
     void deleteById(Long id);
@@ -18,6 +22,13 @@ public interface ChatroomRepositoryImple {
 
     Optional<Chatroom> findByEventId(Long eventId);
 
+    Optional<Long> findHostIdById(Long chatroomId);
+
+    List<Long> findIdsByHostId(Long userId);
+
+    // 주어진 id 중 실제로 있는 채팅방 id
+    Set<Long> findExistingIds(Collection<Long> chatroomIds);
+
     List<Chatroom> findAll();
 
     public Optional<Set<ChatroomParticipant>> findChatroomParticipant (Long id);
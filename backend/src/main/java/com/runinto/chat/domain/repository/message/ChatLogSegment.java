@@ -0,0 +1,271 @@
+package com.runinto.chat.domain.repository.message;
+
+import com.runinto.chat.dto.response.ChatMessageResponse;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 채팅 로그 세그먼트 파일 하나. 파일 전체를 메모리 매핑해 두고 레코드를 뒤에 이어 씁니다.
+ * 레코드: [int 길이][long id][long senderId][long 전송시각(epoch ms)][UTF-8 본문]
+ * 길이를 마지막에 기록하므로 길이가 0인 위치가 로그의 끝입니다. (쓰다 만 레코드는 재시작 시 버려짐)
+ * 삭제는 레코드를 옮기지 않고 senderId 자리에 삭제 표시(TOMBSTONE)를 덮어쓰며, 조회할 때 건너뜁니다.
+ * 동기화는 ChatLogStream의 락이 담당합니다.
+ */
+final class ChatLogSegment {
+
+    private static final int LENGTH_SIZE = Integer.BYTES;
+    private static final int FIXED_SIZE = Long.BYTES * 3;
+    private static final int SENDER_OFFSET = LENGTH_SIZE + Long.BYTES;
+    // 사용자 id로 나올 수 없는 값
+    static final long TOMBSTONE = Long.MIN_VALUE;
+
+    private final Path path;
+    private final long baseId;
+    private final MappedByteBuffer buffer;
+    private final int indexInterval;
+
+    private int end;
+    private int recordCount;
+    private long lastId;
+    // 희소 인덱스: indexInterval건마다 (첫 id, 위치) 한 쌍
+    private long[] indexIds = new long[16];
+    private int[] indexPositions = new int[16];
+    private int indexSize;
+
+    private ChatLogSegment(Path path, long baseId, MappedByteBuffer buffer, int indexInterval) {
+        this.path = path;
+        this.baseId = baseId;
+        this.buffer = buffer;
+        this.indexInterval = indexInterval;
+    }
+
+    static ChatLogSegment create(Path path, long baseId, int capacity, int indexInterval) throws IOException {
+        return new ChatLogSegment(path, baseId, map(path, capacity), indexInterval);
+    }
+
+    // 기존 파일을 매핑하고 레코드를 처음부터 훑어 끝 위치와 인덱스를 복구
+    static ChatLogSegment open(Path path, long baseId, int indexInterval) throws IOException {
+        ChatLogSegment segment = new ChatLogSegment(path, baseId, map(path, 0), indexInterval);
+        int position = 0;
+        while (position + LENGTH_SIZE <= segment.buffer.capacity()) {
+            int length = segment.buffer.getInt(position);
+            if (length < FIXED_SIZE || position + LENGTH_SIZE + length > segment.buffer.capacity()) {
+                break;
+            }
+            segment.committed(position, segment.idAt(position), length);
+            position = segment.end;
+        }
+        return segment;
+    }
+
+    // 매핑은 채널을 닫아도 유지되므로 파일 핸들은 바로 반납
+    private static MappedByteBuffer map(Path path, int capacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            long size = Math.max(channel.size(), capacity);
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    static int recordSize(byte[] text) {
+        return LENGTH_SIZE + FIXED_SIZE + text.length;
+    }
+
+    /**
+     * 레코드를 이어 씁니다. 남은 공간이 부족하면 false를 반환하고 아무것도 쓰지 않습니다.
+     */
+    boolean append(long id, long senderId, long sendTimeMillis, byte[] text) {
+        int position = end;
+        if (position + recordSize(text) > buffer.capacity()) {
+            return false;
+        }
+        buffer.putLong(position + LENGTH_SIZE, id);
+        buffer.putLong(position + SENDER_OFFSET, senderId);
+        buffer.putLong(position + LENGTH_SIZE + Long.BYTES * 2, sendTimeMillis);
+        buffer.put(position + LENGTH_SIZE + FIXED_SIZE, text);
+        // 💡 길이를 마지막에 기록 → 길이가 보이는 레코드는 항상 완성된 레코드
+        buffer.putInt(position, FIXED_SIZE + text.length);
+        committed(position, id, FIXED_SIZE + text.length);
+        return true;
+    }
+
+    private void committed(int position, long id, int length) {
+        if (recordCount % indexInterval == 0) {
+            if (indexSize == indexIds.length) {
+                indexIds = Arrays.copyOf(indexIds, indexSize * 2);
+                indexPositions = Arrays.copyOf(indexPositions, indexSize * 2);
+            }
+            indexIds[indexSize] = id;
+            indexPositions[indexSize] = position;
+            indexSize++;
+        }
+        recordCount++;
+        lastId = id;
+        end = position + LENGTH_SIZE + length;
+    }
+
+    /**
+     * beforeId보다 작은 레코드를 최신순으로 limit개가 될 때까지 out에 채웁니다.
+     */
+    void collectBefore(long chatroomId, long beforeId, int limit, List<ChatMessageResponse> out) {
+        int[] positions = new int[indexInterval];
+        for (int block = floorBlock(beforeId - 1); block >= 0 && out.size() < limit; block--) {
+            // 블록 안은 앞으로만 읽을 수 있어 위치를 모았다가 거꾸로 꺼냄 (블록당 최대 indexInterval건)
+            int count = 0;
+            for (int position = indexPositions[block]; position < blockEnd(block); position = next(position)) {
+                if (idAt(position) >= beforeId) {
+                    break;
+                }
+                if (!isDeleted(position)) {
+                    positions[count++] = position;
+                }
+            }
+            for (int i = count - 1; i >= 0 && out.size() < limit; i--) {
+                out.add(read(chatroomId, positions[i]));
+            }
+        }
+    }
+
+    /**
+     * afterId보다 큰 레코드를 오래된 순으로 limit개가 될 때까지 out에 채웁니다.
+     */
+    void collectAfter(long chatroomId, long afterId, int limit, List<ChatMessageResponse> out) {
+        if (indexSize == 0) {
+            return;
+        }
+        int block = Math.max(0, floorBlock(afterId));
+        for (int position = indexPositions[block]; position < end && out.size() < limit; position = next(position)) {
+            if (idAt(position) > afterId && !isDeleted(position)) {
+                out.add(read(chatroomId, position));
+            }
+        }
+    }
+
+    // 삭제되지 않은 레코드 전체를 오래된 순으로
+    void collectAll(long chatroomId, List<ChatMessageResponse> out) {
+        for (int position = 0; position < end; position = next(position)) {
+            if (!isDeleted(position)) {
+                out.add(read(chatroomId, position));
+            }
+        }
+    }
+
+    /**
+     * 희소 인덱스로 id가 들어있을 블록을 찾아 그 블록만 훑습니다. 삭제된 레코드는 없는 것으로 봅니다.
+     */
+    ChatMessageResponse find(long chatroomId, long id) {
+        int position = positionOf(id);
+        return position < 0 || isDeleted(position) ? null : read(chatroomId, position);
+    }
+
+    // 삭제된 레코드도 포함 (재전달된 메시지가 되살아나지 않도록)
+    boolean contains(long id) {
+        return positionOf(id) >= 0;
+    }
+
+    /**
+     * 레코드에 삭제 표시를 남깁니다. 새로 삭제했으면 true를 반환합니다.
+     */
+    boolean tombstone(long id) {
+        int position = positionOf(id);
+        if (position < 0 || isDeleted(position)) {
+            return false;
+        }
+        buffer.putLong(position + SENDER_OFFSET, TOMBSTONE);
+        return true;
+    }
+
+    private int positionOf(long id) {
+        int block = floorBlock(id);
+        if (block < 0) {
+            return -1;
+        }
+        for (int position = indexPositions[block]; position < blockEnd(block); position = next(position)) {
+            long current = idAt(position);
+            if (current == id) {
+                return position;
+            }
+            if (current > id) {
+                break;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isDeleted(int position) {
+        return buffer.getLong(position + SENDER_OFFSET) == TOMBSTONE;
+    }
+
+    // id 이하인 첫 id를 가진 마지막 블록 (없으면 -1)
+    private int floorBlock(long id) {
+        int low = 0;
+        int high = indexSize - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (indexIds[mid] <= id) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    private int blockEnd(int block) {
+        return block + 1 < indexSize ? indexPositions[block + 1] : end;
+    }
+
+    private long idAt(int position) {
+        return buffer.getLong(position + LENGTH_SIZE);
+    }
+
+    private int next(int position) {
+        return position + LENGTH_SIZE + buffer.getInt(position);
+    }
+
+    // 매핑된 페이지에서 바로 읽음 (read 시스템 호출/중간 버퍼 없이 본문 문자열만 만듦)
+    private ChatMessageResponse read(long chatroomId, int position) {
+        int length = buffer.getInt(position);
+        byte[] text = new byte[length - FIXED_SIZE];
+        buffer.get(position + LENGTH_SIZE + FIXED_SIZE, text);
+        long sendTime = buffer.getLong(position + LENGTH_SIZE + Long.BYTES * 2);
+        return new ChatMessageResponse(
+                idAt(position),
+                chatroomId,
+                buffer.getLong(position + SENDER_OFFSET),
+                new String(text, StandardCharsets.UTF_8),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(sendTime), ZoneId.systemDefault()));
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    boolean isEmpty() {
+        return recordCount == 0;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long baseId() {
+        return baseId;
+    }
+
+    long lastId() {
+        return lastId;
+    }
+}
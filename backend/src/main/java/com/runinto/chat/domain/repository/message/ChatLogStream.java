@@ -0,0 +1,240 @@
+package com.runinto.chat.domain.repository.message;
+
+import com.runinto.chat.dto.response.ChatMessageResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 채팅방 하나의 로그 스트림. 세그먼트 파일 이름이 첫 id(0으로 채운 20자리)라 이름순이 곧 id순입니다.
+ * 쓰기는 마지막 세그먼트에만 일어나고, 가득 차면 새 세그먼트를 만듭니다.
+ */
+@Slf4j
+final class ChatLogStream {
+
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final long chatroomId;
+    private final Path directory;
+    private final int segmentSize;
+    private final int indexInterval;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<ChatLogSegment> segments = new ArrayList<>();
+
+    private ChatLogStream(long chatroomId, Path directory, int segmentSize, int indexInterval) {
+        this.chatroomId = chatroomId;
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.indexInterval = indexInterval;
+    }
+
+    static ChatLogStream create(long chatroomId, Path directory, int segmentSize, int indexInterval) throws IOException {
+        Files.createDirectories(directory);
+        return new ChatLogStream(chatroomId, directory, segmentSize, indexInterval);
+    }
+
+    static ChatLogStream open(long chatroomId, Path directory, int segmentSize, int indexInterval) throws IOException {
+        ChatLogStream stream = new ChatLogStream(chatroomId, directory, segmentSize, indexInterval);
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX)).sorted().toList();
+        }
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            long baseId = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+            stream.segments.add(ChatLogSegment.open(file, baseId, indexInterval));
+        }
+        return stream;
+    }
+
+    /**
+     * 메시지를 id 순으로 이어 쓰고 실제로 쓴 건수를 반환합니다. (id는 받을 때 붙인 값, 스트림 안에서 항상 증가)
+     * 마지막 id 이하인 메시지는 이미 쓴 메시지(Kafka 재전달)면 건너뜁니다.
+     * 처음 보는데 순서가 어긋난 메시지는 희소 인덱스의 정렬을 깨므로 경고를 남기고 쓰지 않습니다. (노드 하나에서는 생기지 않음)
+     */
+    int append(List<ChatMessage> messages) throws IOException {
+        List<ChatMessage> sorted = new ArrayList<>(messages);
+        sorted.sort(Comparator.comparing(ChatMessage::getId));
+        // 일부만 쓰고 실패하지 않도록 크기를 먼저 확인
+        byte[][] texts = new byte[sorted.size()][];
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = sorted.get(i).getMessage().getBytes(StandardCharsets.UTF_8);
+            if (ChatLogSegment.recordSize(texts[i]) > segmentSize) {
+                throw new IllegalArgumentException("Message is larger than a log segment");
+            }
+        }
+
+        int appended = 0;
+        lock.writeLock().lock();
+        try {
+            long lastId = lastIdLocked();
+            for (int i = 0; i < texts.length; i++) {
+                ChatMessage message = sorted.get(i);
+                byte[] text = texts[i];
+                long id = message.getId();
+                if (id <= lastId) {
+                    if (!containsLocked(id)) {
+                        log.warn("순서가 어긋난 메시지는 로그에 쓰지 않습니다: chatroomId={}, id={}, lastId={}", chatroomId, id, lastId);
+                    }
+                    continue;
+                }
+                long sendTime = message.getSendTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                ChatLogSegment active = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+                if (active == null || !active.append(id, message.getSenderId(), sendTime, text)) {
+                    active = ChatLogSegment.create(directory.resolve(segmentName(id)), id, segmentSize, indexInterval);
+                    segments.add(active);
+                    active.append(id, message.getSenderId(), sendTime, text);
+                }
+                lastId = id;
+                appended++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return appended;
+    }
+
+    ChatMessageResponse find(long id) {
+        lock.readLock().lock();
+        try {
+            int segment = floorSegment(id);
+            return segment < 0 ? null : segments.get(segment).find(chatroomId, id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<ChatMessageResponse> findAll() {
+        List<ChatMessageResponse> messages = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (ChatLogSegment segment : segments) {
+                segment.collectAll(chatroomId, messages);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return messages;
+    }
+
+    /**
+     * id의 레코드에 삭제 표시를 남깁니다. 이 스트림에 있던 메시지면 true를 반환합니다.
+     */
+    boolean delete(long id) {
+        lock.writeLock().lock();
+        try {
+            int segment = floorSegment(id);
+            return segment >= 0 && segments.get(segment).tombstone(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    long chatroomId() {
+        return chatroomId;
+    }
+
+    List<ChatMessageResponse> findBefore(long beforeId, int limit) {
+        List<ChatMessageResponse> page = new ArrayList<>(limit);
+        lock.readLock().lock();
+        try {
+            for (int i = floorSegment(beforeId - 1); i >= 0 && page.size() < limit; i--) {
+                segments.get(i).collectBefore(chatroomId, beforeId, limit, page);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return page;
+    }
+
+    List<ChatMessageResponse> findAfter(long afterId, int limit) {
+        List<ChatMessageResponse> page = new ArrayList<>(limit);
+        lock.readLock().lock();
+        try {
+            for (int i = Math.max(0, floorSegment(afterId)); i < segments.size() && page.size() < limit; i++) {
+                segments.get(i).collectAfter(chatroomId, afterId, limit, page);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return page;
+    }
+
+    long lastId() {
+        lock.readLock().lock();
+        try {
+            return lastIdLocked();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long lastIdLocked() {
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            if (!segments.get(i).isEmpty()) {
+                return segments.get(i).lastId();
+            }
+        }
+        return 0;
+    }
+
+    private boolean containsLocked(long id) {
+        int segment = floorSegment(id);
+        return segment >= 0 && segments.get(segment).contains(id);
+    }
+
+    void force() {
+        lock.readLock().lock();
+        try {
+            if (!segments.isEmpty()) {
+                segments.get(segments.size() - 1).force();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 스트림을 비우고 세그먼트 파일을 지움 (매핑은 GC될 때 해제됨)
+    void delete() throws IOException {
+        lock.writeLock().lock();
+        try {
+            for (ChatLogSegment segment : segments) {
+                Files.deleteIfExists(segment.path());
+            }
+            segments.clear();
+            Files.deleteIfExists(directory);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 첫 id가 id 이하인 마지막 세그먼트 (없으면 -1)
+    private int floorSegment(long id) {
+        int low = 0;
+        int high = segments.size() - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (segments.get(mid).baseId() <= id) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    private static String segmentName(long baseId) {
+        return String.format("%020d", baseId) + SEGMENT_SUFFIX;
+    }
+}
@@ -4,7 +4,7 @@ import com.runinto.chat.domain.repository.chatroom.Chatroom;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.sql.Time;
+import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Getter
@@ -13,11 +13,18 @@ import java.util.Objects;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "chat_message")
+// 💡 방별 커서 페이징(chatroom_id = ? AND id < ? ORDER BY id DESC)이 정렬 없이 인덱스 범위 스캔으로 끝나도록 복합 인덱스
+// (H2는 인덱스를 역방향으로 읽지 못해 주 조회 방향인 과거 방향에 맞춰 id DESC)
+// 💡 보관 작업은 날짜 파티션 단위로 읽고 지우므로 (partition_day, id) 범위 스캔
+@Table(name = "chat_message", indexes = {
+        @Index(name = "idx_chat_message_room_id", columnList = "chatroom_id, id DESC"),
+        @Index(name = "idx_chat_message_partition", columnList = "partition_day, id")
+})
 public class ChatMessage {
 
+    // 💡 DB가 키를 만들지 않고 메시지를 받은 노드가 붙인 id(ChatMessageIdGenerator)를 그대로 사용
+    // → 실시간 프레임과 저장된 행의 id가 같고, Kafka 재전달로 같은 메시지가 다시 와도 키로 걸러냄
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -30,8 +37,23 @@ public class ChatMessage {
     @Column(nullable = false)
     private String message;
 
+    // 날짜까지 포함한 전송 시각 (예전 java.sql.Time은 시각만 있어 보관 기간을 계산할 수 없었음)
     @Column(nullable = false)
-    private Time sendTime;
+    private LocalDateTime sendTime;
+
+    // sendTime의 날짜 버킷 (yyyyMMdd). 저장 시 sendTime에서 계산
+    @Column(name = "partition_day", nullable = false)
+    private int partitionDay;
+
+    @PrePersist
+    @PreUpdate
+    void assignPartitionDay() {
+        partitionDay = partitionDayOf(sendTime);
+    }
+
+    public static int partitionDayOf(LocalDateTime time) {
+        return time.getYear() * 10_000 + time.getMonthValue() * 100 + time.getDayOfMonth();
+    }
 
     @Override
     public boolean equals(Object o) {
@@ -1,29 +1,44 @@
 package com.runinto.chat.domain.repository.message;
 
 import com.runinto.chat.domain.repository.chatroom.Chatroom;
+import com.runinto.chat.dto.response.ChatMessageResponse;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.TypedQuery;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
 
 @Slf4j
 @Repository
 @Primary
+// chat.storage.type=log 이면 ChatMessageLogRepository가 대신 등록됨
+@ConditionalOnProperty(prefix = "chat.storage", name = "type", havingValue = "h2", matchIfMissing = true)
 public class ChatMessageH2Repository implements ChatMessageRepositoryImple {
 
+    // 💡 id가 이미 있는 행은 건너뜀 (표준 MERGE라 재전달된 묶음을 다시 넣어도 결과가 같음)
+    private static final String INSERT_IF_ABSENT = "MERGE INTO chat_message t"
+            + " USING (SELECT CAST(? AS BIGINT) id, CAST(? AS BIGINT) chatroom_id, CAST(? AS BIGINT) sender_id,"
+            + " CAST(? AS VARCHAR) message, CAST(? AS TIMESTAMP) send_time, CAST(? AS INTEGER) partition_day) s"
+            + " ON t.id = s.id"
+            + " WHEN NOT MATCHED THEN INSERT (id, chatroom_id, sender_id, message, send_time, partition_day)"
+            + " VALUES (s.id, s.chatroom_id, s.sender_id, s.message, s.send_time, s.partition_day)";
+
     private final ChatMessageJpaRepository chatMessageJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @PersistenceContext
     private EntityManager entityManager;
 
-    public ChatMessageH2Repository(ChatMessageJpaRepository chatMessageJpaRepository) {
+    public ChatMessageH2Repository(ChatMessageJpaRepository chatMessageJpaRepository, JdbcTemplate jdbcTemplate) {
         this.chatMessageJpaRepository = chatMessageJpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -39,6 +54,33 @@ public class ChatMessageH2Repository implements ChatMessageRepositoryImple {
         return chatMessageJpaRepository.save(message);
     }
 
+    // 한 묶음을 JDBC 배치 하나로 전송. 같은 id가 이미 저장돼 있으면 그 메시지는 넣지 않음
+    @Transactional
+    @Override
+    public List<ChatMessage> saveAll(List<ChatMessage> messages) {
+        log.debug("Saving {} messages", messages.size());
+        if (messages.isEmpty()) {
+            return messages;
+        }
+        for (ChatMessage message : messages) {
+            if (message.getId() == null) {
+                throw new IllegalArgumentException("Message id must be assigned before saving");
+            }
+            message.assignPartitionDay();
+        }
+        // 같은 트랜잭션에서 아직 flush되지 않은 엔티티(채팅방 등)가 있으면 먼저 반영해야 FK가 맞음
+        entityManager.flush();
+        jdbcTemplate.batchUpdate(INSERT_IF_ABSENT, messages, messages.size(), (statement, message) -> {
+            statement.setLong(1, message.getId());
+            statement.setLong(2, message.getChatroom().getId());
+            statement.setLong(3, message.getSenderId());
+            statement.setString(4, message.getMessage());
+            statement.setTimestamp(5, Timestamp.valueOf(message.getSendTime()));
+            statement.setInt(6, message.getPartitionDay());
+        });
+        return messages;
+    }
+
     @Transactional
     @Override
     public void deleteAll() {
@@ -46,15 +88,64 @@ public class ChatMessageH2Repository implements ChatMessageRepositoryImple {
         chatMessageJpaRepository.deleteAll();
     }
 
+    // 엔티티 대신 응답 DTO로 바로 조회 (chatroom.id는 FK 컬럼이라 조인 없음)
+    private static final String ROW_SELECT = "SELECT new com.runinto.chat.dto.response.ChatMessageResponse("
+            + "m.id, m.chatroom.id, m.senderId, m.message, m.sendTime) FROM ChatMessage m";
+    private static final String PAGE_SELECT = ROW_SELECT + " WHERE m.chatroom.id = :chatroomId";
+
+    // 커서가 없을 때도 범위 조건을 걸어야 옵티마이저가 FK 인덱스 대신 (chatroom_id, id DESC) 인덱스 순서로 읽음
+    @Override
+    public List<ChatMessageResponse> findPageBefore(Long chatroomId, Long beforeId, int limit) {
+        log.debug("Finding {} messages before {} in chatroom {}", limit, beforeId, chatroomId);
+        return entityManager.createQuery(PAGE_SELECT + " AND m.id < :beforeId ORDER BY m.chatroom.id, m.id DESC",
+                        ChatMessageResponse.class)
+                .setParameter("chatroomId", chatroomId)
+                .setParameter("beforeId", beforeId != null ? beforeId : Long.MAX_VALUE)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<ChatMessageResponse> findPageAfter(Long chatroomId, Long afterId, int limit) {
+        log.debug("Finding {} messages after {} in chatroom {}", limit, afterId, chatroomId);
+        return entityManager.createQuery(PAGE_SELECT + " AND m.id > :afterId ORDER BY m.chatroom.id, m.id ASC", ChatMessageResponse.class)
+                .setParameter("chatroomId", chatroomId)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Optional<Integer> findOldestPartitionBefore(int partitionDay) {
+        Integer oldest = entityManager.createQuery(
+                        "SELECT MIN(m.partitionDay) FROM ChatMessage m WHERE m.partitionDay < :partitionDay", Integer.class)
+                .setParameter("partitionDay", partitionDay)
+                .getSingleResult();
+        return Optional.ofNullable(oldest);
+    }
+
+    // (partition_day, id) 인덱스 순서 그대로 읽는 키셋 페이징
+    @Override
+    public List<ChatMessageResponse> findPartitionSlice(int partitionDay, long afterId, int limit) {
+        return entityManager.createQuery(ROW_SELECT + " WHERE m.partitionDay = :partitionDay AND m.id > :afterId"
+                        + " ORDER BY m.partitionDay, m.id", ChatMessageResponse.class)
+                .setParameter("partitionDay", partitionDay)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Transactional
     @Override
-    public Optional<List<ChatMessage>> findByChatroomId(Long chatroomId) {
-        log.debug("Finding messages by chatroom ID: {}", chatroomId);
-        TypedQuery<ChatMessage> query = entityManager.createQuery(
-                "SELECT m FROM ChatMessage m WHERE m.chatroom.id = :chatroomId",
-                ChatMessage.class);
-        query.setParameter("chatroomId", chatroomId);
-        List<ChatMessage> messages = query.getResultList();
-        return Optional.of(messages); // Return empty list instead of null
+    public int deletePartition(int partitionDay, List<Long> ids) {
+        log.debug("Deleting {} messages from partition {}", ids.size(), partitionDay);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return entityManager.createQuery("DELETE FROM ChatMessage m WHERE m.partitionDay = :partitionDay AND m.id IN :ids")
+                .setParameter("partitionDay", partitionDay)
+                .setParameter("ids", ids)
+                .executeUpdate();
     }
 
     @Override
@@ -0,0 +1,222 @@
+package com.runinto.chat.domain.repository.message;
+
+import com.runinto.chat.domain.repository.chatroom.Chatroom;
+import com.runinto.chat.dto.response.ChatMessageResponse;
+import com.runinto.config.properties.ChatStorageProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 채팅방마다 하나의 append-only 로그 스트림(메모리 매핑된 세그먼트 파일)에 메시지를 저장하는 구현.
+ * 저장은 파일 끝에 순차로 쓰기만 하고, 대화 기록 페이지는 희소 인덱스로 시작 위치를 찾은 뒤 매핑된 페이지를 그대로 읽습니다.
+ * chat.storage.type=log 일 때 ChatMessageH2Repository 대신 등록됩니다.
+ * id는 메시지를 받은 노드가 붙인 전역 id(ChatMessageIdGenerator)를 그대로 쓰고, 이미 쓴 id는 건너뜁니다. (Kafka 재전달)
+ * 삭제는 레코드에 표시만 남기며(tombstone), 단건 조회와 전체 조회는 세그먼트를 읽어 엔티티로 되돌립니다.
+ * 세그먼트는 이 노드의 로컬 디스크에만 있으므로 채팅 서버를 한 대로 운영할 때만 사용합니다.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(prefix = "chat.storage", name = "type", havingValue = "log")
+public class ChatMessageLogRepository implements ChatMessageRepositoryImple {
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int indexInterval;
+    private final Map<Long, ChatLogStream> streams = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ChatMessageLogRepository(ChatStorageProperties properties) throws IOException {
+        this(Path.of(properties.getLog().getDirectory()), properties.getLog().getSegmentSize(),
+                properties.getLog().getIndexInterval());
+    }
+
+    ChatMessageLogRepository(Path directory, int segmentSize, int indexInterval) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.indexInterval = indexInterval;
+        recover();
+    }
+
+    // 디렉터리의 기존 스트림을 다시 엶
+    private void recover() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> roomDirectories;
+        try (Stream<Path> list = Files.list(directory)) {
+            roomDirectories = list.filter(Files::isDirectory)
+                    .filter(path -> path.getFileName().toString().chars().allMatch(Character::isDigit))
+                    .toList();
+        }
+        for (Path roomDirectory : roomDirectories) {
+            long chatroomId = Long.parseLong(roomDirectory.getFileName().toString());
+            ChatLogStream stream = ChatLogStream.open(chatroomId, roomDirectory, segmentSize, indexInterval);
+            streams.put(chatroomId, stream);
+        }
+        log.info("채팅 로그 저장소 열림: directory={}, chatrooms={}", directory, streams.size());
+    }
+
+    @Override
+    public List<ChatMessage> findAll() {
+        List<ChatMessage> messages = new ArrayList<>();
+        for (ChatLogStream stream : streams.values()) {
+            stream.findAll().forEach(response -> messages.add(toEntity(response)));
+        }
+        return messages;
+    }
+
+    @Override
+    public ChatMessage save(ChatMessage message) {
+        saveAll(List.of(message));
+        return message;
+    }
+
+    // 💡 방별로 묶어 락을 한번만 잡고 이어 씀 (세그먼트 파일에는 항상 순차 쓰기)
+    @Override
+    public List<ChatMessage> saveAll(List<ChatMessage> messages) {
+        Map<Long, List<ChatMessage>> byRoom = new LinkedHashMap<>();
+        for (ChatMessage message : messages) {
+            if (message.getId() == null) {
+                throw new IllegalArgumentException("Message id cannot be null");
+            }
+            if (message.getChatroom() == null || message.getChatroom().getId() == null) {
+                throw new IllegalArgumentException("Chatroom cannot be null");
+            }
+            if (message.getSendTime() == null) {
+                throw new IllegalArgumentException("Send time cannot be null");
+            }
+            byRoom.computeIfAbsent(message.getChatroom().getId(), id -> new ArrayList<>()).add(message);
+        }
+        try {
+            for (Map.Entry<Long, List<ChatMessage>> entry : byRoom.entrySet()) {
+                stream(entry.getKey()).append(entry.getValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return messages;
+    }
+
+    @Override
+    public void deleteAll() {
+        try {
+            for (Long chatroomId : List.copyOf(streams.keySet())) {
+                ChatLogStream stream = streams.remove(chatroomId);
+                if (stream != null) {
+                    stream.delete();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public List<ChatMessageResponse> findPageBefore(Long chatroomId, Long beforeId, int limit) {
+        ChatLogStream stream = streams.get(chatroomId);
+        if (stream == null) {
+            return List.of();
+        }
+        return stream.findBefore(beforeId != null ? beforeId : Long.MAX_VALUE, limit);
+    }
+
+    @Override
+    public List<ChatMessageResponse> findPageAfter(Long chatroomId, Long afterId, int limit) {
+        ChatLogStream stream = streams.get(chatroomId);
+        if (stream == null) {
+            return List.of();
+        }
+        return stream.findAfter(afterId, limit);
+    }
+
+    // 날짜 파티션 보관은 H2 테이블용 (로그 세그먼트는 이미 디스크의 append-only 파일)
+    @Override
+    public Optional<Integer> findOldestPartitionBefore(int partitionDay) {
+        return Optional.empty();
+    }
+
+    @Override
+    public List<ChatMessageResponse> findPartitionSlice(int partitionDay, long afterId, int limit) {
+        return List.of();
+    }
+
+    @Override
+    public int deletePartition(int partitionDay, List<Long> ids) {
+        return 0;
+    }
+
+    @Override
+    public Optional<ChatMessage> findById(Long id) {
+        // 💡 방을 모르므로 방마다 희소 인덱스로 블록 하나만 훑음
+        for (ChatLogStream stream : streams.values()) {
+            ChatMessageResponse response = stream.find(id);
+            if (response != null) {
+                return Optional.of(toEntity(response));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void delete(ChatMessage message) {
+        if (message.getChatroom() != null && message.getChatroom().getId() != null) {
+            ChatLogStream stream = streams.get(message.getChatroom().getId());
+            if (stream != null) {
+                stream.delete(message.getId());
+            }
+            return;
+        }
+        deleteById(message.getId());
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        for (ChatLogStream stream : streams.values()) {
+            if (stream.delete(id)) {
+                return;
+            }
+        }
+    }
+
+    // 종료 시 쓰기 중인 세그먼트를 디스크에 내림 (평소에는 OS 페이지 캐시가 알아서 기록)
+    @PreDestroy
+    public void close() {
+        streams.values().forEach(ChatLogStream::force);
+    }
+
+    private static ChatMessage toEntity(ChatMessageResponse response) {
+        Chatroom chatroom = Chatroom.builder().build();
+        chatroom.setId(response.getChatRoomId());
+        return ChatMessage.builder()
+                .id(response.getId())
+                .chatroom(chatroom)
+                .senderId(response.getSenderId())
+                .message(response.getMessage())
+                .sendTime(response.getSendTime())
+                .partitionDay(ChatMessage.partitionDayOf(response.getSendTime()))
+                .build();
+    }
+
+    private ChatLogStream stream(long chatroomId) {
+        return streams.computeIfAbsent(chatroomId, id -> {
+            try {
+                return ChatLogStream.create(id, directory.resolve(Long.toString(id)), segmentSize, indexInterval);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
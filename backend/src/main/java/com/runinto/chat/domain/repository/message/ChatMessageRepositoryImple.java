@@ -1,6 +1,7 @@
 package com.runinto.chat.domain.repository.message;
 
 import com.runinto.chat.domain.repository.chatroom.Chatroom;
+import com.runinto.chat.dto.response.ChatMessageResponse;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,9 +13,24 @@ public interface ChatMessageRepositoryImple {
 
     ChatMessage save(ChatMessage message);
 
+    List<ChatMessage> saveAll(List<ChatMessage> messages);
+
     void deleteAll();
 
-    Optional<List<ChatMessage>> findByChatroomId(Long chatroomId);
+    // beforeId보다 오래된 메시지를 최신순으로 limit개 (beforeId가 null이면 가장 최근부터)
+    List<ChatMessageResponse> findPageBefore(Long chatroomId, Long beforeId, int limit);
+
+    // afterId보다 새로운 메시지를 오래된 순으로 limit개
+    List<ChatMessageResponse> findPageAfter(Long chatroomId, Long afterId, int limit);
+
+    // partitionDay(yyyyMMdd)보다 이전 날짜 중 가장 오래된 파티션
+    Optional<Integer> findOldestPartitionBefore(int partitionDay);
+
+    // 한 파티션을 id 순으로 afterId 이후부터 limit개 (보관 파일로 옮길 때 사용)
+    List<ChatMessageResponse> findPartitionSlice(int partitionDay, long afterId, int limit);
+
+    // 보관 파일에 쓴 메시지(ids)만 파티션에서 삭제 (읽은 뒤 늦게 커밋된 더 작은 id의 행은 남김)
+    int deletePartition(int partitionDay, List<Long> ids);
 
     Optional<ChatMessage> findById(Long id);
 
@@ -0,0 +1,7 @@
+package com.runinto.chat.dto;
+
+/**
+ * 채팅방 참여자가 나가거나 강퇴되었을 때 발행되는 애플리케이션 이벤트 (커밋 이후 멤버십 캐시/구독 갱신에 사용)
+ */
+public record ChatroomMemberLeftEvent(Long chatroomId, Long userId) {
+}
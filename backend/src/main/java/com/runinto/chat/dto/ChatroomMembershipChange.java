@@ -0,0 +1,7 @@
+package com.runinto.chat.dto;
+
+/**
+ * 노드끼리 chatroom-membership 채널로 주고받는 채팅방 참여/강퇴 변경 (node는 발행한 노드 ID)
+ */
+public record ChatroomMembershipChange(String node, boolean joined, Long chatroomId, Long userId) {
+}
@@ -6,7 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.sql.Time;
+import java.time.LocalDateTime;
 
 /**
  * Response DTO for chat messages
@@ -20,7 +20,7 @@ public class ChatMessageResponse {
     private Long chatRoomId;
     private Long senderId;
     private String message;
-    private Time sendTime;
+    private LocalDateTime sendTime;
 
     /**
      * Create a ChatMessageResponse from a ChatMessage
@@ -0,0 +1,16 @@
+package com.runinto.chat.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageSliceResponse {
+    private List<ChatMessageResponse> messages; // 항상 오래된 → 최신 순
+    private Long nextCursor;   // 같은 방향으로 다음 페이지를 요청할 메시지 ID (마지막 페이지면 null)
+    private boolean hasNext;
+}
@@ -1,13 +1,19 @@
 package com.runinto.chat.presntation;
 
+import com.runinto.auth.domain.SessionConst;
+import com.runinto.auth.domain.UserSessionDto;
 import com.runinto.chat.domain.repository.message.ChatMessage;
 import com.runinto.chat.domain.repository.chatroom.Chatroom;
 import com.runinto.chat.dto.request.ChatMessageRequest;
 import com.runinto.chat.dto.response.ChatMessageResponse;
+import com.runinto.chat.dto.response.ChatMessageSliceResponse;
 import com.runinto.chat.dto.response.ChatroomResponse;
 import com.runinto.chat.dto.response.ParticipantResponse;
 import com.runinto.chat.service.ChatService;
+import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +25,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 
@@ -46,6 +53,24 @@ public class ChatController {
         return ResponseEntity.ok(new ChatroomResponse(chatroom.getId()));
     }
 
+    // 대화 기록 (메시지 ID 커서 페이징). before/after 중 하나만 지정, 둘 다 없으면 최신 페이지
+    @GetMapping("/messages")
+    public ResponseEntity<ChatMessageSliceResponse> getMessages(
+            @PathVariable @NotNull Long eventId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(100) int size,
+            HttpSession session) {
+        UserSessionDto sessionUser = (UserSessionDto) session.getAttribute(SessionConst.LOGIN_MEMBER);
+        if (sessionUser == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (before != null && after != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "before와 after는 함께 사용할 수 없습니다.");
+        }
+        return ResponseEntity.ok(chatService.getMessageHistory(eventId, sessionUser.getUserId(), before, after, size));
+    }
+
     /*@DeleteMapping
     public ResponseEntity<Void> deleteChatroom(@PathVariable @NotNull Long eventId) {
         log.info("Deleting chatroom for event with ID: {}", eventId);
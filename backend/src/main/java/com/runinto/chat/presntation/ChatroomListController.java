@@ -1,10 +1,16 @@
 package com.runinto.chat.presntation;
 
+import com.runinto.auth.domain.SessionConst;
+import com.runinto.auth.domain.UserSessionDto;
+import com.runinto.chat.dto.response.ChatMessageResponse;
 import com.runinto.chat.dto.response.ChatroomResponse;
 import com.runinto.chat.service.ChatService;
+import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import java.util.List;
@@ -20,4 +26,14 @@ public class ChatroomListController {
         List<ChatroomResponse> chatrooms = chatService.getAllChatrooms();
         return ResponseEntity.ok(chatrooms);
     }*/
+
+    // 방 입장 시 최근 메시지 (DB를 거치지 않는 링 버퍼). 그 이전 기록은 /events/{eventId}/chatroom/messages로 조회
+    @GetMapping("/{chatroomId}/messages/recent")
+    public ResponseEntity<List<ChatMessageResponse>> getRecentMessages(@PathVariable Long chatroomId, HttpSession session) {
+        UserSessionDto sessionUser = (UserSessionDto) session.getAttribute(SessionConst.LOGIN_MEMBER);
+        if (sessionUser == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(chatService.getRecentMessages(chatroomId, sessionUser.getUserId()));
+    }
 }
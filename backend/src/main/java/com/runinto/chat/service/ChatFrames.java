@@ -0,0 +1,44 @@
+package com.runinto.chat.service;
+
+import com.google.protobuf.MessageLite;
+import com.runinto.chat.proto.ChatMessageProto;
+import org.springframework.web.socket.BinaryMessage;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 브로드캐스트용 웹소켓 프레임.
+ * 메시지는 한번만 직렬화해 읽기 전용 버퍼로 공유하고, 수신자마다 복사 없이 position만 독립된 뷰를 만듭니다.
+ */
+public final class ChatFrames {
+
+    private ChatFrames() {
+    }
+
+    public static ByteBuffer encode(MessageLite message) {
+        return wrap(message.toByteArray());
+    }
+
+    // 이미 직렬화된 프레임(최근 메시지 버퍼와 같은 바이트)을 브로드캐스트용으로 감쌈
+    public static ByteBuffer wrap(byte[] frame) {
+        return ByteBuffer.wrap(frame).asReadOnlyBuffer();
+    }
+
+    // 받은 노드(버퍼 추가)와 구독 노드(미러/전송)가 같은 바이트를 만들도록 한 곳에서 조립
+    public static byte[] chatMessageFrame(long messageId, long chatroomId, long senderId, String content, long sentAt) {
+        return ChatMessageProto.ChatEnvelope.newBuilder()
+                .setMessage(ChatMessageProto.ChatMessage.newBuilder()
+                        .setMessageId(messageId)
+                        .setChatRoomId(chatroomId)
+                        .setSenderId(senderId)
+                        .setMessage(content)
+                        .setSentAt(sentAt))
+                .build()
+                .toByteArray();
+    }
+
+    // 전송 중에 버퍼의 position이 움직이므로 수신자마다 duplicate()로 뷰를 나눠줌 (바이트는 공유)
+    public static BinaryMessage message(ByteBuffer frame) {
+        return new BinaryMessage(frame.duplicate(), true);
+    }
+}
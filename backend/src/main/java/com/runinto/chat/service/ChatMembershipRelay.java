@@ -0,0 +1,108 @@
+package com.runinto.chat.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.runinto.chat.dto.ChatroomMemberJoinedEvent;
+import com.runinto.chat.dto.ChatroomMemberLeftEvent;
+import com.runinto.chat.dto.ChatroomMembershipChange;
+import common.chat.ChatChannels;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * 채팅방 참여/강퇴를 커밋 이후 캐시용 Redis의 chatroom-membership 채널로 모든 노드에 알립니다.
+ * 각 노드는 받은 변경을 멤버십 캐시와 방 구독에 반영하므로, 대상 사용자가 다른 노드에 접속해 있어도 바로 적용됩니다.
+ * pub/sub은 유실될 수 있으므로 멤버십 캐시는 TTL이 지나면 DB에서 다시 읽어 맞춰집니다.
+ */
+@Slf4j
+@Component
+public class ChatMembershipRelay implements MessageListener {
+
+    private final RedisMessageListenerContainer container;
+    private final StringRedisTemplate redisTemplate;
+    private final ChatroomMembershipCache membershipCache;
+    private final ChatRoomSubscriptionManager subscriptionManager;
+    private final ObjectMapper objectMapper;
+    // 자기가 발행한 변경은 이미 반영했으므로 되돌아온 메시지는 건너뜀
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public ChatMembershipRelay(@Qualifier("chatRedisMessageListenerContainer") RedisMessageListenerContainer container,
+                               @Qualifier("cacheStringRedisTemplate") StringRedisTemplate redisTemplate,
+                               ChatroomMembershipCache membershipCache,
+                               ChatRoomSubscriptionManager subscriptionManager,
+                               ObjectMapper objectMapper) {
+        this.container = container;
+        this.redisTemplate = redisTemplate;
+        this.membershipCache = membershipCache;
+        this.subscriptionManager = subscriptionManager;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        container.addMessageListener(this, new ChannelTopic(ChatChannels.MEMBERSHIP));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberJoined(ChatroomMemberJoinedEvent event) {
+        ChatroomMembershipChange change = new ChatroomMembershipChange(nodeId, true, event.chatroomId(), event.userId());
+        // 💡 발행이 실패해도 이 노드에는 바로 반영 (다른 노드는 캐시 TTL 이후 DB로 맞춰짐)
+        apply(change);
+        publish(change);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberLeft(ChatroomMemberLeftEvent event) {
+        ChatroomMembershipChange change = new ChatroomMembershipChange(nodeId, false, event.chatroomId(), event.userId());
+        apply(change);
+        publish(change);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        ChatroomMembershipChange change;
+        try {
+            change = objectMapper.readValue(message.getBody(), ChatroomMembershipChange.class);
+        } catch (IOException e) {
+            log.warn("멤버십 변경 역직렬화 실패: error={}", e.getMessage());
+            return;
+        }
+        if (nodeId.equals(change.node()) || change.chatroomId() == null || change.userId() == null) {
+            return;
+        }
+        apply(change);
+    }
+
+    private void apply(ChatroomMembershipChange change) {
+        if (change.joined()) {
+            ChatroomMemberJoinedEvent event = new ChatroomMemberJoinedEvent(change.chatroomId(), change.userId());
+            membershipCache.onMemberJoined(event);
+            subscriptionManager.onMemberJoined(event);
+        } else {
+            ChatroomMemberLeftEvent event = new ChatroomMemberLeftEvent(change.chatroomId(), change.userId());
+            membershipCache.onMemberLeft(event);
+            subscriptionManager.onMemberLeft(event);
+        }
+    }
+
+    private void publish(ChatroomMembershipChange change) {
+        try {
+            redisTemplate.convertAndSend(ChatChannels.MEMBERSHIP, objectMapper.writeValueAsString(change));
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("멤버십 변경 발행 실패: chatroomId={}, userId={}, joined={}, error={}",
+                    change.chatroomId(), change.userId(), change.joined(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.runinto.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.runinto.chat.domain.repository.message.ChatMessage;
+import com.runinto.chat.domain.repository.message.ChatMessageH2Repository;
+import com.runinto.chat.domain.repository.message.ChatMessageRepositoryImple;
+import com.runinto.chat.dto.response.ChatMessageResponse;
+import com.runinto.config.properties.ChatArchiveProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보관 기간이 지난 날짜 파티션(partition_day)을 chat_message 테이블에서 로컬 보관 파일로 옮깁니다.
+ * 파일은 파티션마다 gzip JSON Lines 세그먼트로 한번 쓰면 수정하지 않고(append-only), 세그먼트에 쓴 메시지만 테이블에서 지웁니다.
+ * 테이블에는 최근 파티션만 남으므로 기록이 쌓여도 저장/조회 인덱스 크기가 일정하게 유지됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "chat.storage", name = "type", havingValue = "h2", matchIfMissing = true)
+public class ChatMessageArchiver {
+
+    private static final String FILE_PREFIX = "chat-message-";
+    private static final String FILE_SUFFIX = ".jsonl.gz";
+
+    private final ChatMessageRepositoryImple chatMessageRepository;
+    private final ChatArchiveProperties properties;
+    private final ObjectWriter writer;
+
+    public ChatMessageArchiver(ChatMessageH2Repository chatMessageH2Repository, ChatArchiveProperties properties,
+                               ObjectMapper objectMapper) {
+        this.chatMessageRepository = chatMessageH2Repository;
+        this.properties = properties;
+        // 보관 파일은 사람이 읽을 수 있도록 시각을 ISO 문자열로 고정
+        this.writer = objectMapper.writer().without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Scheduled(initialDelayString = "${chat.archive.interval:1h}", fixedDelayString = "${chat.archive.interval:1h}")
+    public void archive() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            archiveBefore(LocalDate.now().minusDays(properties.getHotRetention().toDays()));
+        } catch (UncheckedIOException e) {
+            // 파일을 다 쓰기 전에 실패하면 테이블은 그대로이므로 다음 주기에 다시 시도
+            log.error("채팅 보관 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * cutoff 이전 날짜의 파티션을 오래된 순으로 모두 보관하고, 옮긴 메시지 수를 반환합니다.
+     */
+    public long archiveBefore(LocalDate cutoff) {
+        int cutoffDay = ChatMessage.partitionDayOf(cutoff.atStartOfDay());
+        long archived = 0;
+        Optional<Integer> partition;
+        while ((partition = chatMessageRepository.findOldestPartitionBefore(cutoffDay)).isPresent()) {
+            long count = archivePartition(partition.get());
+            if (count == 0) {
+                break;
+            }
+            archived += count;
+        }
+        return archived;
+    }
+
+    private long archivePartition(int partitionDay) {
+        Path directory = Path.of(properties.getDirectory());
+        long count = 0;
+        long firstId = -1;
+        long lastId = 0;
+        // 세그먼트에 쓴 id를 읽은 조각 단위로 보관 (지울 때도 같은 조각 단위)
+        List<List<Long>> writtenIds = new ArrayList<>();
+        Path temp;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, FILE_PREFIX + partitionDay, ".tmp");
+            try (OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                List<ChatMessageResponse> slice;
+                do {
+                    slice = chatMessageRepository.findPartitionSlice(partitionDay, lastId, properties.getBatchSize());
+                    for (ChatMessageResponse message : slice) {
+                        out.write(writer.writeValueAsBytes(message));
+                        out.write('\n');
+                    }
+                    if (!slice.isEmpty()) {
+                        if (firstId < 0) {
+                            firstId = slice.get(0).getId();
+                        }
+                        lastId = slice.get(slice.size() - 1).getId();
+                        count += slice.size();
+                        writtenIds.add(slice.stream().map(ChatMessageResponse::getId).toList());
+                    }
+                } while (slice.size() == properties.getBatchSize());
+            }
+            if (count == 0) {
+                Files.delete(temp);
+                return 0;
+            }
+            // 💡 파일이 완성된 뒤에만 이름을 붙이고, 늦게 들어온 행은 시작 id가 다른 새 세그먼트로 남김 (기존 파일은 덮어쓰지 않음)
+            Files.move(temp, directory.resolve(segmentName(partitionDay, firstId)), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // 💡 id 범위(id <= lastId)로 지우면 읽은 뒤 늦게 커밋된 더 작은 id의 행이 보관되지 않고 사라짐
+        // → 세그먼트에 쓴 id만 지우고, 늦게 들어온 행은 다음 반복에서 새 세그먼트로 옮김
+        int deleted = 0;
+        for (List<Long> ids : writtenIds) {
+            deleted += chatMessageRepository.deletePartition(partitionDay, ids);
+        }
+        log.info("채팅 파티션 보관: partitionDay={}, messages={}, deleted={}", partitionDay, count, deleted);
+        return count;
+    }
+
+    static String segmentName(int partitionDay, long firstId) {
+        return FILE_PREFIX + partitionDay + "-" + firstId + FILE_SUFFIX;
+    }
+}
@@ -0,0 +1,72 @@
+package com.runinto.chat.service;
+
+import com.runinto.config.properties.ChatMessageIdProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 채팅 메시지를 받은 노드에서 붙이는 전역 유일 id (Snowflake 형식: 밀리초 41비트 | 노드 10비트 | 순번 12비트).
+ * 저장 전부터 같은 id가 실시간 프레임, 최근 메시지 버퍼, DB 기본 키에 함께 쓰이므로 Kafka 재전달도 id로 걸러낼 수 있습니다.
+ * 같은 노드에서는 항상 증가하고, 노드가 달라도 대략 받은 시각 순서를 따릅니다.
+ * 노드 번호는 설정값이 없으면 ChatMessageWorkerLease로 빌려 쓰므로 살아 있는 노드끼리 겹치지 않습니다.
+ */
+@Slf4j
+@Component
+public class ChatMessageIdGenerator {
+
+    // 2025-01-01T00:00:00Z
+    static final long EPOCH_MILLIS = 1_735_689_600_000L;
+    static final int WORKER_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final int MAX_WORKER_ID = (1 << WORKER_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final LongSupplier clock;
+    private final LongSupplier workerIdSource;
+    private long lastMillis = -1;
+    private long sequence;
+
+    @Autowired
+    public ChatMessageIdGenerator(ChatMessageIdProperties properties, ChatMessageWorkerLease workerLease) {
+        this(System::currentTimeMillis, workerIdSource(properties, workerLease));
+    }
+
+    ChatMessageIdGenerator(LongSupplier clock, LongSupplier workerIdSource) {
+        this.clock = clock;
+        this.workerIdSource = workerIdSource;
+    }
+
+    // 설정한 번호는 운영자가 노드마다 다르게 준다고 보고 그대로 씀
+    private static LongSupplier workerIdSource(ChatMessageIdProperties properties, ChatMessageWorkerLease workerLease) {
+        Integer configured = properties.getWorkerId();
+        if (configured == null) {
+            return workerLease::workerId;
+        }
+        if (configured < 0 || configured > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("chat.message-id.worker-id must be between 0 and " + MAX_WORKER_ID);
+        }
+        log.info("채팅 메시지 id 노드 번호(설정값): {}", configured);
+        return configured::longValue;
+    }
+
+    public synchronized long nextId() {
+        // 💡 lease는 Redis가 필요한 시점(첫 메시지, 만료 임박)에만 왕복하고 평소에는 잡아 둔 번호를 바로 돌려줌
+        long workerId = Math.floorMod(workerIdSource.getAsLong(), MAX_WORKER_ID + 1);
+        long now = clock.getAsLong();
+        if (now <= lastMillis) {
+            // 시계가 뒤로 가도 마지막 시각에서 이어감. 순번이 다 차면 다음 밀리초를 미리 당겨 씀
+            now = lastMillis;
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                now++;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastMillis = now;
+        return ((now - EPOCH_MILLIS) << (WORKER_BITS + SEQUENCE_BITS)) | (workerId << SEQUENCE_BITS) | sequence;
+    }
+}
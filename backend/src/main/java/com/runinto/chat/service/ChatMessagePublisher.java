@@ -0,0 +1,25 @@
+package com.runinto.chat.service;
+
+import com.runinto.kafka.service.KafkaProducerService;
+import common.kafka.dto.ChatMessageDto;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지를 chat-messages-topic으로 발행합니다. 채팅방 ID를 키로 사용하므로 한 방의 메시지는 순서가 유지됩니다.
+ * 저장은 backend의 ChatMessagePersistenceConsumer가, 노드 간 전달은 chatConsumer의 Redis 발행이 담당합니다.
+ */
+@Component
+public class ChatMessagePublisher {
+
+    private static final String TOPIC = "chat-messages-topic";
+
+    private final KafkaProducerService kafkaProducerService;
+
+    public ChatMessagePublisher(KafkaProducerService kafkaProducerService) {
+        this.kafkaProducerService = kafkaProducerService;
+    }
+
+    public void publish(ChatMessageDto message) {
+        kafkaProducerService.send(TOPIC, String.valueOf(message.getChatroomId()), message);
+    }
+}
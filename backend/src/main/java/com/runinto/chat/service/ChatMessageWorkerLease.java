@@ -0,0 +1,126 @@
+package com.runinto.chat.service;
+
+import common.cache.CacheKeys;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 채팅 메시지 id의 노드 번호(0~1023)를 캐시 Redis에서 lease로 빌려 씁니다.
+ * 번호마다 chat-message-id:worker:<n> 키를 SET NX PX로 잡고 주기적으로 연장하므로, 살아 있는 두 노드가 같은 번호를 쓰지 않습니다.
+ * 연장하지 못한 채 lease 기간이 지나면 그 번호로는 id를 만들지 않고 새 번호를 잡습니다.
+ */
+@Slf4j
+@Component
+public class ChatMessageWorkerLease {
+
+    static final int SLOTS = ChatMessageIdGenerator.MAX_WORKER_ID + 1;
+    static final long LEASE_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    // KEYS[1]: 번호 키, ARGV[1]: 노드 토큰, ARGV[2]: lease 기간 → 아직 내 번호라 연장했으면 1
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+            "return 0", Long.class);
+
+    // KEYS[1]: 번호 키, ARGV[1]: 노드 토큰
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('DEL', KEYS[1]) end " +
+            "return 0", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final LongSupplier clock;
+    private final String token = UUID.randomUUID().toString();
+    private int workerId = -1;
+    // 이 시각까지는 Redis에서도 내 번호임이 보장됨 (요청을 보내기 전 시각 기준이라 실제 만료보다 이른 시각)
+    private long validUntil;
+
+    @Autowired
+    public ChatMessageWorkerLease(@Qualifier("cacheStringRedisTemplate") StringRedisTemplate redisTemplate) {
+        this(redisTemplate, System::currentTimeMillis);
+    }
+
+    ChatMessageWorkerLease(StringRedisTemplate redisTemplate, LongSupplier clock) {
+        this.redisTemplate = redisTemplate;
+        this.clock = clock;
+    }
+
+    /**
+     * 지금 쓸 수 있는 노드 번호. 처음 호출하거나 lease를 잃었으면 빈 번호를 새로 잡고, 빈 번호가 없으면 예외를 던집니다.
+     */
+    public synchronized long workerId() {
+        long now = clock.getAsLong();
+        if (workerId >= 0 && (now < validUntil || renew(now))) {
+            return workerId;
+        }
+        return acquire(now);
+    }
+
+    // 💡 lease 기간의 1/3마다 연장 → 한두번 실패해도 만료 전에 다시 시도
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.SECONDS)
+    public synchronized void refresh() {
+        if (workerId < 0) {
+            return;
+        }
+        try {
+            renew(clock.getAsLong());
+        } catch (DataAccessException e) {
+            log.warn("채팅 메시지 id 노드 번호 연장 실패: workerId={}, error={}", workerId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public synchronized void release() {
+        if (workerId < 0) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(CacheKeys.chatMessageWorker(workerId)), token);
+        } catch (DataAccessException e) {
+            // 반납하지 못해도 lease 기간이 지나면 풀림
+            log.warn("채팅 메시지 id 노드 번호 반납 실패: workerId={}, error={}", workerId, e.getMessage());
+        }
+        workerId = -1;
+    }
+
+    private boolean renew(long now) {
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(CacheKeys.chatMessageWorker(workerId)),
+                token, Long.toString(LEASE_MILLIS));
+        if (renewed != null && renewed == 1) {
+            validUntil = now + LEASE_MILLIS;
+            return true;
+        }
+        // 만료된 사이 다른 노드가 가져갔을 수 있으므로 이 번호는 더 쓰지 않음
+        log.warn("채팅 메시지 id 노드 번호 lease를 잃었습니다: workerId={}", workerId);
+        workerId = -1;
+        return false;
+    }
+
+    private long acquire(long now) {
+        Duration lease = Duration.ofMillis(LEASE_MILLIS);
+        for (int candidate = 0; candidate < SLOTS; candidate++) {
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(CacheKeys.chatMessageWorker(candidate), token, lease))) {
+                workerId = candidate;
+                validUntil = now + LEASE_MILLIS;
+                log.info("채팅 메시지 id 노드 번호: {}", workerId);
+                return workerId;
+            }
+        }
+        throw new IllegalStateException("No free chat message worker id: all " + SLOTS + " slots are leased");
+    }
+}
@@ -0,0 +1,107 @@
+package com.runinto.chat.service;
+
+import common.cache.CacheKeys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자가 클러스터의 어느 노드에든 연결돼 있는지 캐시 Redis에 기록합니다.
+ * chat-presence::<userId> 정렬 집합에 노드마다 (노드 id, 만료 시각)을 두고, 노드는 연결된 사용자의 항목을 주기적으로 갱신합니다.
+ * 접속은 사용자의 첫 노드가, 접속 종료는 마지막 노드가 빠질 때만 알리도록 판단하는 데 씁니다. (죽은 노드의 항목은 만료 시각이 지나면 무시)
+ */
+@Slf4j
+@Component
+public class ChatPresenceRegistry {
+
+    static final long LEASE_MILLIS = TimeUnit.SECONDS.toMillis(90);
+
+    // KEYS[1]: 사용자 키, ARGV[1]: 현재 시각, ARGV[2]: 만료 시각, ARGV[3]: 노드 id → 남은 노드 수
+    private static final RedisScript<Long> CONNECT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1]) " +
+            "redis.call('ZADD', KEYS[1], ARGV[2], ARGV[3]) " +
+            "redis.call('PEXPIRE', KEYS[1], " + LEASE_MILLIS + ") " +
+            "return redis.call('ZCARD', KEYS[1])", Long.class);
+
+    // KEYS[1]: 사용자 키, ARGV[1]: 현재 시각, ARGV[2]: 노드 id → 남은 노드 수
+    private static final RedisScript<Long> DISCONNECT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZREM', KEYS[1], ARGV[2]) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1]) " +
+            "return redis.call('ZCARD', KEYS[1])", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final LocalChatSessions sessions;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public ChatPresenceRegistry(@Qualifier("cacheStringRedisTemplate") StringRedisTemplate redisTemplate,
+                                LocalChatSessions sessions) {
+        this.redisTemplate = redisTemplate;
+        this.sessions = sessions;
+    }
+
+    /**
+     * 이 노드에 사용자의 첫 기기가 연결됐을 때 호출합니다. 다른 노드에는 연결이 없으면(처음 접속) true를 반환합니다.
+     */
+    public boolean connected(long userId) {
+        long now = System.currentTimeMillis();
+        try {
+            Long nodes = redisTemplate.execute(CONNECT_SCRIPT, List.of(CacheKeys.chatPresence(userId)),
+                    Long.toString(now), Long.toString(now + LEASE_MILLIS), nodeId);
+            return nodes == null || nodes <= 1;
+        } catch (DataAccessException e) {
+            // Redis를 못 쓰면 이 노드 기준으로만 판단
+            log.warn("접속 상태 기록 실패: userId={}, error={}", userId, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 이 노드에서 사용자의 마지막 기기가 끊겼을 때 호출합니다. 다른 노드에도 연결이 없으면(완전히 접속 종료) true를 반환합니다.
+     */
+    public boolean disconnected(long userId) {
+        try {
+            Long nodes = redisTemplate.execute(DISCONNECT_SCRIPT, List.of(CacheKeys.chatPresence(userId)),
+                    Long.toString(System.currentTimeMillis()), nodeId);
+            return nodes == null || nodes == 0;
+        } catch (DataAccessException e) {
+            log.warn("접속 상태 삭제 실패: userId={}, error={}", userId, e.getMessage());
+            return true;
+        }
+    }
+
+    // 💡 연결된 사용자의 항목 만료 시각을 한번의 파이프라인으로 미룸 (XX: 그 사이 끊겨 지워진 항목은 되살리지 않음)
+    @Scheduled(fixedDelay = 30, timeUnit = TimeUnit.SECONDS)
+    public void refresh() {
+        Set<Long> userIds = sessions.connectedUserIds();
+        if (userIds.isEmpty()) {
+            return;
+        }
+        double expiresAt = System.currentTimeMillis() + LEASE_MILLIS;
+        byte[] member = nodeId.getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long userId : userIds) {
+                    byte[] key = CacheKeys.chatPresence(userId).getBytes(StandardCharsets.UTF_8);
+                    connection.zSetCommands().zAdd(key, expiresAt, member, RedisZSetCommands.ZAddArgs.ifExists());
+                    connection.keyCommands().pExpire(key, LEASE_MILLIS);
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("접속 상태 갱신 실패: users={}, error={}", userIds.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.runinto.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.runinto.chat.dto.ChatroomMemberJoinedEvent;
+import com.runinto.chat.dto.ChatroomMemberLeftEvent;
+import common.chat.ChatChannels;
+import common.kafka.dto.ChatMessageDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 노드에 접속한 멤버가 있는 채팅방만 Redis 채널을 구독하고, 받은 메시지를 로컬 세션에 전달합니다.
+ * 방의 첫 로컬 멤버가 들어오면 구독하고 마지막 멤버가 나가면 구독을 해제합니다.
+ */
+@Slf4j
+@Component
+public class ChatRoomSubscriptionManager implements MessageListener {
+
+    private final RedisMessageListenerContainer container;
+    private final LocalChatSessions localChatSessions;
+    private final RecentChatMessages recentMessages;
+    private final ObjectMapper objectMapper;
+
+    // 구독/해제 전이를 원자적으로 처리하기 위한 락 (읽기는 락 없이 동시 집합으로)
+    private final Object lock = new Object();
+    private final Map<Long, Set<Long>> localMembersByRoom = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> roomsByUser = new ConcurrentHashMap<>();
+
+    public ChatRoomSubscriptionManager(@Qualifier("chatRedisMessageListenerContainer") RedisMessageListenerContainer container,
+                                       LocalChatSessions localChatSessions, RecentChatMessages recentMessages,
+                                       ObjectMapper objectMapper) {
+        this.container = container;
+        this.localChatSessions = localChatSessions;
+        this.recentMessages = recentMessages;
+        this.objectMapper = objectMapper;
+    }
+
+    public void userConnected(Long userId, Collection<Long> chatroomIds) {
+        synchronized (lock) {
+            // 방 목록을 읽는 사이 마지막 기기가 끊겼으면 구독하지 않음
+            if (!localChatSessions.isConnected(userId)) {
+                return;
+            }
+            for (Long chatroomId : chatroomIds) {
+                addMember(chatroomId, userId);
+            }
+        }
+    }
+
+    /**
+     * 사용자를 이 노드의 방 구독에서 빼고, 빠진 방 목록을 반환합니다. (다른 기기가 남아있으면 빈 집합)
+     */
+    public Set<Long> userDisconnected(Long userId) {
+        synchronized (lock) {
+            // 그 사이 다른 기기가 다시 연결됐으면 구독 유지
+            if (localChatSessions.isConnected(userId)) {
+                return Set.of();
+            }
+            Set<Long> rooms = roomsByUser.remove(userId);
+            if (rooms == null) {
+                return Set.of();
+            }
+            for (Long chatroomId : rooms) {
+                removeMember(chatroomId, userId);
+            }
+            return rooms;
+        }
+    }
+
+    // 접속 중에 새 방에 참여한 경우 (이 노드에 접속해 있을 때만 구독에 반영, 어느 노드에서 승인됐든 ChatMembershipRelay가 전달)
+    public void onMemberJoined(ChatroomMemberJoinedEvent event) {
+        if (!localChatSessions.isConnected(event.userId())) {
+            return;
+        }
+        synchronized (lock) {
+            addMember(event.chatroomId(), event.userId());
+        }
+    }
+
+    // 강퇴/나가기: 이 노드에 접속 중이던 사용자라면 해당 방 전달을 멈춤
+    public void onMemberLeft(ChatroomMemberLeftEvent event) {
+        synchronized (lock) {
+            Set<Long> rooms = roomsByUser.get(event.userId());
+            if (rooms == null || !rooms.remove(event.chatroomId())) {
+                return;
+            }
+            if (rooms.isEmpty()) {
+                roomsByUser.remove(event.userId());
+            }
+            removeMember(event.chatroomId(), event.userId());
+        }
+    }
+
+    public Set<Long> subscribedChatroomIds() {
+        return Set.copyOf(localMembersByRoom.keySet());
+    }
+
+    // 방에 연결된 이 노드의 세션 수 (한 사용자의 여러 기기를 모두 셈)
+    public int connectionCount(Long chatroomId) {
+        Set<Long> members = localMembersByRoom.get(chatroomId);
+        if (members == null) {
+            return 0;
+        }
+        int count = 0;
+        for (Long userId : members) {
+            count += localChatSessions.deviceCount(userId);
+        }
+        return count;
+    }
+
+    // 입력 중/읽음 신호 검증용 (접속 시 읽어둔 방 목록만 보므로 DB를 거치지 않음)
+    public boolean isLocalMember(Long chatroomId, Long userId) {
+        Set<Long> members = localMembersByRoom.get(chatroomId);
+        return members != null && members.contains(userId);
+    }
+
+    public Set<Long> localMembers(Long chatroomId) {
+        Set<Long> members = localMembersByRoom.get(chatroomId);
+        return members == null ? Set.of() : Set.copyOf(members);
+    }
+
+    private void addMember(Long chatroomId, Long userId) {
+        roomsByUser.computeIfAbsent(userId, id -> new HashSet<>()).add(chatroomId);
+        Set<Long> members = localMembersByRoom.get(chatroomId);
+        if (members == null) {
+            members = ConcurrentHashMap.newKeySet();
+            localMembersByRoom.put(chatroomId, members);
+            recentMessages.track(chatroomId);
+            container.addMessageListener(this, topics(chatroomId));
+            log.info("채팅방 구독 시작: chatroomId={}", chatroomId);
+        }
+        members.add(userId);
+    }
+
+    private void removeMember(Long chatroomId, Long userId) {
+        Set<Long> members = localMembersByRoom.get(chatroomId);
+        if (members == null) {
+            return;
+        }
+        members.remove(userId);
+        if (members.isEmpty()) {
+            localMembersByRoom.remove(chatroomId);
+            container.removeMessageListener(this, topics(chatroomId));
+            recentMessages.untrack(chatroomId);
+            log.info("채팅방 구독 해제: chatroomId={}", chatroomId);
+        }
+    }
+
+    // 채팅 메시지 채널과 신호 채널을 함께 구독/해제
+    private static List<ChannelTopic> topics(Long chatroomId) {
+        return List.of(new ChannelTopic(ChatChannels.chatroom(chatroomId)), new ChannelTopic(ChatChannels.signal(chatroomId)));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        Long chatroomId = ChatChannels.chatroomId(channel);
+        if (chatroomId == null) {
+            Long signalRoomId = ChatChannels.signalChatroomId(channel);
+            Set<Long> members = signalRoomId == null ? null : localMembersByRoom.get(signalRoomId);
+            if (members != null && !members.isEmpty()) {
+                // 💡 신호 묶음은 발행한 노드가 이미 봉투로 직렬화했으므로 그대로 전달
+                localChatSessions.broadcast(members, ChatFrames.wrap(message.getBody()));
+            }
+            return;
+        }
+        Set<Long> members = localMembersByRoom.get(chatroomId);
+        if (members == null || members.isEmpty()) {
+            return;
+        }
+
+        ChatMessageDto chatMessage;
+        try {
+            chatMessage = objectMapper.readValue(message.getBody(), ChatMessageDto.class);
+        } catch (IOException e) {
+            log.warn("채팅 메시지 역직렬화 실패: chatroomId={}, error={}", chatroomId, e.getMessage());
+            return;
+        }
+        if (chatMessage.getSenderId() == null || chatMessage.getContent() == null) {
+            log.warn("필수 필드가 없는 채팅 메시지 무시: chatroomId={}", chatroomId);
+            return;
+        }
+
+        // 💡 방 멤버 수와 관계없이 한번만 직렬화하고 같은 버퍼를 모든 수신자가 공유
+        byte[] bytes = ChatFrames.chatMessageFrame(chatMessage.getMessageId() == null ? 0L : chatMessage.getMessageId(),
+                chatroomId, chatMessage.getSenderId(), chatMessage.getContent(),
+                chatMessage.getSentAt() == null ? 0L : chatMessage.getSentAt());
+        recentMessages.mirror(chatroomId, bytes);
+        localChatSessions.broadcast(members, ChatFrames.wrap(bytes));
+    }
+}
@@ -2,21 +2,32 @@ package com.runinto.chat.service;
 
 import com.runinto.chat.domain.repository.chatroom.ChatroomH2Repository;
 import com.runinto.chat.domain.repository.chatroom.ChatroomParticipant;
+import com.runinto.chat.domain.repository.chatroom.ChatroomParticipantJPARepository;
 import com.runinto.chat.domain.repository.chatroom.ChatroomRepositoryImple;
 import com.runinto.chat.domain.repository.message.ChatMessage;
 import com.runinto.chat.domain.repository.chatroom.Chatroom;
-import com.runinto.chat.domain.repository.message.ChatMessageH2Repository;
 import com.runinto.chat.domain.repository.message.ChatMessageRepositoryImple;
+import com.runinto.chat.dto.ChatroomMemberJoinedEvent;
+import com.runinto.chat.dto.ChatroomMemberLeftEvent;
+import com.runinto.chat.dto.response.ChatMessageResponse;
+import com.runinto.chat.dto.response.ChatMessageSliceResponse;
 import com.runinto.chat.dto.response.ChatroomResponse;
+import com.runinto.chat.proto.ChatMessageProto;
 import com.runinto.event.domain.Event;
 import com.runinto.event.domain.repository.EventRepository;
+import com.runinto.exception.event.PermissionDeniedException;
 import com.runinto.user.domain.User;
+import com.google.protobuf.InvalidProtocolBufferException;
+import common.kafka.dto.ChatMessageDto;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
 
 /**
@@ -29,11 +40,24 @@ public class ChatService {
     private final ChatroomRepositoryImple chatroomRepository;
     private final ChatMessageRepositoryImple chatMessageRepository;
     private final EventRepository eventRepository;
+    private final ChatroomParticipantJPARepository chatroomParticipantRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ChatroomMembershipCache membershipCache;
+    private final RecentChatMessages recentMessages;
+    private final ChatMessageIdGenerator messageIdGenerator;
 
-    public ChatService(ChatroomH2Repository chatroomH2Repository, ChatMessageH2Repository chatMessageH2Repository, EventRepository eventH2Repository) {
+    public ChatService(ChatroomH2Repository chatroomH2Repository, ChatMessageRepositoryImple chatMessageRepository, EventRepository eventH2Repository,
+                       ChatroomParticipantJPARepository chatroomParticipantRepository, ApplicationEventPublisher applicationEventPublisher,
+                       ChatroomMembershipCache membershipCache, RecentChatMessages recentMessages,
+                       ChatMessageIdGenerator messageIdGenerator) {
         this.chatroomRepository = chatroomH2Repository;
-        this.chatMessageRepository = chatMessageH2Repository;
+        this.chatMessageRepository = chatMessageRepository;
         this.eventRepository = eventH2Repository;
+        this.chatroomParticipantRepository = chatroomParticipantRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.membershipCache = membershipCache;
+        this.recentMessages = recentMessages;
+        this.messageIdGenerator = messageIdGenerator;
     }
 
     public void clear() {
@@ -42,13 +66,14 @@ public class ChatService {
         chatMessageRepository.deleteAll();
     }
 
+    /**
+     * 접속할 때 구독할 채팅방 목록 (참여 중인 방 + 방장인 방)
+     */
     @Transactional(readOnly = true)
-    public Optional<Set<ChatroomParticipant>> findChatroomParticipantByChatroomID(Long chatroomId) {
-        return chatroomRepository.findById(chatroomId)
-                .map(chatroom -> {
-                    chatroom.getParticipants().size(); // 초기화
-                    return chatroom.getParticipants();
-                });
+    public List<Long> findChatroomIdsByUserId(Long userId) {
+        Set<Long> chatroomIds = new LinkedHashSet<>(chatroomParticipantRepository.findChatroomIdsByUserId(userId));
+        chatroomIds.addAll(chatroomRepository.findIdsByHostId(userId));
+        return new ArrayList<>(chatroomIds);
     }
 
     @Transactional
@@ -89,10 +114,146 @@ public class ChatService {
         if (chatMessage.getMessage() == null || chatMessage.getMessage().trim().isEmpty()) {
             throw new IllegalArgumentException("Message cannot be empty");
         }
+        if (chatMessage.getId() == null) {
+            chatMessage.setId(messageIdGenerator.nextId());
+        }
 
         return chatMessageRepository.save(chatMessage);
     }
 
+    /**
+     * Kafka에서 받은 메시지 묶음을 한 트랜잭션으로 저장합니다. (채팅방은 조회 없이 참조만 사용)
+     * 받을 때 붙인 id를 키로 쓰므로 재전달된 묶음에서 이미 저장된 메시지는 건너뜁니다.
+     * 그 사이 삭제된 채팅방의 메시지는 저장하지 않고 버립니다.
+     */
+    @Transactional
+    public int saveMessages(List<ChatMessageDto> messages) {
+        Set<Long> chatroomIds = new HashSet<>();
+        for (ChatMessageDto message : messages) {
+            if (message.getChatroomId() != null) {
+                chatroomIds.add(message.getChatroomId());
+            }
+        }
+        // 💡 전달 중에 방이 삭제된 메시지 하나가 FK 위반으로 배치 전체를 실패시키지 않도록 미리 걸러냄 (쿼리는 배치당 한번)
+        Set<Long> existingChatroomIds = chatroomRepository.findExistingIds(chatroomIds);
+
+        List<ChatMessage> entities = new ArrayList<>(messages.size());
+        for (ChatMessageDto message : messages) {
+            if (message.getChatroomId() == null || message.getSenderId() == null || message.getContent() == null) {
+                log.warn("필수 필드가 없는 채팅 메시지는 저장하지 않습니다: chatroomId={}", message.getChatroomId());
+                continue;
+            }
+            if (!existingChatroomIds.contains(message.getChatroomId())) {
+                log.warn("삭제된 채팅방의 메시지는 저장하지 않습니다: chatroomId={}, messageId={}",
+                        message.getChatroomId(), message.getMessageId());
+                continue;
+            }
+            long sentAt = message.getSentAt() != null ? message.getSentAt() : System.currentTimeMillis();
+            // id 없이 발행된 이전 형식의 메시지는 여기서 발급 (재전달되면 중복될 수 있음)
+            long id = message.getMessageId() != null ? message.getMessageId() : messageIdGenerator.nextId();
+            entities.add(ChatMessage.builder()
+                    .id(id)
+                    .chatroom(chatroomRepository.getReference(message.getChatroomId()))
+                    .senderId(message.getSenderId())
+                    .message(message.getContent())
+                    .sendTime(toLocalDateTime(sentAt))
+                    .build());
+        }
+        chatMessageRepository.saveAll(entities);
+        return entities.size();
+    }
+
+    /**
+     * 메시지 ID 커서 기준으로 한 페이지의 대화 기록을 조회합니다.
+     * afterId가 있으면 그 이후(새 메시지 방향), 없으면 beforeId 이전(없으면 최신)부터 과거 방향으로 읽습니다.
+     * (chatroom_id, id) 인덱스 범위만 읽으므로 방의 전체 메시지 수와 관계없이 비용이 일정합니다.
+     */
+    @Transactional(readOnly = true)
+    public ChatMessageSliceResponse getMessageHistory(Long eventId, Long userId, Long beforeId, Long afterId, int size) {
+        Chatroom chatroom = getChatroomByEventId(eventId);
+        // 방장은 채팅방 참여자로 저장되지 않으므로 따로 허용
+        Long hostId = chatroom.getEvent().getHost().getUserId();
+        if (!userId.equals(hostId) && !membershipCache.contains(chatroom.getId(), userId)) {
+            throw new PermissionDeniedException("채팅방 참여자만 대화 기록을 볼 수 있습니다.");
+        }
+
+        boolean forward = afterId != null;
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회
+        List<ChatMessageResponse> rows = forward
+                ? chatMessageRepository.findPageAfter(chatroom.getId(), afterId, size + 1)
+                : chatMessageRepository.findPageBefore(chatroom.getId(), beforeId, size + 1);
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+        Long nextCursor = hasNext ? rows.get(rows.size() - 1).getId() : null;
+
+        List<ChatMessageResponse> messages = new ArrayList<>(rows);
+        if (!forward) {
+            Collections.reverse(messages);
+        }
+        return new ChatMessageSliceResponse(messages, nextCursor, hasNext);
+    }
+
+    /**
+     * 채팅방 참여자이거나 방장이면 true (방이 없으면 false).
+     * 멤버십 캐시가 방장 ID도 함께 들고 있으므로 캐시 적재 이후에는 DB를 읽지 않습니다.
+     */
+    public boolean isMemberOrHost(Long chatroomId, Long userId) {
+        return membershipCache.contains(chatroomId, userId);
+    }
+
+    /**
+     * 방에 들어올 때 보여줄 최근 메시지 (오래된 → 최신 순).
+     * 참여자는 멤버십 캐시와 최근 메시지 버퍼만으로 응답하므로 DB를 읽지 않습니다.
+     * 각 메시지의 id는 저장될 id와 같으므로, 가장 오래된 메시지의 id를 beforeId로 넘겨 대화 기록 API로 이어서 조회하면 됩니다.
+     */
+    public List<ChatMessageResponse> getRecentMessages(Long chatroomId, Long userId) {
+        if (!membershipCache.contains(chatroomId, userId)) {
+            // 캐시에는 방장도 들어 있으므로 여기서는 방이 없는지만 구분
+            if (chatroomRepository.findHostIdById(chatroomId).isEmpty()) {
+                throw new EntityNotFoundException("Chatroom not found with id: " + chatroomId);
+            }
+            throw new PermissionDeniedException("채팅방 참여자만 대화 기록을 볼 수 있습니다.");
+        }
+
+        byte[][] frames = recentMessages.recent(chatroomId);
+        List<ChatMessageResponse> messages = new ArrayList<>(frames.length);
+        for (byte[] frame : frames) {
+            ChatMessageProto.ChatMessage message;
+            try {
+                message = ChatMessageProto.ChatEnvelope.parseFrom(frame).getMessage();
+            } catch (InvalidProtocolBufferException e) {
+                log.warn("최근 메시지 프레임 파싱 실패: chatroomId={}", chatroomId);
+                continue;
+            }
+            // 버퍼의 메시지는 아직 저장 전일 수 있지만 id는 받을 때 붙여 두었으므로 그대로 커서로 쓸 수 있음
+            // (id 없이 쌓인 이전 형식의 프레임은 0 → null)
+            messages.add(ChatMessageResponse.builder()
+                    .id(message.getMessageId() != 0 ? message.getMessageId() : null)
+                    .chatRoomId(message.getChatRoomId())
+                    .senderId(message.getSenderId())
+                    .message(message.getMessage())
+                    .sendTime(toLocalDateTime(message.getSentAt()))
+                    .build());
+        }
+        // 버퍼 추가는 노드마다 따로 일어나 순서가 살짝 어긋날 수 있으므로 대화 기록과 같은 id 순서로 맞춤
+        messages.sort(Comparator.comparing(ChatMessageResponse::getId, Comparator.nullsFirst(Comparator.naturalOrder())));
+        // 미러를 다시 읽는 사이 같은 프레임이 두번 들어갔을 수 있으므로 같은 id는 하나만 남김
+        List<ChatMessageResponse> distinct = new ArrayList<>(messages.size());
+        for (ChatMessageResponse message : messages) {
+            ChatMessageResponse previous = distinct.isEmpty() ? null : distinct.get(distinct.size() - 1);
+            if (message.getId() == null || previous == null || !message.getId().equals(previous.getId())) {
+                distinct.add(message);
+            }
+        }
+        return distinct;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
     @Transactional
     public void deleteChatroom(Long chatroomId) {
         log.info("Deleting chatroom with ID: {}", chatroomId);
@@ -131,6 +292,8 @@ public class ChatService {
 
         chatroom.getParticipants().add(participant);
         chatroomRepository.save(chatroom);
+        // 커밋 이후 멤버십 캐시와 방 구독에 반영
+        applicationEventPublisher.publishEvent(new ChatroomMemberJoinedEvent(chatroom.getId(), user.getUserId()));
     }
 
     @Transactional
@@ -142,8 +305,11 @@ public class ChatService {
 
         chatroom.getParticipants()
                 .removeIf(participant -> participant.getUser().getUserId().equals(userId));
+        // 컬렉션에서 빼는 것만으로는 행이 지워지지 않으므로(orphanRemoval 없음) 직접 삭제
+        chatroomParticipantRepository.deleteByChatroomIdAndUserId(chatroom.getId(), userId);
 
         chatroomRepository.save(chatroom);
+        applicationEventPublisher.publishEvent(new ChatroomMemberLeftEvent(chatroom.getId(), userId));
     }
 
     public List<ChatroomResponse> getAllChatrooms() {
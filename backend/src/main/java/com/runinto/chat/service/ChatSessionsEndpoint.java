@@ -0,0 +1,51 @@
+package com.runinto.chat.service;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 이 노드의 채팅 연결 상태를 보는 actuator 엔드포인트 (/actuator/chatsessions).
+ * 방/사용자별 값은 태그로 만들면 시계열이 방·사용자 수만큼 늘어나므로 게이지 대신 필요할 때 조회합니다.
+ * - /actuator/chatsessions: 노드 전체 연결 수, 사용자 수, 구독 중인 방 수
+ * - /actuator/chatsessions/rooms/{chatroomId}: 방에 연결된 이 노드의 세션 수
+ * - /actuator/chatsessions/users/{userId}: 사용자의 기기 수와 가장 깊은 미전송 큐
+ */
+@Component
+@Endpoint(id = "chatsessions")
+public class ChatSessionsEndpoint {
+
+    private final LocalChatSessions localChatSessions;
+    private final ChatRoomSubscriptionManager subscriptionManager;
+
+    public ChatSessionsEndpoint(LocalChatSessions localChatSessions, ChatRoomSubscriptionManager subscriptionManager) {
+        this.localChatSessions = localChatSessions;
+        this.subscriptionManager = subscriptionManager;
+    }
+
+    @ReadOperation
+    public Map<String, Object> summary() {
+        return Map.of(
+                "connections", localChatSessions.connectionCount(),
+                "users", localChatSessions.connectedUserIds().size(),
+                "subscribedRooms", subscriptionManager.subscribedChatroomIds().size());
+    }
+
+    // 알 수 없는 scope면 null → 404
+    @ReadOperation
+    public Map<String, Object> detail(@Selector String scope, @Selector Long id) {
+        return switch (scope) {
+            case "rooms" -> Map.of(
+                    "chatroomId", id,
+                    "connections", subscriptionManager.connectionCount(id));
+            case "users" -> Map.of(
+                    "userId", id,
+                    "devices", localChatSessions.deviceCount(id),
+                    "queueDepth", localChatSessions.queueDepth(id));
+            default -> null;
+        };
+    }
+}
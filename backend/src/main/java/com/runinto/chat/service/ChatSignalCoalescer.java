@@ -0,0 +1,129 @@
+package com.runinto.chat.service;
+
+import com.runinto.chat.proto.ChatMessageProto;
+import common.chat.ChatChannels;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 입력 중/읽음/접속 신호를 방·사용자·종류별로 마지막 값만 모아 두었다가 주기마다 방별 한 프레임(SignalBatch)으로 발행합니다.
+ * 한 주기 안에서는 사용자당 방마다 종류별로 최대 한 건만 나가므로, 입력 이벤트가 많아도 브로드캐스트 수는 방 수 × 주기로 묶입니다.
+ * 신호는 DB/Kafka를 거치지 않고 캐시용 Redis의 chatroom-signal:<id> 채널로 노드끼리 바로 주고받습니다.
+ */
+@Slf4j
+@Component
+public class ChatSignalCoalescer {
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 채팅방 ID → (사용자, 종류) → 마지막 신호. 안쪽 맵은 compute 안에서만 바꾸므로 일반 HashMap
+    private final ConcurrentHashMap<Long, Map<SignalKey, ChatMessageProto.ChatEnvelope>> pending = new ConcurrentHashMap<>();
+
+    public ChatSignalCoalescer(@Qualifier("cacheStringRedisTemplate") StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public void typing(long chatroomId, long userId, boolean typing) {
+        offer(chatroomId, userId, ChatMessageProto.ChatEnvelope.PayloadCase.TYPING, ChatMessageProto.ChatEnvelope.newBuilder()
+                .setTyping(ChatMessageProto.Typing.newBuilder()
+                        .setChatRoomId(chatroomId)
+                        .setUserId(userId)
+                        .setTyping(typing))
+                .build());
+    }
+
+    public void readUpTo(long chatroomId, long userId, long messageId) {
+        ChatMessageProto.ChatEnvelope signal = ChatMessageProto.ChatEnvelope.newBuilder()
+                .setReadUpTo(ChatMessageProto.ReadUpTo.newBuilder()
+                        .setChatRoomId(chatroomId)
+                        .setUserId(userId)
+                        .setMessageId(messageId))
+                .build();
+        // 읽음 위치는 뒤로 가지 않음 (늦게 도착한 작은 값은 무시)
+        // id는 받은 노드가 붙인 시각 기반 id(ChatMessageIdGenerator)라 방 안에서 클수록 나중 메시지
+        pending.compute(chatroomId, (id, signals) -> {
+            Map<SignalKey, ChatMessageProto.ChatEnvelope> next = signals != null ? signals : new HashMap<>();
+            next.merge(new SignalKey(userId, ChatMessageProto.ChatEnvelope.PayloadCase.READ_UP_TO), signal,
+                    (previous, current) -> previous.getReadUpTo().getMessageId() >= messageId ? previous : current);
+            return next;
+        });
+    }
+
+    // 접속 상태는 사용자가 속한 방마다 하나씩
+    public void presence(Collection<Long> chatroomIds, long userId, boolean online) {
+        for (Long chatroomId : chatroomIds) {
+            offer(chatroomId, userId, ChatMessageProto.ChatEnvelope.PayloadCase.PRESENCE, ChatMessageProto.ChatEnvelope.newBuilder()
+                    .setPresence(ChatMessageProto.Presence.newBuilder()
+                            .setChatRoomId(chatroomId)
+                            .setUserId(userId)
+                            .setOnline(online))
+                    .build());
+        }
+    }
+
+    private void offer(long chatroomId, long userId, ChatMessageProto.ChatEnvelope.PayloadCase kind,
+                       ChatMessageProto.ChatEnvelope signal) {
+        pending.compute(chatroomId, (id, signals) -> {
+            Map<SignalKey, ChatMessageProto.ChatEnvelope> next = signals != null ? signals : new HashMap<>();
+            next.put(new SignalKey(userId, kind), signal);
+            return next;
+        });
+    }
+
+    /**
+     * 모인 신호를 방별 SignalBatch 하나로 묶어 한번의 파이프라인으로 발행합니다.
+     */
+    @Scheduled(fixedDelayString = "${chat.signal.flush-interval:500ms}")
+    public void flush() {
+        List<byte[]> channels = new ArrayList<>();
+        List<byte[]> frames = new ArrayList<>();
+        for (Long chatroomId : pending.keySet()) {
+            // remove와 compute는 같은 키에서 원자적이라, 꺼낸 뒤 들어온 신호는 다음 주기 맵으로 감
+            Map<SignalKey, ChatMessageProto.ChatEnvelope> signals = pending.remove(chatroomId);
+            if (signals == null || signals.isEmpty()) {
+                continue;
+            }
+            channels.add(ChatChannels.signal(chatroomId).getBytes(StandardCharsets.UTF_8));
+            frames.add(ChatMessageProto.ChatEnvelope.newBuilder()
+                    .setSignals(ChatMessageProto.SignalBatch.newBuilder()
+                            .setChatRoomId(chatroomId)
+                            .addAllSignals(signals.values()))
+                    .build()
+                    .toByteArray());
+        }
+        if (frames.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int i = 0; i < frames.size(); i++) {
+                    connection.publish(channels.get(i), frames.get(i));
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            // 신호는 다음 상태로 곧 덮이므로 재시도하지 않음
+            log.warn("채팅 신호 발행 실패: rooms={}, error={}", frames.size(), e.getMessage());
+        }
+    }
+
+    int pendingRooms() {
+        return pending.size();
+    }
+
+    private record SignalKey(long userId, ChatMessageProto.ChatEnvelope.PayloadCase kind) {
+    }
+}
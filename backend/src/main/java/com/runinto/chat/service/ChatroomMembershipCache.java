@@ -0,0 +1,138 @@
+package com.runinto.chat.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.runinto.chat.domain.repository.chatroom.ChatroomJpaRepository;
+import com.runinto.chat.domain.repository.chatroom.ChatroomParticipantJPARepository;
+import com.runinto.chat.dto.ChatroomMemberJoinedEvent;
+import com.runinto.chat.dto.ChatroomMemberLeftEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 채팅방별 참여자 ID를 정렬된 long[]로, 방장 ID는 그 옆에 들고 있는 멤버십 캐시.
+ * 방장은 채팅방 참여자로 저장되지 않으므로 함께 적재해 두어 방장 확인도 DB 없이 처리합니다.
+ * 항목은 교체만 하고 수정하지 않으므로(copy-on-write) 읽기는 락 없이 처리됩니다.
+ * 처음 조회할 때만 DB에서 읽고, 이후에는 ChatMembershipRelay가 모든 노드에 전달하는 참여/강퇴 변경으로 갱신합니다.
+ */
+@Slf4j
+@Component
+public class ChatroomMembershipCache {
+
+    private static final long[] EMPTY = new long[0];
+    // 방이 없을 때의 방장 ID (사용자 ID와 겹치지 않는 값)
+    static final long NO_HOST = -1L;
+
+    /**
+     * 방장 ID와 정렬된 참여자 ID 배열. 호출자는 배열을 수정하면 안 됩니다.
+     */
+    public record Members(long hostId, long[] participants) {
+
+        public boolean contains(long userId) {
+            return userId == hostId || Arrays.binarySearch(participants, userId) >= 0;
+        }
+    }
+
+    private final Cache<Long, Members> cache;
+    private final ChatroomParticipantJPARepository chatroomParticipantRepository;
+    private final ChatroomJpaRepository chatroomRepository;
+
+    public ChatroomMembershipCache(@Qualifier("chatroomMembershipNearCache") Cache<Long, Members> cache,
+                                   ChatroomParticipantJPARepository chatroomParticipantRepository,
+                                   ChatroomJpaRepository chatroomRepository) {
+        this.cache = cache;
+        this.chatroomParticipantRepository = chatroomParticipantRepository;
+        this.chatroomRepository = chatroomRepository;
+    }
+
+    /**
+     * 정렬된 참여자 ID 배열 (방장 제외). 호출자는 배열을 수정하면 안 됩니다.
+     */
+    public long[] members(long chatroomId) {
+        return entry(chatroomId).participants();
+    }
+
+    /**
+     * 참여자이거나 방장이면 true
+     */
+    public boolean contains(long chatroomId, long userId) {
+        return entry(chatroomId).contains(userId);
+    }
+
+    public boolean isEmpty(long chatroomId) {
+        return members(chatroomId).length == 0;
+    }
+
+    // 캐시에 올라와 있는 방만 갱신 (없으면 다음 조회 때 DB에서 최신 상태를 읽음)
+    public void add(long chatroomId, long userId) {
+        cache.asMap().computeIfPresent(chatroomId,
+                (id, members) -> new Members(members.hostId(), with(members.participants(), userId)));
+    }
+
+    public void remove(long chatroomId, long userId) {
+        cache.asMap().computeIfPresent(chatroomId,
+                (id, members) -> new Members(members.hostId(), without(members.participants(), userId)));
+    }
+
+    public void evict(long chatroomId) {
+        cache.invalidate(chatroomId);
+    }
+
+    public void onMemberJoined(ChatroomMemberJoinedEvent event) {
+        add(event.chatroomId(), event.userId());
+    }
+
+    public void onMemberLeft(ChatroomMemberLeftEvent event) {
+        remove(event.chatroomId(), event.userId());
+    }
+
+    private Members entry(long chatroomId) {
+        return cache.get(chatroomId, this::load);
+    }
+
+    private Members load(Long chatroomId) {
+        long hostId = chatroomRepository.findHostIdById(chatroomId).orElse(NO_HOST);
+        List<Long> userIds = chatroomParticipantRepository.findUserIdsByChatroomId(chatroomId);
+        if (userIds.isEmpty()) {
+            return new Members(hostId, EMPTY);
+        }
+        long[] members = new long[userIds.size()];
+        int size = 0;
+        for (Long userId : userIds) {
+            members[size++] = userId;
+        }
+        Arrays.sort(members);
+        log.debug("채팅방 멤버십 적재: chatroomId={}, hostId={}, members={}", chatroomId, hostId, size);
+        return new Members(hostId, members);
+    }
+
+    static long[] with(long[] members, long userId) {
+        int index = Arrays.binarySearch(members, userId);
+        if (index >= 0) {
+            return members;
+        }
+        int insertAt = -index - 1;
+        long[] next = new long[members.length + 1];
+        System.arraycopy(members, 0, next, 0, insertAt);
+        next[insertAt] = userId;
+        System.arraycopy(members, insertAt, next, insertAt + 1, members.length - insertAt);
+        return next;
+    }
+
+    static long[] without(long[] members, long userId) {
+        int index = Arrays.binarySearch(members, userId);
+        if (index < 0) {
+            return members;
+        }
+        if (members.length == 1) {
+            return EMPTY;
+        }
+        long[] next = new long[members.length - 1];
+        System.arraycopy(members, 0, next, 0, index);
+        System.arraycopy(members, index + 1, next, index, members.length - index - 1);
+        return next;
+    }
+}
@@ -1,27 +1,49 @@
 package com.runinto.chat.service;
 
-import com.runinto.chat.domain.repository.chatroom.ChatroomParticipant;
 import com.runinto.chat.proto.ChatMessageProto;
+import common.kafka.dto.ChatMessageDto;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.BinaryWebSocketHandler;
-import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
 public class CustomWebSocketHandler extends BinaryWebSocketHandler {
-    private final Map<Long, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    private final LocalChatSessions sessions;
     private final ChatService chatService;
-
-    public CustomWebSocketHandler(ChatService chatService) {
+    private final ChatRoomSubscriptionManager subscriptionManager;
+    private final ChatMessagePublisher chatMessagePublisher;
+    private final RecentChatMessages recentMessages;
+    private final ChatSignalCoalescer signalCoalescer;
+    private final ChatMessageIdGenerator messageIdGenerator;
+    private final ChatPresenceRegistry presenceRegistry;
+
+    // 💡 id 발급과 Kafka 전송을 방 단위로 묶어, 이 노드에서 받은 메시지는 방 안에서 id 순서 = 토픽 순서가 되도록 함
+    private static final int PUBLISH_LOCK_STRIPES = 64;
+    private final Object[] publishLocks = new Object[PUBLISH_LOCK_STRIPES];
+
+    public CustomWebSocketHandler(LocalChatSessions sessions, ChatService chatService,
+                                  ChatRoomSubscriptionManager subscriptionManager, ChatMessagePublisher chatMessagePublisher,
+                                  RecentChatMessages recentMessages,
+                                  ChatSignalCoalescer signalCoalescer, ChatMessageIdGenerator messageIdGenerator,
+                                  ChatPresenceRegistry presenceRegistry) {
+        this.sessions = sessions;
         this.chatService = chatService;
+        this.subscriptionManager = subscriptionManager;
+        this.chatMessagePublisher = chatMessagePublisher;
+        this.recentMessages = recentMessages;
+        this.signalCoalescer = signalCoalescer;
+        this.messageIdGenerator = messageIdGenerator;
+        this.presenceRegistry = presenceRegistry;
+        for (int i = 0; i < PUBLISH_LOCK_STRIPES; i++) {
+            publishLocks[i] = new Object();
+        }
     }
 
     @Override // 웹 소켓 연결시
@@ -33,8 +55,17 @@ public class CustomWebSocketHandler extends BinaryWebSocketHandler {
         if (userIdString != null && !userIdString.isEmpty()) {
             try {
                 Long userId = Long.parseLong(userIdString);
-                sessions.put(userId, session);
-                log.info("[연결됨] sessionId={}, userId={}", sessionId, userId);
+                // 💡 같은 사용자의 다른 탭/기기 세션은 교체하지 않고 함께 보관
+                if (sessions.register(userId, session)) {
+                    // 이 노드에 처음 연결된 기기일 때만 사용자가 속한 방을 구독
+                    List<Long> chatroomIds = chatService.findChatroomIdsByUserId(userId);
+                    subscriptionManager.userConnected(userId, chatroomIds);
+                    // 💡 접속 상태는 다른 노드에 연결이 없을 때(클러스터 전체에서 처음)만 알림
+                    if (presenceRegistry.connected(userId)) {
+                        signalCoalescer.presence(chatroomIds, userId, true);
+                    }
+                }
+                log.info("[연결됨] sessionId={}, userId={}, devices={}", sessionId, userId, sessions.deviceCount(userId));
 
                 // 세션 속성에 명시적으로 저장
                 session.getAttributes().put("sessionId", sessionId);
@@ -60,20 +91,41 @@ public class CustomWebSocketHandler extends BinaryWebSocketHandler {
         Long authenticatedUserId = Long.parseLong(authenticatedUserIdString);
 
 
+        // Protobuf 역직렬화 (중간 byte[] 복사 없이 수신 버퍼에서 바로 읽음)
         ByteBuffer byteBuffer = message.getPayload();
-        byte[] bytes = new byte[byteBuffer.remaining()];
-        byteBuffer.get(bytes); // ByteBuffer에서 byte[] 추출
-
-        // Protobuf 역직렬화
-        ChatMessageProto.ChatMessage chatMessageProto;
+        ChatMessageProto.ChatEnvelope envelope;
         try {
-            chatMessageProto = ChatMessageProto.ChatMessage.parseFrom(bytes);
+            envelope = ChatMessageProto.ChatEnvelope.parseFrom(byteBuffer);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
             log.warn("잘못된 Protobuf 메시지 수신: {}. 세션 ID: {}", e.getMessage(), session.getId());
             session.close(CloseStatus.BAD_DATA.withReason("Invalid Protobuf message"));
             return;
         }
 
+        // 💡 입력 중/읽음은 DB/Kafka를 거치지 않고 모아서 주기마다 방별 한 프레임으로 발행
+        switch (envelope.getPayloadCase()) {
+            case MESSAGE -> handleChatMessage(session, authenticatedUserId, envelope.getMessage());
+            case TYPING -> {
+                ChatMessageProto.Typing typing = envelope.getTyping();
+                if (subscriptionManager.isLocalMember(typing.getChatRoomId(), authenticatedUserId)) {
+                    signalCoalescer.typing(typing.getChatRoomId(), authenticatedUserId, typing.getTyping());
+                }
+            }
+            case READ_UP_TO -> {
+                ChatMessageProto.ReadUpTo readUpTo = envelope.getReadUpTo();
+                // message_id는 서버가 받을 때 붙인 id (실시간 프레임/대화 기록의 id)
+                if (readUpTo.getMessageId() > 0
+                        && subscriptionManager.isLocalMember(readUpTo.getChatRoomId(), authenticatedUserId)) {
+                    signalCoalescer.readUpTo(readUpTo.getChatRoomId(), authenticatedUserId, readUpTo.getMessageId());
+                }
+            }
+            // 접속 상태와 신호 묶음은 서버만 보냄
+            default -> log.debug("처리하지 않는 프레임 무시: userId={}, payload={}", authenticatedUserId, envelope.getPayloadCase());
+        }
+    }
+
+    private void handleChatMessage(WebSocketSession session, Long authenticatedUserId,
+                                   ChatMessageProto.ChatMessage chatMessageProto) throws Exception {
         // Protobuf 객체에서 데이터 추출 (getChatRoomId()는 long 반환)
         long chatroomId = chatMessageProto.getChatRoomId();
         long senderId = chatMessageProto.getSenderId();
@@ -87,49 +139,41 @@ public class CustomWebSocketHandler extends BinaryWebSocketHandler {
         }
 
 
-        log.info("[Protobuf 메시지 수신] userId={}, chatroomId={}, message={}", senderId, chatroomId, content);
+        // 메시지마다 찍히므로 내용은 남기지 않고 DEBUG로만 기록
+        log.debug("[Protobuf 메시지 수신] userId={}, chatroomId={}, length={}", senderId, chatroomId, content.length());
 
-        Set<ChatroomParticipant> participants = chatService.findChatroomParticipantByChatroomID(chatroomId).orElse(null);
-        log.info("참여자 수 {}", participants == null ? 0 : participants.size() );
-        if(participants == null || participants.isEmpty()) {
-            log.warn("채팅방 ID {}에 참여자가 없습니다.", chatroomId);
+        // 💡 보낸 사람이 이 방의 참여자(또는 방장)인지 메모리 캐시에서 확인 (방마다 처음 한번만 DB 조회)
+        if (!chatService.isMemberOrHost(chatroomId, senderId)) {
+            log.warn("채팅방 참여자가 아닌 사용자의 메시지를 무시합니다: chatroomId={}, userId={}", chatroomId, senderId);
             return;
         }
 
-        for (ChatroomParticipant participant : participants) {
-            Long participantUserId = participant.getId(); // 실제 유저 ID를 가져오는지 확인 필요
-            WebSocketSession participantSession = sessions.get(participantUserId);
-
-            if (participantSession != null && participantSession.isOpen()) {
-                try {
-                    // Protobuf 메시지 객체 생성 (응답용)
-                    ChatMessageProto.ChatMessage messageToSendProto = ChatMessageProto.ChatMessage.newBuilder()
-                            .setChatRoomId(chatroomId)
-                            .setSenderId(senderId)
-                            .setMessage(content)
-                            .build();
-
-                    // Protobuf 객체를 byte[]로 직렬화
-                    byte[] outputBytes = messageToSendProto.toByteArray();
-                    participantSession.sendMessage(new BinaryMessage(outputBytes));
-                    log.info("[Protobuf 메시지 전송 완료] toParticipantId={}, message={}", participantUserId, content);
-                } catch (IOException e) {
-                    log.warn("메시지 전송 실패: toParticipantId={}, error={}", participantUserId, e.getMessage());
-                }
-            } else {
-                log.warn("참여자 {}의 세션이 존재하지 않거나 닫혀있습니다. 메시지 전송 스킵.", participantUserId);
-            }
+        long sentAt = System.currentTimeMillis();
+        long messageId;
+        // 💡 로컬 세션에 직접 보내지 않고 Kafka로 발행 → 저장은 배치로, 전달은 chatConsumer → Redis 채널 → 각 노드
+        // 받을 때 붙인 id가 저장 키가 되므로 Kafka가 같은 메시지를 다시 전달해도 한번만 저장됨 (전송은 비동기라 락은 짧음)
+        synchronized (publishLocks[(int) Math.floorMod(chatroomId, (long) PUBLISH_LOCK_STRIPES)]) {
+            messageId = messageIdGenerator.nextId();
+            chatMessagePublisher.publish(ChatMessageDto.builder()
+                    .messageId(messageId)
+                    .chatroomId(chatroomId)
+                    .senderId(senderId)
+                    .content(content)
+                    .sentAt(sentAt)
+                    .build());
         }
+
+        // 💡 방에 들어올 때 DB 없이 보여줄 최근 N개 (메시지를 받은 노드 한 곳에서만 추가)
+        recentMessages.append(chatroomId, ChatFrames.chatMessageFrame(messageId, chatroomId, senderId, content, sentAt));
     }
 
 
     @Override // 웹소켓 통신 에러시
     public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
         log.error("웹소켓 통신 오류 발생: sessionId={}, error={}", session.getId(), exception.getMessage(), exception);
-        session.getAttributes().get("userId");
         String userId = (String) session.getAttributes().get("userId");
         if (userId != null) {
-            sessions.remove(Long.parseLong(userId));
+            removeSession(Long.parseLong(userId), session);
             log.info("오류 발생으로 세션 제거: userId={}", userId);
         }
         super.handleTransportError(session, exception);
@@ -144,15 +188,9 @@ public class CustomWebSocketHandler extends BinaryWebSocketHandler {
         if (userIdString != null && !userIdString.isEmpty()) {
             try {
                 Long userId = Long.parseLong(userIdString);
-                // 연결 종료 시, 해당 사용자의 세션이 현재 세션과 동일한 경우에만 제거
-                WebSocketSession storedSession = sessions.get(userId);
-                if (storedSession != null && storedSession.getId().equals(sessionId)) {
-                    sessions.remove(userId);
-                    log.info("[연결 종료] sessionId={}, userId={}, status={}", sessionId, userId, status);
-                } else {
-                    log.info("[연결 종료 - 세션 불일치 또는 없음] sessionId={}, userId={}, status={}. 저장된 세션 ID: {}",
-                             sessionId, userId, status, storedSession != null ? storedSession.getId() : "null");
-                }
+                removeSession(userId, session);
+                log.info("[연결 종료] sessionId={}, userId={}, status={}, devices={}",
+                        sessionId, userId, status, sessions.deviceCount(userId));
             } catch (NumberFormatException e) {
                 log.warn("연결 종료 처리 중 userId 파싱 실패: {}. SessionId: {}", userIdString, sessionId, e);
             }
@@ -161,4 +199,15 @@ public class CustomWebSocketHandler extends BinaryWebSocketHandler {
         }
         super.afterConnectionClosed(session, status);
     }
-}
\ No newline at end of file
+
+    // 이 세션만 제거하고, 사용자의 마지막 기기였으면 방 구독에서 뺌
+    // 접속 종료는 다른 노드에도 남은 기기가 없을 때만 알림
+    private void removeSession(Long userId, WebSocketSession session) {
+        if (sessions.unregister(userId, session)) {
+            Set<Long> chatroomIds = subscriptionManager.userDisconnected(userId);
+            if (presenceRegistry.disconnected(userId)) {
+                signalCoalescer.presence(chatroomIds, userId, false);
+            }
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.runinto.chat.service;
+
+import com.runinto.config.properties.ChatSessionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이 노드에 연결된 사용자별 웹소켓 세션 (탭/기기마다 세션이 따로 있음).
+ * 세션은 전송 큐(QueuedWebSocketSession)로 감싸서 보관하므로 send/broadcast는 소켓 쓰기를 기다리지 않습니다.
+ */
+@Slf4j
+@Component
+public class LocalChatSessions {
+
+    private static final QueuedWebSocketSession[] NO_SESSIONS = new QueuedWebSocketSession[0];
+
+    // 사용자 ID → 기기별 세션 배열. 배열은 교체만 하므로(copy-on-write) 전달 경로의 읽기는 락이 없음
+    private final Map<Long, QueuedWebSocketSession[]> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    // 세션 큐를 비우는 전송 풀 (큐가 쌓인 세션만 세션당 하나의 작업으로 올라옴)
+    private final Executor sendExecutor;
+    // 느린 클라이언트 연결 종료 전용 (전송 풀이 멈춘 전송으로 가득 차도 종료는 진행됨)
+    private final Executor closeExecutor;
+    private final ChatSessionProperties properties;
+    private final QueuedWebSocketSession.SendQueueMetrics metrics;
+
+    @Autowired
+    public LocalChatSessions(ChatSessionProperties properties, MeterRegistry meterRegistry) {
+        this(sendPool(properties.getSenderThreads()),
+                Executors.newSingleThreadExecutor(new CustomizableThreadFactory("chat-close-")), properties, meterRegistry);
+    }
+
+    LocalChatSessions(Executor sendExecutor, Executor closeExecutor, ChatSessionProperties properties,
+                      MeterRegistry meterRegistry) {
+        this.sendExecutor = sendExecutor;
+        this.closeExecutor = closeExecutor;
+        this.properties = properties;
+        this.metrics = new MicrometerSendQueueMetrics(meterRegistry);
+        Gauge.builder("chat.session.connected", connectionCount, AtomicInteger::get)
+                .description("이 노드에 연결된 웹소켓 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.session.users", sessions, Map::size)
+                .description("이 노드에 세션이 하나 이상 있는 사용자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자의 기기 세션을 추가합니다. 이 사용자의 첫 세션이면 true를 반환합니다.
+     */
+    public boolean register(Long userId, WebSocketSession session) {
+        QueuedWebSocketSession queued = new QueuedWebSocketSession(session, sendExecutor, closeExecutor,
+                properties.getBufferSizeLimit(), properties.getSendTimeLimit().toMillis(),
+                properties.getSlowConsumerPolicy(), metrics);
+        QueuedWebSocketSession[] updated = sessions.merge(userId, new QueuedWebSocketSession[]{queued},
+                (current, added) -> append(current, added[0]));
+        connectionCount.incrementAndGet();
+        return updated.length == 1;
+    }
+
+    /**
+     * 사용자의 기기 세션 하나를 제거합니다. 이 세션이 사용자의 마지막 세션이었으면 true를 반환합니다.
+     */
+    public boolean unregister(Long userId, WebSocketSession session) {
+        QueuedWebSocketSession[] removed = new QueuedWebSocketSession[1];
+        QueuedWebSocketSession[] remaining = sessions.computeIfPresent(userId, (id, current) -> {
+            int index = indexOf(current, session);
+            if (index < 0) {
+                return current;
+            }
+            removed[0] = current[index];
+            return current.length == 1 ? null : without(current, index);
+        });
+        if (removed[0] == null) {
+            return false;
+        }
+        connectionCount.decrementAndGet();
+        // 닫힌 세션으로 보내려던 메시지는 버림
+        removed[0].discard();
+        return remaining == null;
+    }
+
+    public boolean isConnected(Long userId) {
+        for (QueuedWebSocketSession session : sessions.getOrDefault(userId, NO_SESSIONS)) {
+            if (session.isOpen()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 세션이 하나 이상 있는 사용자 (읽기 전용 뷰)
+    public Set<Long> connectedUserIds() {
+        return Collections.unmodifiableSet(sessions.keySet());
+    }
+
+    public int connectionCount() {
+        return connectionCount.get();
+    }
+
+    public int deviceCount(Long userId) {
+        return sessions.getOrDefault(userId, NO_SESSIONS).length;
+    }
+
+    // 사용자의 기기 세션 중 가장 깊은 미전송 큐 (연결이 없으면 0)
+    public int queueDepth(Long userId) {
+        int depth = 0;
+        for (QueuedWebSocketSession session : sessions.getOrDefault(userId, NO_SESSIONS)) {
+            depth = Math.max(depth, session.getQueueDepth());
+        }
+        return depth;
+    }
+
+    /**
+     * ChatFrames.encode로 만든 프레임 하나를 여러 사용자의 모든 기기에 보냅니다. 프레임은 다시 직렬화하거나 복사하지 않습니다.
+     * 전달한 세션 수를 반환합니다.
+     */
+    public int broadcast(Collection<Long> userIds, ByteBuffer frame) {
+        int delivered = 0;
+        for (Long userId : userIds) {
+            for (QueuedWebSocketSession session : sessions.getOrDefault(userId, NO_SESSIONS)) {
+                if (session.isOpen()) {
+                    session.sendMessage(ChatFrames.message(frame));
+                    delivered++;
+                }
+            }
+        }
+        return delivered;
+    }
+
+    // 💡 고정 크기 풀은 전송이 멈춘 세션 N개가 스레드 N개를 모두 잡으면 노드 전체 전달이 멈춤
+    // → 평소에는 senderThreads개를 유지하고, 모자라면 스레드를 새로 만들어 다른 세션의 전송을 계속 진행 (쉬는 스레드는 1분 뒤 정리)
+    static ExecutorService sendPool(int coreThreads) {
+        return new ThreadPoolExecutor(coreThreads, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                new CustomizableThreadFactory("chat-send-"));
+    }
+
+    // 새 메시지가 없어 큐에서 감지되지 않는 멈춘 전송도 전송 시간 한도가 지나면 끊음
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.SECONDS)
+    public void closeStalled() {
+        for (QueuedWebSocketSession[] userSessions : sessions.values()) {
+            for (QueuedWebSocketSession session : userSessions) {
+                session.closeIfStalled();
+            }
+        }
+    }
+
+    private static QueuedWebSocketSession[] append(QueuedWebSocketSession[] current, QueuedWebSocketSession added) {
+        QueuedWebSocketSession[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = added;
+        return next;
+    }
+
+    private static QueuedWebSocketSession[] without(QueuedWebSocketSession[] current, int index) {
+        QueuedWebSocketSession[] next = new QueuedWebSocketSession[current.length - 1];
+        System.arraycopy(current, 0, next, 0, index);
+        System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+        return next;
+    }
+
+    private static int indexOf(QueuedWebSocketSession[] sessions, WebSocketSession session) {
+        for (int i = 0; i < sessions.length; i++) {
+            if (sessions[i].getDelegate() == session) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sendExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+        if (closeExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static final class MicrometerSendQueueMetrics implements QueuedWebSocketSession.SendQueueMetrics {
+        private final AtomicLong pending = new AtomicLong();
+        private final DistributionSummary queueDepth;
+        private final Counter dropped;
+        private final Counter disconnected;
+
+        private MicrometerSendQueueMetrics(MeterRegistry meterRegistry) {
+            Gauge.builder("chat.session.queue.pending", pending, AtomicLong::get)
+                    .description("모든 세션 큐에 남아있는 메시지 수")
+                    .register(meterRegistry);
+            // 세션 ID 태그는 카디널리티가 너무 커서, 메시지를 넣을 때 본 세션 큐 깊이를 분포로 기록
+            this.queueDepth = DistributionSummary.builder("chat.session.queue.depth")
+                    .description("메시지를 넣은 시점의 세션별 큐 깊이")
+                    .register(meterRegistry);
+            this.dropped = Counter.builder("chat.session.dropped")
+                    .description("느린 클라이언트라서 버린 메시지 수")
+                    .register(meterRegistry);
+            this.disconnected = Counter.builder("chat.session.disconnected")
+                    .description("느린 클라이언트라서 끊은 연결 수")
+                    .register(meterRegistry);
+        }
+
+        @Override
+        public void enqueued(int depth) {
+            pending.incrementAndGet();
+            queueDepth.record(depth);
+        }
+
+        @Override
+        public void sent(int depth) {
+            pending.decrementAndGet();
+        }
+
+        @Override
+        public void dropped() {
+            dropped.increment();
+        }
+
+        @Override
+        public void disconnected() {
+            disconnected.increment();
+        }
+    }
+}
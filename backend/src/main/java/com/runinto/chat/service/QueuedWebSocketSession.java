@@ -0,0 +1,185 @@
+package com.runinto.chat.service;
+
+import com.runinto.config.properties.ChatSessionProperties.SlowConsumerPolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전송을 큐에 넣고 바로 반환하는 세션 래퍼.
+ * 큐는 세션마다 한 번에 하나의 작업만 전송 풀에 올려 순서대로 비우고(세션별 직렬 실행), 전송 풀은 필요한 만큼 스레드를 늘리므로
+ * 소켓 쓰기가 멈춘 클라이언트는 자기 스레드 하나만 붙잡을 뿐 다른 수신자나 호출 스레드를 막지 않습니다.
+ * 버퍼 크기나 전송 시간 한도를 넘으면 정책에 따라 메시지를 버리거나 연결을 끊습니다. (연결 종료는 전송 풀과 분리된 스레드에서 실행)
+ */
+@Slf4j
+class QueuedWebSocketSession extends WebSocketSessionDecorator {
+
+    // 한 번 스케줄될 때 보내는 최대 메시지 수 (바쁜 세션이 전송 스레드를 독점하지 않도록)
+    private static final int MAX_MESSAGES_PER_DRAIN = 64;
+
+    private final Executor executor;
+    private final Executor closeExecutor;
+    private final int bufferSizeLimit;
+    private final long sendTimeLimitMillis;
+    private final SlowConsumerPolicy policy;
+    private final SendQueueMetrics metrics;
+
+    private final Queue<WebSocketMessage<?>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicLong bufferedBytes = new AtomicLong();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closing = new AtomicBoolean();
+    // 진행 중인 전송의 시작 시각 (전송 중이 아니면 0)
+    private volatile long sendStartedAt;
+
+    QueuedWebSocketSession(WebSocketSession delegate, Executor executor, Executor closeExecutor, int bufferSizeLimit,
+                           long sendTimeLimitMillis, SlowConsumerPolicy policy, SendQueueMetrics metrics) {
+        super(delegate);
+        this.executor = executor;
+        this.closeExecutor = closeExecutor;
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.policy = policy;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+        if (closing.get() || !isOpen()) {
+            return;
+        }
+        int size = message.getPayloadLength();
+        if (isSlow(size)) {
+            onSlowConsumer();
+            return;
+        }
+        queue.add(message);
+        bufferedBytes.addAndGet(size);
+        metrics.enqueued(depth.incrementAndGet());
+        scheduleDrain();
+    }
+
+    // 연결이 닫혀 레지스트리에서 빠질 때 호출 (남은 메시지는 보내지 않음)
+    public void discard() {
+        if (closing.compareAndSet(false, true)) {
+            clearQueue();
+        }
+    }
+
+    public int getQueueDepth() {
+        return depth.get();
+    }
+
+    public long getBufferedBytes() {
+        return bufferedBytes.get();
+    }
+
+    /**
+     * 새 메시지가 오지 않아도 멈춘 전송을 찾아내도록 주기적으로 호출 (DISCONNECT 정책만 연결을 끊음)
+     */
+    public void closeIfStalled() {
+        if (policy == SlowConsumerPolicy.DISCONNECT && isStalled()) {
+            onSlowConsumer();
+        }
+    }
+
+    private boolean isStalled() {
+        long startedAt = sendStartedAt;
+        return startedAt != 0 && System.currentTimeMillis() - startedAt > sendTimeLimitMillis;
+    }
+
+    private boolean isSlow(int size) {
+        if (isStalled()) {
+            return true;
+        }
+        // 버퍼가 비어 있으면 한도보다 큰 메시지 하나는 받아줌
+        return depth.get() > 0 && bufferedBytes.get() + size > bufferSizeLimit;
+    }
+
+    private void onSlowConsumer() {
+        if (policy == SlowConsumerPolicy.DROP) {
+            metrics.dropped();
+            return;
+        }
+        if (!closing.compareAndSet(false, true)) {
+            return;
+        }
+        metrics.disconnected();
+        log.warn("느린 클라이언트 연결 종료: sessionId={}, queued={}, bytes={}", getId(), depth.get(), bufferedBytes.get());
+        // close도 소켓 쓰기이므로 호출 스레드에서 하지 않음. 전송 풀은 멈춘 전송이 붙잡고 있을 수 있어 종료 전용 스레드에서 실행
+        closeExecutor.execute(() -> {
+            clearQueue();
+            try {
+                getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException e) {
+                log.debug("느린 클라이언트 세션 종료 실패: sessionId={}, error={}", getId(), e.getMessage());
+            }
+        });
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        int sent = 0;
+        while (sent < MAX_MESSAGES_PER_DRAIN && !closing.get()) {
+            WebSocketMessage<?> message = queue.poll();
+            if (message == null) {
+                break;
+            }
+            sendStartedAt = System.currentTimeMillis();
+            try {
+                getDelegate().sendMessage(message);
+            } catch (IOException | IllegalStateException e) {
+                log.warn("메시지 전송 실패: sessionId={}, error={}", getId(), e.getMessage());
+            } finally {
+                sendStartedAt = 0;
+                bufferedBytes.addAndGet(-message.getPayloadLength());
+                metrics.sent(depth.decrementAndGet());
+            }
+            sent++;
+        }
+        if (closing.get()) {
+            clearQueue();
+        }
+        draining.set(false);
+        // 플래그를 내리는 사이에 들어온 메시지가 있으면 다시 스케줄
+        if (!queue.isEmpty() && !closing.get()) {
+            scheduleDrain();
+        }
+    }
+
+    private void clearQueue() {
+        WebSocketMessage<?> message;
+        while ((message = queue.poll()) != null) {
+            bufferedBytes.addAndGet(-message.getPayloadLength());
+            metrics.sent(depth.decrementAndGet());
+        }
+    }
+
+    /**
+     * 모든 세션이 공유하는 큐 지표 수집 지점
+     */
+    interface SendQueueMetrics {
+        void enqueued(int depth);
+
+        void sent(int depth);
+
+        void dropped();
+
+        void disconnected();
+    }
+}
@@ -0,0 +1,136 @@
+package com.runinto.chat.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.runinto.config.properties.ChatRecentProperties;
+import common.cache.CacheKeys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방별 최근 메시지 링 버퍼.
+ * 직렬화된 protobuf 프레임을 Redis 리스트에 N개까지만 남기고, 이 노드가 구독 중인 방은 로컬 캐시에 미러링합니다.
+ * 방에 들어올 때 마지막 페이지를 DB 없이 (로컬 히트면 Redis 왕복도 없이) 돌려줄 수 있습니다.
+ */
+@Slf4j
+@Component
+public class RecentChatMessages {
+
+    private static final byte[][] EMPTY = new byte[0][];
+
+    private final Cache<Long, byte[][]> nearCache;
+    private final StringRedisTemplate redisTemplate;
+    private final ChatRecentProperties properties;
+
+    // pub/sub으로 새 메시지를 받고 있는 방만 로컬 미러를 유지 (구독하지 않는 방은 미러가 금방 낡음)
+    private final Set<Long> trackedRooms = ConcurrentHashMap.newKeySet();
+
+    public RecentChatMessages(@Qualifier("recentChatFramesNearCache") Cache<Long, byte[][]> nearCache,
+                              @Qualifier("cacheStringRedisTemplate") StringRedisTemplate redisTemplate,
+                              ChatRecentProperties properties) {
+        this.nearCache = nearCache;
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * 메시지를 받은 노드에서 한번만 호출 → RPUSH + LTRIM + EXPIRE를 한번의 왕복으로 처리
+     */
+    public void append(long chatroomId, byte[] frame) {
+        byte[] key = key(chatroomId);
+        long ttlSeconds = properties.getTtl().toSeconds();
+        int size = properties.getSize();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.listCommands().rPush(key, frame);
+                connection.listCommands().lTrim(key, -size, -1);
+                connection.keyCommands().expire(key, ttlSeconds);
+                return null;
+            });
+        } catch (DataAccessException e) {
+            // 버퍼는 보조 경로라 실패해도 메시지 전달/저장은 계속 진행
+            log.warn("최근 메시지 버퍼 추가 실패: chatroomId={}, error={}", chatroomId, e.getMessage());
+        }
+    }
+
+    /**
+     * pub/sub으로 받은 프레임을 로컬 미러에 반영 (미러가 올라와 있는 방만)
+     * Redis 추가는 pub/sub 전달보다 먼저 일어나므로, 그 사이에 Redis에서 미러를 새로 읽었다면 이미 들어 있는 프레임은 건너뜁니다.
+     */
+    public void mirror(long chatroomId, byte[] frame) {
+        nearCache.asMap().computeIfPresent(chatroomId,
+                (id, frames) -> contains(frames, frame) ? frames : appended(frames, frame, properties.getSize()));
+    }
+
+    /**
+     * 오래된 → 최신 순 프레임. 호출자는 배열을 수정하면 안 됩니다.
+     */
+    public byte[][] recent(long chatroomId) {
+        byte[][] cached = nearCache.getIfPresent(chatroomId);
+        if (cached != null) {
+            return cached;
+        }
+        byte[][] frames = load(chatroomId);
+        if (trackedRooms.contains(chatroomId)) {
+            nearCache.asMap().putIfAbsent(chatroomId, frames);
+        }
+        return frames;
+    }
+
+    public void track(long chatroomId) {
+        trackedRooms.add(chatroomId);
+    }
+
+    public void untrack(long chatroomId) {
+        trackedRooms.remove(chatroomId);
+        nearCache.invalidate(chatroomId);
+    }
+
+    private byte[][] load(long chatroomId) {
+        List<byte[]> frames;
+        try {
+            frames = redisTemplate.execute((RedisCallback<List<byte[]>>) connection -> lRange(connection, chatroomId));
+        } catch (DataAccessException e) {
+            log.warn("최근 메시지 버퍼 조회 실패: chatroomId={}, error={}", chatroomId, e.getMessage());
+            return EMPTY;
+        }
+        return frames == null || frames.isEmpty() ? EMPTY : frames.toArray(new byte[0][]);
+    }
+
+    private List<byte[]> lRange(RedisConnection connection, long chatroomId) {
+        return connection.listCommands().lRange(key(chatroomId), -properties.getSize(), -1);
+    }
+
+    private static byte[] key(long chatroomId) {
+        return CacheKeys.chatRecent(chatroomId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 같은 메시지는 같은 바이트로 인코딩되므로 프레임을 그대로 비교 (중복은 대개 맨 뒤쪽이라 뒤에서부터)
+    static boolean contains(byte[][] frames, byte[] frame) {
+        for (int i = frames.length - 1; i >= 0; i--) {
+            if (Arrays.equals(frames[i], frame)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 맨 뒤에 붙이고 앞에서부터 넘치는 만큼 버림 (배열은 교체만 하므로 읽기는 락 없이)
+    static byte[][] appended(byte[][] frames, byte[] frame, int limit) {
+        int keep = Math.min(frames.length, limit - 1);
+        byte[][] next = new byte[keep + 1][];
+        System.arraycopy(frames, frames.length - keep, next, 0, keep);
+        next[keep] = frame;
+        return next;
+    }
+}
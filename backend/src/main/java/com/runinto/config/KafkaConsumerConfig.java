@@ -0,0 +1,104 @@
+package com.runinto.config;
+
+import common.kafka.dto.CacheUpdateMessage;
+import common.kafka.dto.ChatMessageDto;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@Configuration
+public class KafkaConsumerConfig {
+
+    @Value("${server.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    // 💡 노드마다 고유한 그룹 ID를 사용해야 모든 노드가 무효화 메시지를 전부 받습니다.
+    @Bean
+    public ConsumerFactory<String, CacheUpdateMessage> nearCacheConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, "backend-near-cache-" + UUID.randomUUID());
+        // 기동 이전 메시지는 L1이 비어있으므로 필요 없음
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+
+        JsonDeserializer<CacheUpdateMessage> deserializer = new JsonDeserializer<>(CacheUpdateMessage.class);
+        deserializer.addTrustedPackages("*");
+
+        return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), deserializer);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, CacheUpdateMessage> nearCacheListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, CacheUpdateMessage> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(nearCacheConsumerFactory());
+        return factory;
+    }
+
+    // 💡 채팅 저장은 모든 노드가 같은 그룹을 사용 → 파티션(채팅방) 단위로 나눠서 한번씩만 저장
+    @Bean
+    public ConsumerFactory<String, ChatMessageDto> chatMessageWriterConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, "backend-chat-message-writer");
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        // 한번의 poll을 한 트랜잭션/JDBC 배치로 저장
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 500);
+
+        JsonDeserializer<ChatMessageDto> deserializer = new JsonDeserializer<>(ChatMessageDto.class);
+        deserializer.addTrustedPackages("*");
+
+        // 읽을 수 없는 레코드가 파티션을 막지 않도록 값을 null로 넘기고 예외는 헤더에 담음 (리스너에서 DLT로 보냄)
+        return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), new ErrorHandlingDeserializer<>(deserializer));
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ChatMessageDto> chatMessageWriterListenerContainerFactory(
+            @Qualifier("kafkaTemplate") KafkaTemplate<String, Object> kafkaTemplate,
+            @Qualifier("deadLetterKafkaTemplate") KafkaTemplate<String, byte[]> deadLetterKafkaTemplate) {
+        ConcurrentKafkaListenerContainerFactory<String, ChatMessageDto> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(chatMessageWriterConsumerFactory());
+        factory.setBatchListener(true);
+        factory.setCommonErrorHandler(chatMessageWriterErrorHandler(kafkaTemplate, deadLetterKafkaTemplate));
+        return factory;
+    }
+
+    // 💡 실패한 레코드(BatchListenerFailedException의 index) 앞까지는 커밋하고 그 레코드만 재시도 → 그래도 실패하면 DLT로 옮기고 다음 레코드부터 계속
+    // 어느 레코드인지 모르는 실패(DB 장애 등)는 배치 전체를 재시도한 뒤 레코드마다 DLT로 옮김 (조용히 버리지 않음)
+    static DefaultErrorHandler chatMessageWriterErrorHandler(KafkaTemplate<String, Object> kafkaTemplate,
+                                                            KafkaTemplate<String, byte[]> deadLetterKafkaTemplate) {
+        Map<Class<?>, KafkaOperations<?, ?>> templates = new LinkedHashMap<>();
+        templates.put(byte[].class, deadLetterKafkaTemplate);
+        templates.put(Object.class, kafkaTemplate);
+        // 파티션은 Kafka가 고르도록 (DLT의 파티션 수가 원본과 달라도 됨)
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(templates,
+                (record, e) -> new TopicPartition(record.topic() + ".DLT", -1));
+
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(6);
+        backOff.setInitialInterval(500);
+        backOff.setMultiplier(2.0);
+        backOff.setMaxInterval(10_000);
+        // 역직렬화 실패는 DefaultErrorHandler가 재시도하지 않는 예외라 바로 DLT로 감
+        return new DefaultErrorHandler(recoverer, backOff);
+    }
+}
@@ -1,8 +1,13 @@
 package com.runinto.config;
 
+import com.runinto.config.properties.KafkaProducerProperties;
+import com.runinto.config.properties.OutboxProperties;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
@@ -14,24 +19,68 @@ import java.util.HashMap;
 import java.util.Map;
 
 @Configuration
+@EnableConfigurationProperties({KafkaProducerProperties.class, OutboxProperties.class})
 public class KafkaProducerConfig {
 
     @Value("${server.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
     @Bean
-    public ProducerFactory<String, Object> producerFactory() {
+    public ProducerFactory<String, Object> producerFactory(KafkaProducerProperties properties) {
+        Map<String, Object> configProps = producerProps(bootstrapServers, properties);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        // 타입 헤더 대신 소비자 쪽 기본 타입을 사용하므로 헤더 크기를 줄임
+        configProps.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
+
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    // 아웃박스 행은 이미 JSON 문자열이므로 그대로 전송
+    @Bean
+    public ProducerFactory<String, String> outboxProducerFactory(KafkaProducerProperties properties) {
+        Map<String, Object> configProps = producerProps(bootstrapServers, properties);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    static Map<String, Object> producerProps(String bootstrapServers, KafkaProducerProperties properties) {
+        // 카프카 클라이언트는 send 시점에야 설정 오류를 던지므로 시작할 때 미리 확인
+        if (properties.getDeliveryTimeout().compareTo(properties.getLinger().plus(properties.getRequestTimeout())) < 0) {
+            throw new IllegalStateException("server.kafka.producer.delivery-timeout(" + properties.getDeliveryTimeout()
+                    + ") must be at least linger + request-timeout(" + properties.getLinger().plus(properties.getRequestTimeout()) + ")");
+        }
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
 
-        return new DefaultKafkaProducerFactory<>(configProps);
+        // 💡 레코드를 모아서(linger/batch) 압축한 뒤 한번에 전송
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, (int) properties.getLinger().toMillis());
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, properties.getBatchSize());
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, properties.getCompressionType());
+        configProps.put(ProducerConfig.ACKS_CONFIG, properties.getAcks());
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, properties.isEnableIdempotence());
+        configProps.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, (int) properties.getRequestTimeout().toMillis());
+        configProps.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, (int) properties.getDeliveryTimeout().toMillis());
+        return configProps;
     }
 
     @Bean
-    public KafkaTemplate<String, Object> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+    public KafkaTemplate<String, Object> kafkaTemplate(
+            @Qualifier("producerFactory") ProducerFactory<String, Object> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    // 역직렬화에 실패한 레코드는 원본 바이트 그대로 DLT로 옮김
+    @Bean(name = "deadLetterKafkaTemplate")
+    public KafkaTemplate<String, byte[]> deadLetterKafkaTemplate(KafkaProducerProperties properties) {
+        Map<String, Object> configProps = producerProps(bootstrapServers, properties);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(configProps));
+    }
+
+    @Bean(name = "outboxKafkaTemplate")
+    public KafkaTemplate<String, String> outboxKafkaTemplate(
+            @Qualifier("outboxProducerFactory") ProducerFactory<String, String> outboxProducerFactory) {
+        return new KafkaTemplate<>(outboxProducerFactory);
     }
-}
\ No newline at end of file
+}
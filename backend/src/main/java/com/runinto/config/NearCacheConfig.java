@@ -0,0 +1,60 @@
+package com.runinto.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.runinto.chat.service.ChatroomMembershipCache;
+import com.runinto.config.properties.GridCacheProperties;
+import com.runinto.config.properties.NearCacheProperties;
+import com.runinto.event.dto.cache.EventCacheDto;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Redis(L2) 앞단의 프로세스 내 캐시(L1).
+ * 다른 노드의 변경은 cache-management-topic 메시지로 무효화됩니다.
+ */
+@Configuration
+@EnableConfigurationProperties({NearCacheProperties.class, GridCacheProperties.class})
+public class NearCacheConfig {
+
+    @Bean(name = "eventNearCache")
+    public Cache<Long, EventCacheDto> eventNearCache(NearCacheProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getEventMaxSize())
+                .expireAfterWrite(properties.getEventTtl())
+                .recordStats()
+                .build();
+    }
+
+    @Bean(name = "gridNearCache")
+    public Cache<Long, List<EventCacheDto>> gridNearCache(NearCacheProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getGridMaxSize())
+                .expireAfterWrite(properties.getGridTtl())
+                .recordStats()
+                .build();
+    }
+
+    // 채팅방 ID → 방장 ID + 정렬된 참여자 ID 배열 (박싱 없는 멤버십 조회용)
+    @Bean(name = "chatroomMembershipNearCache")
+    public Cache<Long, ChatroomMembershipCache.Members> chatroomMembershipNearCache(NearCacheProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMembershipMaxSize())
+                .expireAfterWrite(properties.getMembershipTtl())
+                .recordStats()
+                .build();
+    }
+
+    // 채팅방 ID → 최근 메시지 protobuf 프레임 (오래된 → 최신 순, Redis 링 버퍼의 미러)
+    @Bean(name = "recentChatFramesNearCache")
+    public Cache<Long, byte[][]> recentChatFramesNearCache(NearCacheProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getRecentMaxSize())
+                .expireAfterWrite(properties.getRecentTtl())
+                .recordStats()
+                .build();
+    }
+}
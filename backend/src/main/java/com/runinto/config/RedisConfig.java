@@ -2,6 +2,7 @@ package com.runinto.config; // 실제 프로젝트의 설정 패키지 경로로
 
 import com.runinto.config.properties.RedisCacheProperties;
 import com.runinto.config.properties.RedisSessionProperties;
+import com.runinto.config.serializer.EventCacheRedisSerializer;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -11,6 +12,8 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.session.data.redis.config.annotation.web.http.EnableRedisHttpSession;
@@ -53,7 +56,28 @@ public class RedisConfig {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        // 💡 이벤트/그리드 값은 버전 바이트 + protobuf, 나머지와 기존 JSON 값은 JSON으로 처리
+        template.setValueSerializer(new EventCacheRedisSerializer());
+        // 그리드 해시: 필드는 eventId 문자열, 값은 이벤트 단건 protobuf
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(new EventCacheRedisSerializer());
         return template;
     }
-}
\ No newline at end of file
+
+    // --- 5. 캐시용 StringRedisTemplate (HINCRBY 등 숫자 해시 필드를 다루는 그리드 요약용) ---
+    @Bean(name = "cacheStringRedisTemplate")
+    public StringRedisTemplate cacheStringRedisTemplate(
+            @Qualifier("cacheRedisConnectionFactory") RedisConnectionFactory connectionFactory) {
+        return new StringRedisTemplate(connectionFactory);
+    }
+
+    // --- 6. 채팅방 pub/sub 구독 컨테이너 (chatConsumer가 캐시용 Redis의 chatroom:<id> 채널로 발행) ---
+    // 구독은 ChatRoomSubscriptionManager가 이 노드에 접속한 멤버가 있는 방만 동적으로 추가/해제합니다.
+    @Bean(name = "chatRedisMessageListenerContainer")
+    public RedisMessageListenerContainer chatRedisMessageListenerContainer(
+            @Qualifier("cacheRedisConnectionFactory") RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
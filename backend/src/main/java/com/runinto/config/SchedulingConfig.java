@@ -0,0 +1,13 @@
+package com.runinto.config;
+
+import com.runinto.config.properties.ChatArchiveProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 아웃박스 릴레이, 채팅 보관 등 @Scheduled 작업 활성화
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ChatArchiveProperties.class)
+public class SchedulingConfig {
+}
@@ -0,0 +1,21 @@
+package com.runinto.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chat.archive")
+public class ChatArchiveProperties {
+    // false면 보관 작업을 건너뜀 (모든 메시지를 테이블에 유지)
+    private boolean enabled = true;
+    // 이 기간보다 오래된 날짜 파티션은 테이블에서 빼서 보관 파일로 옮김
+    private Duration hotRetention = Duration.ofDays(30);
+    // 보관 파일(gzip JSON Lines)이 쌓이는 로컬 디렉터리
+    private String directory = "chat-archive";
+    // 한번에 읽어 파일에 쓰는 행 수
+    private int batchSize = 1_000;
+}
@@ -0,0 +1,13 @@
+package com.runinto.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chat.message-id")
+public class ChatMessageIdProperties {
+    // 노드 번호 (0~1023). 비워두면 캐시 Redis에서 빈 번호를 lease로 빌려 씀 (ChatMessageWorkerLease)
+    private Integer workerId;
+}
@@ -0,0 +1,17 @@
+package com.runinto.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chat.recent")
+public class ChatRecentProperties {
+    // 방마다 보관하는 최근 메시지 수 (링 버퍼 크기)
+    private int size = 50;
+    // 대화가 끊긴 방의 버퍼는 이 시간이 지나면 Redis에서 사라지고 DB 기록으로만 남음
+    private Duration ttl = Duration.ofDays(7);
+}
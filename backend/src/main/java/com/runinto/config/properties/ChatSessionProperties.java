@@ -0,0 +1,27 @@
+package com.runinto.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chat.session")
+public class ChatSessionProperties {
+    // 세션 하나에 쌓아둘 수 있는 미전송 메시지 바이트 수
+    private int bufferSizeLimit = 512 * 1024;
+    // 한 번의 전송이 이 시간보다 오래 걸리고 있으면 느린 클라이언트로 판단
+    private Duration sendTimeLimit = Duration.ofSeconds(5);
+    private SlowConsumerPolicy slowConsumerPolicy = SlowConsumerPolicy.DROP;
+    // 평소 유지하는 전송 스레드 수 (세션마다 스레드를 두지 않음). 전송이 멈춘 세션이 많으면 그만큼 스레드가 더 생김
+    private int senderThreads = 8;
+
+    public enum SlowConsumerPolicy {
+        // 새로 들어온 메시지를 버리고 연결은 유지
+        DROP,
+        // 연결을 끊고 클라이언트가 재접속해 기록을 다시 받도록 함
+        DISCONNECT
+    }
+}
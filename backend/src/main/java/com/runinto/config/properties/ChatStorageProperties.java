@@ -0,0 +1,29 @@
+package com.runinto.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chat.storage")
+public class ChatStorageProperties {
+    // 채팅 메시지 저장소 (h2: JPA 테이블, log: 채팅방별 메모리 매핑 로그 파일)
+    private StorageType type = StorageType.H2;
+    private final Log log = new Log();
+
+    public enum StorageType {
+        H2, LOG
+    }
+
+    @Getter
+    @Setter
+    public static class Log {
+        // 채팅방마다 하위 디렉터리에 세그먼트 파일이 쌓임
+        private String directory = "chat-log";
+        // 세그먼트 파일 하나의 크기 (미리 매핑해두고 가득 차면 다음 세그먼트로 넘어감)
+        private int segmentSize = 4 * 1024 * 1024;
+        // N건마다 (id, 위치)를 희소 인덱스에 하나씩 남김
+        private int indexInterval = 64;
+    }
+}
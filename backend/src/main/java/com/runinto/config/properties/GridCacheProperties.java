@@ -0,0 +1,21 @@
+package com.runinto.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "spring.cache.grid")
+public class GridCacheProperties {
+    // 한 노드가 그리드를 DB에서 채우는 동안 다른 노드가 기다리는 lease
+    private Duration leaseTtl = Duration.ofSeconds(3);
+    // lease를 가진 노드의 결과를 기다리는 최대 시간 (넘으면 직접 조회)
+    private Duration leaseWaitTimeout = Duration.ofSeconds(1);
+    // true면 만료된 그리드를 바로 반환하고 백그라운드에서 다시 채움
+    private boolean staleWhileRevalidate = false;
+    // 오래된 값을 추가로 보관하는 시간
+    private Duration staleWindow = Duration.ofMinutes(2);
+}
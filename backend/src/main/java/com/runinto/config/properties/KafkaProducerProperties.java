@@ -0,0 +1,26 @@
+package com.runinto.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "server.kafka.producer")
+public class KafkaProducerProperties {
+    // 배치를 채우기 위해 기다리는 최대 시간 (linger.ms)
+    private Duration linger = Duration.ofMillis(20);
+    // 파티션별 배치 크기 (batch.size, bytes)
+    private int batchSize = 64 * 1024;
+    // none | gzip | snappy | lz4 | zstd
+    private String compressionType = "lz4";
+    private String acks = "all";
+    // 재시도 중 중복/순서 뒤바뀜 방지
+    private boolean enableIdempotence = true;
+    // 브로커 응답 한번을 기다리는 시간 (request.timeout.ms)
+    private Duration requestTimeout = Duration.ofSeconds(30);
+    // 재시도를 포함해 send 한 건이 성공해야 하는 시간 (delivery.timeout.ms, linger + requestTimeout 이상)
+    private Duration deliveryTimeout = Duration.ofMinutes(2);
+}
@@ -0,0 +1,24 @@
+package com.runinto.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "spring.cache.near")
+public class NearCacheProperties {
+    private long eventMaxSize = 10_000;
+    private Duration eventTtl = Duration.ofSeconds(30);
+    private long gridMaxSize = 2_000;
+    // 그리드는 무효화 메시지와 Redis 삭제 사이의 경쟁이 있으므로 짧게 유지
+    private Duration gridTtl = Duration.ofSeconds(5);
+    private long membershipMaxSize = 10_000;
+    // 다른 노드에서 바뀐 멤버십은 이 시간 안에 DB에서 다시 읽힘
+    private Duration membershipTtl = Duration.ofSeconds(30);
+    // 최근 메시지 프레임 미러 (방 하나에 chat.recent.size개까지)
+    private long recentMaxSize = 2_000;
+    private Duration recentTtl = Duration.ofSeconds(60);
+}
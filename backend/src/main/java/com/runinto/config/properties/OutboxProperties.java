@@ -0,0 +1,24 @@
+package com.runinto.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "server.kafka.outbox")
+public class OutboxProperties {
+    // false면 아웃박스에 쌓기만 하고 전송하지 않음 (테스트/점검용)
+    private boolean relayEnabled = true;
+    // 한번에 읽어 전송하는 행 수
+    private int batchSize = 500;
+    // 배치 전체의 전송 확인을 기다리는 최대 시간
+    private Duration sendTimeout = Duration.ofSeconds(10);
+    // 릴레이가 행을 잡아두는 시간. 릴레이가 전송 중 죽으면 이 시간이 지난 뒤 다른 릴레이가 다시 보냄 (sendTimeout보다 길어야 함)
+    private Duration claimTimeout = Duration.ofMinutes(1);
+    // 실패한 행의 재시도 간격 (시도할 때마다 2배, 최대 maxBackoff)
+    private Duration initialBackoff = Duration.ofSeconds(1);
+    private Duration maxBackoff = Duration.ofMinutes(1);
+}
@@ -0,0 +1,153 @@
+package com.runinto.config.serializer;
+
+import com.google.protobuf.CodedInputStream;
+import com.runinto.event.dto.EventCategoryInfoForResponseDto;
+import com.runinto.event.dto.cache.EventCacheDto;
+import com.runinto.event.proto.EventCacheProto;
+import com.runinto.user.dto.response.EventParticipantsResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.sql.Time;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 캐시 Redis 값 직렬화기.
+ * EventCacheDto / List&lt;EventCacheDto&gt;는 [버전 1바이트][타입 1바이트][protobuf] 형식으로 저장하고,
+ * 그 외 값과 버전 바이트가 없는 기존 JSON 값은 GenericJackson2JsonRedisSerializer로 처리합니다.
+ */
+@Slf4j
+public class EventCacheRedisSerializer implements RedisSerializer<Object> {
+
+    // JSON은 0x01로 시작할 수 없으므로 기존 값과 구분됩니다.
+    public static final byte FORMAT_VERSION = 1;
+    private static final byte TYPE_EVENT = 1;
+    private static final byte TYPE_GRID = 2;
+    private static final int HEADER_SIZE = 2;
+
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value instanceof EventCacheDto event) {
+            return withHeader(TYPE_EVENT, toProto(event).toByteArray());
+        }
+        if (value instanceof List<?> list && list.stream().allMatch(EventCacheDto.class::isInstance)) {
+            EventCacheProto.CachedGrid.Builder grid = EventCacheProto.CachedGrid.newBuilder();
+            for (Object event : list) {
+                grid.addEvents(toProto((EventCacheDto) event));
+            }
+            return withHeader(TYPE_GRID, grid.build().toByteArray());
+        }
+        return jsonSerializer.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != FORMAT_VERSION) {
+            // 롤아웃 중 남아있는 JSON 값
+            return jsonSerializer.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_SIZE) {
+            throw new SerializationException("Truncated cache value");
+        }
+        try {
+            return switch (bytes[1]) {
+                case TYPE_EVENT -> fromProto(EventCacheProto.CachedEvent.parseFrom(
+                        CodedInputStream.newInstance(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE)));
+                case TYPE_GRID -> {
+                    EventCacheProto.CachedGrid grid = EventCacheProto.CachedGrid.parseFrom(
+                            CodedInputStream.newInstance(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE));
+                    List<EventCacheDto> events = new ArrayList<>(grid.getEventsCount());
+                    for (EventCacheProto.CachedEvent event : grid.getEventsList()) {
+                        events.add(fromProto(event));
+                    }
+                    yield events;
+                }
+                default -> {
+                    // 새 버전이 쓴 알 수 없는 타입은 캐시 미스로 처리
+                    log.warn("알 수 없는 캐시 값 타입: {}", bytes[1]);
+                    yield null;
+                }
+            };
+        } catch (IOException e) {
+            throw new SerializationException("Cannot deserialize cached event", e);
+        }
+    }
+
+    private static byte[] withHeader(byte type, byte[] payload) {
+        byte[] bytes = new byte[HEADER_SIZE + payload.length];
+        bytes[0] = FORMAT_VERSION;
+        bytes[1] = type;
+        System.arraycopy(payload, 0, bytes, HEADER_SIZE, payload.length);
+        return bytes;
+    }
+
+    static EventCacheProto.CachedEvent toProto(EventCacheDto dto) {
+        EventCacheProto.CachedEvent.Builder builder = EventCacheProto.CachedEvent.newBuilder()
+                .setMaxParticipants(dto.maxParticipants())
+                .setLatitude(dto.latitude())
+                .setLongitude(dto.longitude())
+                .setIsPublic(dto.isPublic())
+                .setParticipants(dto.participants());
+        if (dto.eventId() != null) builder.setEventId(dto.eventId());
+        if (dto.title() != null) builder.setTitle(dto.title());
+        if (dto.description() != null) builder.setDescription(dto.description());
+        if (dto.creationTime() != null) builder.setCreationTime(dto.creationTime().getTime());
+        if (dto.chatroomId() != null) builder.setChatroomId(dto.chatroomId());
+        if (dto.gridId() != null) builder.setGridId(dto.gridId());
+        if (dto.host() != null) {
+            EventCacheProto.EventHost.Builder host = EventCacheProto.EventHost.newBuilder();
+            if (dto.host().getUserId() != null) host.setUserId(dto.host().getUserId());
+            if (dto.host().getName() != null) host.setName(dto.host().getName());
+            if (dto.host().getImgUrl() != null) host.setImgUrl(dto.host().getImgUrl());
+            builder.setHost(host);
+        }
+        if (dto.eventCategories() != null) {
+            for (EventCategoryInfoForResponseDto category : dto.eventCategories()) {
+                if (category != null && category.getCategory() != null) {
+                    builder.addCategories(category.getCategory());
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    static EventCacheDto fromProto(EventCacheProto.CachedEvent proto) {
+        Set<EventCategoryInfoForResponseDto> categories = new HashSet<>();
+        for (String category : proto.getCategoriesList()) {
+            categories.add(new EventCategoryInfoForResponseDto(category));
+        }
+        EventParticipantsResponse host = null;
+        if (proto.hasHost()) {
+            EventCacheProto.EventHost h = proto.getHost();
+            host = new EventParticipantsResponse(h.getUserId(),
+                    h.hasName() ? h.getName() : null,
+                    h.hasImgUrl() ? h.getImgUrl() : null);
+        }
+        return new EventCacheDto(
+                proto.getEventId(),
+                proto.getTitle(),
+                proto.hasDescription() ? proto.getDescription() : null,
+                proto.getMaxParticipants(),
+                proto.hasCreationTime() ? new Time(proto.getCreationTime()) : null,
+                proto.getLatitude(),
+                proto.getLongitude(),
+                proto.hasChatroomId() ? proto.getChatroomId() : null,
+                proto.getIsPublic(),
+                host,
+                proto.getParticipants(),
+                categories,
+                proto.hasGridId() ? proto.getGridId() : null
+        );
+    }
+}
@@ -1,7 +1,12 @@
 package com.runinto.config;
 
 import com.runinto.chat.service.CustomWebSocketHandler;
+import com.runinto.config.properties.ChatMessageIdProperties;
+import com.runinto.config.properties.ChatRecentProperties;
+import com.runinto.config.properties.ChatSessionProperties;
+import com.runinto.config.properties.ChatStorageProperties;
 import com.runinto.util.UserHandshakeInterceptor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
 import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
@@ -9,6 +14,8 @@ import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry
 
 @Configuration
 @EnableWebSocket
+@EnableConfigurationProperties({ChatSessionProperties.class, ChatRecentProperties.class, ChatStorageProperties.class,
+        ChatMessageIdProperties.class})
 public class webSocketConfig implements WebSocketConfigurer {
 
     private final CustomWebSocketHandler customWebSocketHandler;
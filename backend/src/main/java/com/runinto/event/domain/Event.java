@@ -8,6 +8,7 @@ import lombok.*;
 
 import java.sql.Time;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -19,7 +20,10 @@ import java.util.Set;
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "event")
+// 💡 커서 목록 조회(creation_time DESC, event_id DESC)가 정렬 없이 인덱스 범위 스캔으로 끝나도록 복합 인덱스
+@Table(name = "event", indexes = {
+        @Index(name = "idx_event_creation_time_id", columnList = "creation_time DESC, event_id DESC")
+})
 public class Event {
     private static final double EPSILON = 1e-9;
 
@@ -36,7 +40,8 @@ public class Event {
     @Column(name = "max_participants", nullable = false)
     private int maxParticipants;
 
-    @Column(name = "creation_time")
+    // 비어 있던 예전 행은 EventCreationTimeMigration이 채웁니다.
+    @Column(name = "creation_time", nullable = false)
     private Time creationTime;
 
     @Column(nullable = false)
@@ -61,8 +66,9 @@ public class Event {
     @JoinColumn(name = "host_user_id", nullable = false)
     private User host;
 
-    @Column(nullable = false)
-    private String gridId; // 그리드 ID 저장
+    // Morton(Z-order) 64비트 셀 키. 기존 문자열 grid_id 컬럼은 EventGridCellMigration이 이관합니다.
+    @Column(name = "grid_cell")
+    private Long gridId; // 그리드 ID 저장
 
     @Builder
     public Event(String title, Long id, String description, int maxParticipants, Time creationTime, double latitude, double longitude, Chatroom chatroom, Set<EventParticipant> participants, Set<EventCategory> categories, User host) {
@@ -79,6 +85,13 @@ public class Event {
         this.host = host; // host 초기화
     }
 
+    @PrePersist
+    void assignCreationTime() {
+        if (creationTime == null) {
+            creationTime = Time.valueOf(LocalTime.now());
+        }
+    }
+
     public void application(User user) {
         EventParticipant participant = EventParticipant.builder()
                 .event(this)
@@ -0,0 +1,36 @@
+package com.runinto.event.domain.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * creation_time이 비어 있던 예전 행을 채우고 NOT NULL 제약을 겁니다.
+ * 커서 조회가 coalesce 없이 컬럼 그대로 정렬하므로, 예전처럼 가장 오래된 시각(00:00:00)으로 채워 순서를 유지합니다.
+ * (ddl-auto: update는 기존 컬럼의 nullable을 바꾸지 않음)
+ */
+@Slf4j
+@Component
+public class EventCreationTimeMigration {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EventCreationTimeMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 공간 인덱스 적재보다 먼저 실행되어야 합니다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void migrate() {
+        int updated = jdbcTemplate.update("UPDATE event SET creation_time = TIME '00:00:00' WHERE creation_time IS NULL");
+        if (updated > 0) {
+            log.info("creation_time 채움: {}개 이벤트", updated);
+        }
+        jdbcTemplate.execute("ALTER TABLE event ALTER COLUMN creation_time SET NOT NULL");
+    }
+}
@@ -0,0 +1,62 @@
+package com.runinto.event.domain.repository;
+
+import com.runinto.util.GeoUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 문자열 grid_id("grid_%d_%d") 시절의 행을 64비트 grid_cell 컬럼으로 이관합니다.
+ * 셀 키는 좌표만으로 계산되므로 기존 문자열 값은 읽지 않습니다.
+ */
+@Slf4j
+@Component
+public class EventGridCellMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EventGridCellMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 공간 인덱스 적재보다 먼저 실행되어야 합니다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void migrate() {
+        if (legacyColumnExists()) {
+            // 새 코드는 grid_id를 채우지 않으므로 NOT NULL 제약만 풀어둡니다. (컬럼 삭제는 운영에서 확인 후 진행)
+            jdbcTemplate.execute("ALTER TABLE event ALTER COLUMN grid_id SET NULL");
+        }
+
+        List<Object[]> updates = jdbcTemplate.query(
+                "SELECT event_id, latitude, longitude FROM event WHERE grid_cell IS NULL",
+                (rs, rowNum) -> new Object[]{
+                        GeoUtil.getGridId(rs.getDouble("latitude"), rs.getDouble("longitude")),
+                        rs.getLong("event_id")});
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        for (int from = 0; from < updates.size(); from += BATCH_SIZE) {
+            List<Object[]> batch = updates.subList(from, Math.min(from + BATCH_SIZE, updates.size()));
+            jdbcTemplate.batchUpdate("UPDATE event SET grid_cell = ? WHERE event_id = ?", batch);
+        }
+        log.info("grid_cell 이관 완료: {}개 이벤트", updates.size());
+    }
+
+    private boolean legacyColumnExists() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS " +
+                        "WHERE UPPER(TABLE_NAME) = 'EVENT' AND UPPER(COLUMN_NAME) = 'GRID_ID'",
+                Integer.class);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,136 @@
+package com.runinto.event.domain.repository;
+
+import com.runinto.event.domain.Event;
+import com.runinto.event.dto.request.EventCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Time;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 엔티티/컬렉션을 만들지 않고 이벤트 ID만 조회하는 Criteria 쿼리 모음.
+ * EventSpecifications 조건을 그대로 재사용합니다.
+ */
+@Repository
+public class EventIdQueryRepository {
+
+    private final EntityManager entityManager;
+
+    public EventIdQueryRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * 오프셋 페이징용 ID 조회. 정렬 컬럼과 ID만 select 하므로 Event/EventCategory 엔티티가 만들어지지 않습니다.
+     * COUNT 쿼리는 마지막 페이지처럼 전체 개수를 알 수 있는 경우 생략됩니다.
+     */
+    public Page<Long> findIds(Specification<Event> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Event> root = query.from(Event.class);
+        Path<Long> id = root.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        addSpecification(predicates, spec, root, query, cb);
+
+        // DISTINCT(카테고리 조건)와 ORDER BY를 함께 쓰려면 정렬 컬럼도 select 목록에 있어야 합니다.
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(id);
+        List<Order> orders = new ArrayList<>();
+        boolean sortedById = false;
+        for (Sort.Order order : pageable.getSort()) {
+            Path<?> path = root.get(order.getProperty());
+            selections.add(path);
+            orders.add(order.isAscending() ? cb.asc(path) : cb.desc(path));
+            sortedById |= "id".equals(order.getProperty());
+        }
+        if (!sortedById) {
+            // 같은 정렬 값끼리 페이지 경계에서 순서가 바뀌지 않도록 ID로 한번 더 정렬
+            orders.add(cb.desc(id));
+        }
+
+        query.multiselect(selections)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(orders);
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<Long> ids = typedQuery.getResultList().stream()
+                .map(tuple -> tuple.get(0, Long.class))
+                .toList();
+
+        return PageableExecutionUtils.getPage(ids, pageable, () -> countIds(spec));
+    }
+
+    /**
+     * (creationTime DESC, id DESC) 순으로 after 다음 위치부터 최대 limit개의 커서를 반환합니다.
+     * OFFSET 없이 키 비교로 시작 위치를 찾기 때문에 뒤쪽 페이지도 비용이 같습니다.
+     */
+    public List<EventCursor> findCursorsAfter(Specification<Event> spec, EventCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventCursor> query = cb.createQuery(EventCursor.class);
+        Root<Event> root = query.from(Event.class);
+        // 식(coalesce 등)으로 감싸지 않아야 idx_event_creation_time_id 순서 그대로 읽음
+        Path<Time> creationTime = root.get("creationTime");
+        Path<Long> id = root.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        addSpecification(predicates, spec, root, query, cb);
+        if (after != null) {
+            predicates.add(cb.or(
+                    cb.lessThan(creationTime, after.creationTime()),
+                    cb.and(cb.equal(creationTime, after.creationTime()), cb.lessThan(id, after.eventId()))));
+        }
+
+        query.select(cb.construct(EventCursor.class, creationTime, id))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(creationTime), cb.desc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    public long countIds(Specification<Event> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Event> root = query.from(Event.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        addSpecification(predicates, spec, root, query, cb);
+        // 카테고리 조인으로 행이 늘어날 수 있으므로 DISTINCT로 센다
+        query.select(cb.countDistinct(root)).where(predicates.toArray(Predicate[]::new));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static void addSpecification(List<Predicate> predicates, Specification<Event> spec, Root<Event> root,
+                                         CriteriaQuery<?> query, CriteriaBuilder cb) {
+        if (spec == null) {
+            return;
+        }
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            predicates.add(predicate);
+        }
+    }
+}
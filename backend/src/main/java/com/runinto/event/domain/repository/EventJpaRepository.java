@@ -2,6 +2,7 @@ package com.runinto.event.domain.repository;
 
 import com.runinto.event.domain.Event;
 import com.runinto.event.domain.EventType;
+import com.runinto.event.dto.cache.EventLocationRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -26,13 +27,28 @@ public interface EventJpaRepository extends JpaRepository<Event, Long> , JpaSpec
 
 
     @Query("SELECT DISTINCT e FROM Event e JOIN FETCH e.eventCategories ec WHERE e.gridId IN :gridIds") // 수정 후
-    List<Event> findByGridIdInWithCategories(@Param("gridIds") List<String> gridIds);
+    List<Event> findByGridIdInWithCategories(@Param("gridIds") List<Long> gridIds);
 
     @Query("SELECT DISTINCT e FROM Event e JOIN FETCH e.eventCategories WHERE e.id IN :ids")
     List<Event> findWithCategoriesByIdIn(@Param("ids") List<Long> ids);
 
 
-    List<Event> findByGridIdIn(List<String> gridIds);
+    // 공간 인덱스 적재용: 캐시 DTO 변환에 필요한 연관관계를 한번에 가져옵니다.
+    @Query("SELECT DISTINCT e FROM Event e JOIN FETCH e.host LEFT JOIN FETCH e.eventCategories " +
+            "LEFT JOIN FETCH e.eventParticipants LEFT JOIN FETCH e.chatroom")
+    List<Event> findAllForIndex();
+
+    // 그리드 요약 집계용: 엔티티를 만들지 않고 좌표와 카테고리만 가져옵니다.
+    @Query("SELECT new com.runinto.event.dto.cache.EventLocationRow(e.id, e.latitude, e.longitude, ec.category) " +
+            "FROM Event e LEFT JOIN e.eventCategories ec " +
+            "WHERE e.latitude >= :swlat AND e.latitude <= :nelat AND e.longitude >= :swlng AND e.longitude <= :nelng")
+    List<EventLocationRow> findLocationsInArea(
+            @Param("swlat") double swlat,
+            @Param("swlng") double swlng,
+            @Param("nelat") double nelat,
+            @Param("nelng") double nelng);
+
+    List<Event> findByGridIdIn(List<Long> gridIds);
     List<Event> findByHostUserId(Long userId);
 
 }
\ No newline at end of file
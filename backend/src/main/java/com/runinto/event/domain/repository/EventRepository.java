@@ -2,6 +2,8 @@ package com.runinto.event.domain.repository;
 
 import com.runinto.event.domain.Event;
 import com.runinto.event.domain.EventType;
+import com.runinto.event.dto.cache.EventLocationRow;
+import com.runinto.event.dto.request.EventCursor;
 import com.runinto.event.dto.request.FindEventRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Primary;
@@ -20,9 +22,11 @@ import java.util.Set;
 public class EventRepository {
 
     private final EventJpaRepository eventJpaRepository;
+    private final EventIdQueryRepository eventIdQueryRepository;
 
-    public EventRepository(EventJpaRepository eventJpaRepository) {
+    public EventRepository(EventJpaRepository eventJpaRepository, EventIdQueryRepository eventIdQueryRepository) {
         this.eventJpaRepository = eventJpaRepository;
+        this.eventIdQueryRepository = eventIdQueryRepository;
     }
 
     public Optional<Event> findById(long id) {
@@ -33,10 +37,19 @@ public class EventRepository {
         return eventJpaRepository.save(event);
     }
 
+    // 채팅방처럼 flush 때 채번되는 연관 ID가 필요할 때 사용
+    public void flush() {
+        eventJpaRepository.flush();
+    }
+
     public List<Event> findAll() {
         return eventJpaRepository.findAll();
     }
 
+    public List<Event> findAllForIndex() {
+        return eventJpaRepository.findAllForIndex();
+    }
+
     public List<Event> findByCategory(Set<EventType> categories) {
         return eventJpaRepository.findByCategories(categories);
     }
@@ -95,7 +108,11 @@ public class EventRepository {
         eventJpaRepository.deleteAll();
     }
 
-    public List<Event> findByGridIdIn(List<String> gridIds) {
+    public List<EventLocationRow> findLocationsInArea(double swLatitude, double swLongitude, double neLatitude, double neLongitude) {
+        return eventJpaRepository.findLocationsInArea(swLatitude, swLongitude, neLatitude, neLongitude);
+    }
+
+    public List<Event> findByGridIdIn(List<Long> gridIds) {
         return eventJpaRepository.findByGridIdIn(gridIds);
     }
 
@@ -114,11 +131,19 @@ public class EventRepository {
     }
 
     public Page<Long> findIdsWithPaging(Specification<Event> spec, Pageable pageable) {
-        Page<Event> eventPage = eventJpaRepository.findAll(spec, pageable);
-        // Page<Event>를 Page<Long> (ID 페이징 결과)으로 변환하여 반환
-        return eventPage.map(Event::getId);
+        // 💡 엔티티(+EAGER 카테고리)를 만들지 않고 ID만 조회
+        return eventIdQueryRepository.findIds(spec, pageable);
+    }
+    // 커서 페이징: COUNT 쿼리 없이 ID(와 정렬 키)만 조회
+    public List<EventCursor> findCursorsAfter(Specification<Event> spec, EventCursor after, int limit) {
+        return eventIdQueryRepository.findCursorsAfter(spec, after, limit);
     }
-    public List<Event> findByGridIdInWithCategories(List<String> gridIds) {
+
+    public long countIds(Specification<Event> spec) {
+        return eventIdQueryRepository.countIds(spec);
+    }
+
+    public List<Event> findByGridIdInWithCategories(List<Long> gridIds) {
         return eventJpaRepository.findByGridIdInWithCategories(gridIds);
     }
 
@@ -4,6 +4,7 @@ package com.runinto.event.dto.cache;
 import com.runinto.event.domain.Event;
 import com.runinto.event.dto.EventCategoryInfoForResponseDto;
 import com.runinto.user.dto.response.EventParticipantsResponse;
+import com.runinto.util.GeoUtil;
 
 import java.sql.Time;
 import java.util.Set;
@@ -22,7 +23,7 @@ public record EventCacheDto(
         EventParticipantsResponse host,
         int participants,
         Set<EventCategoryInfoForResponseDto> eventCategories,
-        String gridId // 💡 캐싱에 필요한 gridId 포함
+        Long gridId // 💡 캐싱에 필요한 gridId 포함
 ) {
     public static EventCacheDto from(Event event) {
         return new EventCacheDto(
@@ -40,7 +41,8 @@ public record EventCacheDto(
                 event.getEventCategories().stream()
                         .map(EventCategoryInfoForResponseDto::from)
                         .collect(Collectors.toSet()),
-                event.getGridId() // gridId 추가
+                // 이관 전 행은 gridId가 비어있을 수 있으므로 좌표로 계산
+                event.getGridId() != null ? event.getGridId() : GeoUtil.getGridId(event.getLatitude(), event.getLongitude())
         );
     }
 }
\ No newline at end of file
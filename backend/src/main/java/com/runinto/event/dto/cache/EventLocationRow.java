@@ -0,0 +1,9 @@
+package com.runinto.event.dto.cache;
+
+import com.runinto.event.domain.EventType;
+
+/**
+ * 그리드 요약 집계용 프로젝션. 이벤트의 카테고리 수만큼 행이 나오며, 카테고리가 없으면 category는 null입니다.
+ */
+public record EventLocationRow(Long eventId, double latitude, double longitude, EventType category) {
+}
@@ -0,0 +1,10 @@
+package com.runinto.event.dto.cache;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 그리드 캐시 조회 결과. staleGridIds는 값은 있지만 갱신 시점이 지난 셀입니다.
+ */
+public record GridCacheLookup(Map<Long, List<EventCacheDto>> grids, List<Long> staleGridIds) {
+}
@@ -0,0 +1,160 @@
+package com.runinto.event.dto.cache;
+
+import com.runinto.event.domain.EventType;
+import common.cache.GridSummaryFields;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 그리드 셀 하나의 사전 집계 결과 (이벤트 수, 좌표 합, 카테고리별 이벤트 수와 좌표 합)
+ */
+public record GridSummaryDto(
+        long gridId,
+        int level,
+        long count,
+        double latitudeSum,
+        double longitudeSum,
+        Map<EventType, Long> categoryCounts,
+        Map<EventType, Double> categoryLatitudeSums,
+        Map<EventType, Double> categoryLongitudeSums
+) {
+    public double centroidLatitude() {
+        return count == 0 ? 0 : latitudeSum / count;
+    }
+
+    public double centroidLongitude() {
+        return count == 0 ? 0 : longitudeSum / count;
+    }
+
+    /**
+     * 주어진 카테고리만 남긴 요약. categories가 비어있으면 자기 자신을 반환합니다.
+     * 셀 요약에는 이벤트별 카테고리 조합이 없으므로, 선택한 카테고리를 여러 개 가진 이벤트는 카테고리마다 한번씩 셉니다.
+     */
+    public GridSummaryDto filtered(Set<EventType> categories) {
+        if (categories == null || categories.isEmpty()) {
+            return this;
+        }
+        Map<EventType, Long> counts = new EnumMap<>(EventType.class);
+        Map<EventType, Double> latitudeSums = new EnumMap<>(EventType.class);
+        Map<EventType, Double> longitudeSums = new EnumMap<>(EventType.class);
+        long filteredCount = 0;
+        double filteredLatitudeSum = 0;
+        double filteredLongitudeSum = 0;
+        boolean hasSums = true;
+        for (EventType type : categories) {
+            long value = categoryCounts.getOrDefault(type, 0L);
+            if (value <= 0) {
+                continue;
+            }
+            counts.put(type, value);
+            filteredCount += value;
+            Double latitude = categoryLatitudeSums.get(type);
+            Double longitude = categoryLongitudeSums.get(type);
+            if (latitude == null || longitude == null) {
+                hasSums = false;
+                continue;
+            }
+            latitudeSums.put(type, latitude);
+            longitudeSums.put(type, longitude);
+            filteredLatitudeSum += latitude;
+            filteredLongitudeSum += longitude;
+        }
+        if (!hasSums) {
+            // 카테고리별 좌표 합이 없던 이전 형식의 해시는 셀 전체 중심을 사용
+            filteredLatitudeSum = centroidLatitude() * filteredCount;
+            filteredLongitudeSum = centroidLongitude() * filteredCount;
+        }
+        return new GridSummaryDto(gridId, level, filteredCount, filteredLatitudeSum, filteredLongitudeSum,
+                counts, latitudeSums, longitudeSums);
+    }
+
+    public Map<String, String> toHash() {
+        Map<String, String> hash = new HashMap<>();
+        hash.put(GridSummaryFields.COUNT, Long.toString(count));
+        hash.put(GridSummaryFields.LATITUDE_SUM, Double.toString(latitudeSum));
+        hash.put(GridSummaryFields.LONGITUDE_SUM, Double.toString(longitudeSum));
+        categoryCounts.forEach((type, value) -> hash.put(GridSummaryFields.category(type.name()), Long.toString(value)));
+        categoryLatitudeSums.forEach((type, value) ->
+                hash.put(GridSummaryFields.categoryLatitudeSum(type.name()), Double.toString(value)));
+        categoryLongitudeSums.forEach((type, value) ->
+                hash.put(GridSummaryFields.categoryLongitudeSum(type.name()), Double.toString(value)));
+        return hash;
+    }
+
+    public static GridSummaryDto fromHash(long gridId, int level, Map<Object, Object> hash) {
+        Map<EventType, Long> categoryCounts = new EnumMap<>(EventType.class);
+        Map<EventType, Double> categoryLatitudeSums = new EnumMap<>(EventType.class);
+        Map<EventType, Double> categoryLongitudeSums = new EnumMap<>(EventType.class);
+        long count = 0;
+        double latitudeSum = 0;
+        double longitudeSum = 0;
+        for (Map.Entry<Object, Object> entry : hash.entrySet()) {
+            String field = String.valueOf(entry.getKey());
+            String value = String.valueOf(entry.getValue());
+            switch (field) {
+                case GridSummaryFields.COUNT -> count = Long.parseLong(value);
+                case GridSummaryFields.LATITUDE_SUM -> latitudeSum = Double.parseDouble(value);
+                case GridSummaryFields.LONGITUDE_SUM -> longitudeSum = Double.parseDouble(value);
+                default -> {
+                    try {
+                        if (field.startsWith(GridSummaryFields.CATEGORY_LATITUDE_SUM_PREFIX)) {
+                            categoryLatitudeSums.put(categoryOf(field, GridSummaryFields.CATEGORY_LATITUDE_SUM_PREFIX),
+                                    Double.parseDouble(value));
+                        } else if (field.startsWith(GridSummaryFields.CATEGORY_LONGITUDE_SUM_PREFIX)) {
+                            categoryLongitudeSums.put(categoryOf(field, GridSummaryFields.CATEGORY_LONGITUDE_SUM_PREFIX),
+                                    Double.parseDouble(value));
+                        } else if (field.startsWith(GridSummaryFields.CATEGORY_PREFIX)) {
+                            categoryCounts.put(categoryOf(field, GridSummaryFields.CATEGORY_PREFIX), Long.parseLong(value));
+                        }
+                    } catch (IllegalArgumentException ignored) {
+                        // 삭제된 카테고리는 건너뜀
+                    }
+                }
+            }
+        }
+        return new GridSummaryDto(gridId, level, count, latitudeSum, longitudeSum,
+                categoryCounts, categoryLatitudeSums, categoryLongitudeSums);
+    }
+
+    private static EventType categoryOf(String field, String prefix) {
+        return EventType.valueOf(field.substring(prefix.length()));
+    }
+
+    /**
+     * DB 조회 결과를 셀 단위로 모을 때 사용하는 누적기
+     */
+    public static final class Accumulator {
+        private final long gridId;
+        private final int level;
+        private final Map<EventType, Long> categoryCounts = new EnumMap<>(EventType.class);
+        private final Map<EventType, Double> categoryLatitudeSums = new EnumMap<>(EventType.class);
+        private final Map<EventType, Double> categoryLongitudeSums = new EnumMap<>(EventType.class);
+        private long count;
+        private double latitudeSum;
+        private double longitudeSum;
+
+        public Accumulator(long gridId, int level) {
+            this.gridId = gridId;
+            this.level = level;
+        }
+
+        public void add(double latitude, double longitude, Set<EventType> categories) {
+            count++;
+            latitudeSum += latitude;
+            longitudeSum += longitude;
+            for (EventType type : categories) {
+                categoryCounts.merge(type, 1L, Long::sum);
+                categoryLatitudeSums.merge(type, latitude, Double::sum);
+                categoryLongitudeSums.merge(type, longitude, Double::sum);
+            }
+        }
+
+        public GridSummaryDto toDto() {
+            return new GridSummaryDto(gridId, level, count, latitudeSum, longitudeSum,
+                    categoryCounts, categoryLatitudeSums, categoryLongitudeSums);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.runinto.event.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.util.Base64;
+
+/**
+ * 커서 페이징의 위치 (creationTime DESC, id DESC 정렬에서 마지막으로 본 행)
+ * 클라이언트에는 encode()한 불투명 토큰으로만 노출합니다.
+ */
+public record EventCursor(Time creationTime, Long eventId) {
+
+    public String encode() {
+        String raw = creationTime.getTime() + ":" + eventId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 잘못된 토큰이면 IllegalArgumentException
+    public static EventCursor decode(String token) {
+        String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        int separator = raw.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+        try {
+            long millis = Long.parseLong(raw.substring(0, separator));
+            long eventId = Long.parseLong(raw.substring(separator + 1));
+            return new EventCursor(new Time(millis), eventId);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.runinto.event.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventClusterListResponse {
+    private int level; // 0: 500m, 1: 4km, 2: 32km 셀
+    private List<EventClusterResponse> clusters;
+}
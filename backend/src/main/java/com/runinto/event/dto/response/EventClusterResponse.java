@@ -0,0 +1,45 @@
+package com.runinto.event.dto.response;
+
+import com.runinto.event.domain.EventType;
+import com.runinto.event.dto.cache.GridSummaryDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 지도 축소 화면에서 마커 대신 그리는 클러스터 (그리드 셀 하나)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventClusterResponse {
+    private String clusterId; // 그리드 셀 키 (16진수)
+    private double latitude;  // 셀 안 이벤트들의 중심 좌표
+    private double longitude;
+    private long count;
+    private Map<EventType, Long> categories;
+
+    // categories가 비어있지 않으면 해당 카테고리의 개수/중심/분포만 남깁니다 (목록 API의 카테고리 필터와 같은 기준).
+    public static EventClusterResponse from(GridSummaryDto summary, Set<EventType> categories) {
+        GridSummaryDto filtered = summary.filtered(categories);
+        Map<EventType, Long> histogram = new EnumMap<>(EventType.class);
+        filtered.categoryCounts().forEach((type, value) -> {
+            if (value > 0) {
+                histogram.put(type, value);
+            }
+        });
+        return EventClusterResponse.builder()
+                .clusterId(Long.toHexString(filtered.gridId()))
+                .latitude(filtered.centroidLatitude())
+                .longitude(filtered.centroidLongitude())
+                .count(filtered.count())
+                .categories(histogram)
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.runinto.event.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSliceResponse {
+    private List<EventResponse> events;
+    private String nextCursor;   // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+    private Long totalElements;  // withTotal=true 일 때만 채워짐
+}
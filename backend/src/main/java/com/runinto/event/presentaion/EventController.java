@@ -8,10 +8,13 @@ import com.runinto.event.domain.EventParticipant;
 import com.runinto.event.domain.EventType;
 import com.runinto.event.domain.ParticipationStatus;
 import com.runinto.event.dto.request.CreateEventRequestDto;
+import com.runinto.event.dto.request.EventCursor;
 import com.runinto.event.dto.request.FindEventRequest;
 import com.runinto.event.dto.request.UpdateEventRequest;
+import com.runinto.event.dto.response.EventClusterListResponse;
 import com.runinto.event.dto.response.EventListResponse;
 import com.runinto.event.dto.response.EventResponse;
+import com.runinto.event.dto.response.EventSliceResponse;
 import com.runinto.event.service.EventService;
 import com.runinto.user.domain.User;
 import com.runinto.user.dto.response.EventParticipantsResponse;
@@ -20,6 +23,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -79,19 +84,7 @@ public class EventController {
     public ResponseEntity<EventResponse> UpdateEventV1(
             @PathVariable("event_id") Long eventId,
             @RequestBody UpdateEventRequest eventRequest) {
-        Event event = eventService.findById(eventId);
-        if(event == null) {
-            return ResponseEntity.notFound().build();
-        }
-
-        if (eventRequest.getTitle() != null) event.setTitle(eventRequest.getTitle());
-        if (eventRequest.getDescription() != null) event.setDescription(eventRequest.getDescription());
-        if (eventRequest.getMaxParticipants() != null) event.setMaxParticipants(eventRequest.getMaxParticipants());
-        if (eventRequest.getLatitude() != null) event.setLatitude(eventRequest.getLatitude());
-        if (eventRequest.getLongitude() != null) event.setLongitude(eventRequest.getLongitude());
-        if (eventRequest.getIsPublic() != null) event.setPublic(eventRequest.getIsPublic());
-
-        eventService.save(event);
+        Event event = eventService.update(eventId, eventRequest);
 
         EventResponse eventResponse = EventResponse.from(event);
         return ResponseEntity.ok(eventResponse);
@@ -170,6 +163,67 @@ public class EventController {
         return ResponseEntity.ok(eventsPage);
     }
 
+    //커서 기반 목록 조회 (무한 스크롤용, 전체 개수는 요청 시에만 계산)
+    @GetMapping("/cursor")
+    public ResponseEntity<EventSliceResponse> GetAllEventsV3(
+            @RequestParam(required = false) @DecimalMin("-90.0") @DecimalMax("90.0") Double swLat,
+            @RequestParam(required = false) @DecimalMin("-90.0") @DecimalMax("90.0") Double neLat,
+            @RequestParam(required = false) @DecimalMin("-180.0") @DecimalMax("180.0") Double swLng,
+            @RequestParam(required = false) @DecimalMin("-180.0") @DecimalMax("180.0") Double neLng,
+            @RequestParam(required = false) Set<EventType> category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        if (swLat != null && swLng != null && neLat != null && neLng != null) {
+            if (neLat < swLat || neLng < swLng) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 범위입니다.");
+            }
+        }
+
+        EventCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                after = EventCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.");
+            }
+        }
+
+        FindEventRequest condition = FindEventRequest.builder()
+                .swlatitude(swLat).nelatitude(neLat)
+                .swlongitude(swLng).nelongitude(neLng)
+                .categories(category)
+                .build();
+
+        return ResponseEntity.ok(eventService.findByDynamicConditionWithCursor(condition, after, size, withTotal));
+    }
+
+    //지도 축소 화면용 클러스터 조회 (그리드 셀 요약 기반)
+    @GetMapping("/clusters")
+    public ResponseEntity<EventClusterListResponse> GetEventClustersV1(
+            @RequestParam @DecimalMin("-90.0") @DecimalMax("90.0") Double swLat,
+            @RequestParam @DecimalMin("-90.0") @DecimalMax("90.0") Double neLat,
+            @RequestParam @DecimalMin("-180.0") @DecimalMax("180.0") Double swLng,
+            @RequestParam @DecimalMin("-180.0") @DecimalMax("180.0") Double neLng,
+            @RequestParam @Min(0) @Max(21) int zoom,
+            @RequestParam(required = false) Set<EventType> category
+    ) {
+        if (neLat < swLat || neLng < swLng) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 범위입니다.");
+        }
+
+        FindEventRequest condition = FindEventRequest.builder()
+                .swlatitude(swLat).nelatitude(neLat)
+                .swlongitude(swLng).nelongitude(neLng)
+                .categories(category)
+                .build();
+
+        EventClusterListResponse clusters = eventService.findEventClusters(condition, zoom);
+        log.info("줌 {} → 레벨 {} 클러스터 {}개", zoom, clusters.getLevel(), clusters.getClusters().size());
+        return ResponseEntity.ok(clusters);
+    }
+
     @DeleteMapping("/{eventId}")
     public ResponseEntity<Void> deleteEvent(
             @PathVariable Long eventId,
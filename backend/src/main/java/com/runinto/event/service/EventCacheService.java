@@ -1,15 +1,39 @@
 package com.runinto.event.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.runinto.config.properties.GridCacheProperties;
 import com.runinto.event.domain.Event;
 import com.runinto.event.domain.repository.EventRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
+import com.runinto.event.domain.EventType;
 import com.runinto.event.dto.cache.EventCacheDto;
+import com.runinto.event.dto.cache.EventLocationRow;
+import com.runinto.event.dto.cache.GridCacheLookup;
+import com.runinto.event.dto.cache.GridSummaryDto;
+import com.runinto.util.GeoUtil;
+import common.cache.CacheKeys;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -17,36 +41,126 @@ import java.util.stream.Collectors;
 @Service
 public class EventCacheService {
 
+    // 집계를 시작할 때 읽은 버전 그대로일 때만 요약 해시를 교체 (그 사이 cacheConsumer가 증감을 처리했으면 쓰지 않음)
+    // KEYS[1]: 요약 키, KEYS[2]: 버전 키, ARGV[1]: 읽은 버전(없었으면 빈 문자열), ARGV[2]: TTL, ARGV[3..]: (필드, 값) 쌍
+    private static final byte[] WRITE_SUMMARY_SCRIPT = (
+            "if (redis.call('GET', KEYS[2]) or '') ~= ARGV[1] then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "for i = 3, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1").getBytes(StandardCharsets.UTF_8);
+
+    // 그리드 해시를 통째로 교체하고 TTL까지 한번에 설정 (다른 클라이언트가 중간 상태를 보지 못함)
+    // KEYS[1]: 그리드 키, KEYS[2]: 갱신 표시 키, ARGV[1]: 그리드 TTL, ARGV[2]: 갱신 표시 TTL(0이면 두지 않음),
+    // ARGV[3]: 갱신 표시 값, ARGV[4..]: (필드, 직렬화된 값) 쌍
+    private static final byte[] WRITE_GRID_SCRIPT = (
+            "redis.call('DEL', KEYS[1]) " +
+            "for i = 4, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "if ARGV[2] ~= '0' then redis.call('SET', KEYS[2], ARGV[3], 'PX', ARGV[2]) end " +
+            "return 0").getBytes(StandardCharsets.UTF_8);
+
+    // 캐시 TTL 10분 + 최대 1분 랜덤 지연 (같이 채워진 키가 한꺼번에 만료되지 않도록)
+    private static final long CACHE_TTL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final long CACHE_TTL_JITTER_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    // 내가 잡은 lease만 삭제 (TTL이 지나 다른 노드가 새로 잡은 lease는 건드리지 않음)
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>(
+            "for _, key in ipairs(KEYS) do " +
+            "  if redis.call('GET', key) == ARGV[1] then redis.call('DEL', key) end " +
+            "end " +
+            "return 0", Long.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate summaryRedisTemplate;
     private final EventRepository eventRepository;
-    // 💡 캐시 키 접두사 정의
-    private static final String EVENT_CACHE_PREFIX = "event::";
+    // L1: 노드 로컬 캐시 (Redis보다 먼저 조회)
+    private final Cache<Long, EventCacheDto> eventNearCache;
+    private final Cache<Long, List<EventCacheDto>> gridNearCache;
+    private final GridCacheProperties gridCacheProperties;
 
     public EventCacheService(@Qualifier("cacheRedisTemplate") RedisTemplate<String, Object> redisTemplate,
-                             EventRepository eventRepository) {
+                             @Qualifier("cacheStringRedisTemplate") StringRedisTemplate summaryRedisTemplate,
+                             EventRepository eventRepository,
+                             @Qualifier("eventNearCache") Cache<Long, EventCacheDto> eventNearCache,
+                             @Qualifier("gridNearCache") Cache<Long, List<EventCacheDto>> gridNearCache,
+                             GridCacheProperties gridCacheProperties) {
         this.redisTemplate = redisTemplate;
+        this.summaryRedisTemplate = summaryRedisTemplate;
         this.eventRepository = eventRepository;
+        this.eventNearCache = eventNearCache;
+        this.gridNearCache = gridNearCache;
+        this.gridCacheProperties = gridCacheProperties;
     }
 
-    // 캐시에서 그리드 목록 조회 (반환 타입: Map<String, List<EventResponse>>)
-    public Map<String, List<EventCacheDto>> findGridsFromCache(List<String> gridIds) {
-        if (gridIds == null || gridIds.isEmpty()) {
-            return new HashMap<>();
+    // 캐시에서 그리드 목록 조회 (stale-while-revalidate가 켜져 있으면 갱신 시점이 지난 셀도 함께 알려줌)
+    public GridCacheLookup findGridsFromCache(long[] gridIds) {
+        if (gridIds == null || gridIds.length == 0) {
+            return new GridCacheLookup(new HashMap<>(), List.of());
         }
-        List<Object> results = redisTemplate.opsForValue().multiGet(gridIds);
-        Map<String, List<EventCacheDto>> cachedGrids = new HashMap<>();
-        for (int i = 0; i < gridIds.size(); i++) {
-            if (results.get(i) != null) {
-                // 캐시에서 가져온 데이터를 EventResponse 리스트로 캐스팅
-                cachedGrids.put(gridIds.get(i), (List<EventCacheDto>) results.get(i));
+        Map<Long, List<EventCacheDto>> cachedGrids = new HashMap<>();
+        // 1. L1에서 먼저 찾고 없는 셀만 Redis로
+        List<Long> remoteGridIds = new ArrayList<>();
+        for (long gridId : gridIds) {
+            List<EventCacheDto> local = gridNearCache.getIfPresent(gridId);
+            if (local != null) {
+                cachedGrids.put(gridId, local);
+            } else {
+                remoteGridIds.add(gridId);
+            }
+        }
+        int localHits = cachedGrids.size();
+        List<Long> staleGridIds = new ArrayList<>();
+
+        if (!remoteGridIds.isEmpty()) {
+            boolean checkFreshness = gridCacheProperties.isStaleWhileRevalidate();
+            int remoteCount = remoteGridIds.size();
+            // 그리드 해시(HGETALL)와 갱신 표시 키(GET)를 한번의 파이프라인으로 함께 읽음
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> cacheOperations = (RedisOperations<String, Object>) operations;
+                    HashOperations<String, String, Object> hashOps = cacheOperations.opsForHash();
+                    remoteGridIds.forEach(gridId -> hashOps.entries(CacheKeys.grid(gridId)));
+                    if (checkFreshness) {
+                        remoteGridIds.forEach(gridId -> cacheOperations.opsForValue().get(CacheKeys.gridFresh(gridId)));
+                    }
+                    return null;
+                }
+            });
+            for (int i = 0; i < remoteCount; i++) {
+                List<EventCacheDto> events = toGridEvents((Map<Object, Object>) results.get(i));
+                if (events != null) {
+                    cachedGrids.put(remoteGridIds.get(i), events);
+                    if (checkFreshness && results.get(remoteCount + i) == null) {
+                        staleGridIds.add(remoteGridIds.get(i));
+                    } else {
+                        gridNearCache.put(remoteGridIds.get(i), events);
+                    }
+                }
+            }
+        }
+        log.info("{}개의 그리드 중 {}개를 캐시에서 찾았습니다. (L1 {}개, 갱신 필요 {}개)",
+                gridIds.length, cachedGrids.size(), localHits, staleGridIds.size());
+        return new GridCacheLookup(cachedGrids, staleGridIds);
+    }
+
+    // 해시 필드 중 이벤트만 꺼냄. 표시 필드까지 없으면(키 없음) 캐시 미스로 null 반환
+    private static List<EventCacheDto> toGridEvents(Map<Object, Object> hash) {
+        if (hash == null || hash.isEmpty()) {
+            return null;
+        }
+        List<EventCacheDto> events = new ArrayList<>(hash.size());
+        for (Object value : hash.values()) {
+            if (value instanceof EventCacheDto event) {
+                events.add(event);
             }
         }
-        log.info("{}개의 그리드 중 {}개를 캐시에서 찾았습니다.", gridIds.size(), cachedGrids.size());
-        return cachedGrids;
+        return events;
     }
 
     // DB에서 조회 후 DTO로 변환하여 캐시에 저장
-    public Map<String, List<EventCacheDto>> findGridsFromDbAndCache(List<String> missedGridIds) {
+    public Map<Long, List<EventCacheDto>> findGridsFromDbAndCache(List<Long> missedGridIds) {
         // 1. DB에서 Event 목록 조회
         List<Event> eventsFromDb = eventRepository.findByGridIdInWithCategories(missedGridIds);
 
@@ -56,36 +170,144 @@ public class EventCacheService {
                 .toList();
 
         // 💡 변환된 EventCacheDto를 gridId로 그룹화
-        Map<String, List<EventCacheDto>> eventsByGridId = eventCacheDtos.stream()
+        Map<Long, List<EventCacheDto>> eventsByGridId = eventCacheDtos.stream()
                 .collect(Collectors.groupingBy(EventCacheDto::gridId));
 
+        // 💡 이벤트가 없는 셀도 빈 목록으로 저장해 매번 DB로 가지 않도록 함
+        Map<Long, List<EventCacheDto>> grids = new HashMap<>();
+        for (Long gridId : missedGridIds) {
+            grids.put(gridId, eventsByGridId.getOrDefault(gridId, List.of()));
+        }
+
         // 4. 💡 DTO 맵을 Redis에 저장
-        if (!eventsByGridId.isEmpty()) {
-            Map<String, Object> mapToCache = new HashMap<>(eventsByGridId);
-            redisTemplate.opsForValue().multiSet(mapToCache);
-            eventsByGridId.keySet().forEach(key -> redisTemplate.expire(key, 10, TimeUnit.MINUTES));
+        writeGridsWithTtl(grids);
+        gridNearCache.putAll(grids);
+        return grids;
+    }
+    // 그리드 요약 해시를 파이프라인으로 한번에 조회 (키가 없으면 빈 해시 → 미스)
+    public Map<Long, GridSummaryDto> findGridSummariesFromCache(long[] gridIds) {
+        if (gridIds == null || gridIds.length == 0) {
+            return new HashMap<>();
+        }
+        List<Object> results = summaryRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                HashOperations<String, Object, Object> hashOps = ((RedisOperations<String, String>) operations).opsForHash();
+                for (long gridId : gridIds) {
+                    hashOps.entries(CacheKeys.gridSummary(gridId));
+                }
+                return null;
+            }
+        });
+
+        Map<Long, GridSummaryDto> summaries = new HashMap<>();
+        for (int i = 0; i < gridIds.length; i++) {
+            Map<Object, Object> hash = (Map<Object, Object>) results.get(i);
+            if (hash != null && !hash.isEmpty()) {
+                summaries.put(gridIds[i], GridSummaryDto.fromHash(gridIds[i], GeoUtil.levelOf(gridIds[i]), hash));
+            }
         }
-        return eventsByGridId;
+        log.info("{}개의 그리드 요약 중 {}개를 캐시에서 찾았습니다.", gridIds.length, summaries.size());
+        return summaries;
     }
+
+    // 놓친 셀들을 덮는 영역을 한번의 프로젝션 쿼리로 읽어 셀별로 집계한 뒤 캐시에 저장
+    public Map<Long, GridSummaryDto> findGridSummariesFromDbAndCache(int level, List<Long> missedGridIds) {
+        if (missedGridIds == null || missedGridIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        // 💡 DB를 읽기 전에 버전을 기억 → 집계하는 동안 반영된 증감이 덮어써지거나 두번 더해지지 않도록
+        List<String> versions = summaryRedisTemplate.opsForValue().multiGet(
+                missedGridIds.stream().map(CacheKeys::gridSummaryVersion).toList());
+        long minLatIndex = Long.MAX_VALUE, maxLatIndex = Long.MIN_VALUE;
+        long minLngIndex = Long.MAX_VALUE, maxLngIndex = Long.MIN_VALUE;
+        Map<Long, GridSummaryDto.Accumulator> accumulators = new HashMap<>();
+        for (Long gridId : missedGridIds) {
+            minLatIndex = Math.min(minLatIndex, GeoUtil.decodeLatitudeIndex(gridId));
+            maxLatIndex = Math.max(maxLatIndex, GeoUtil.decodeLatitudeIndex(gridId));
+            minLngIndex = Math.min(minLngIndex, GeoUtil.decodeLongitudeIndex(gridId));
+            maxLngIndex = Math.max(maxLngIndex, GeoUtil.decodeLongitudeIndex(gridId));
+            accumulators.put(gridId, new GridSummaryDto.Accumulator(gridId, level));
+        }
+
+        List<EventLocationRow> rows = eventRepository.findLocationsInArea(
+                minLatIndex * GeoUtil.latitudeStep(level), minLngIndex * GeoUtil.longitudeStep(level),
+                (maxLatIndex + 1) * GeoUtil.latitudeStep(level), (maxLngIndex + 1) * GeoUtil.longitudeStep(level));
+
+        // 카테고리 수만큼 나온 행을 이벤트 단위로 다시 묶습니다.
+        Map<Long, List<EventLocationRow>> rowsByEvent = rows.stream()
+                .collect(Collectors.groupingBy(EventLocationRow::eventId));
+        for (List<EventLocationRow> eventRows : rowsByEvent.values()) {
+            EventLocationRow first = eventRows.get(0);
+            GridSummaryDto.Accumulator accumulator =
+                    accumulators.get(GeoUtil.getGridId(level, first.latitude(), first.longitude()));
+            if (accumulator == null) {
+                continue; // 영역 경계에 걸린, 요청하지 않은 셀의 이벤트
+            }
+            Set<EventType> categories = EnumSet.noneOf(EventType.class);
+            for (EventLocationRow row : eventRows) {
+                if (row.category() != null) {
+                    categories.add(row.category());
+                }
+            }
+            accumulator.add(first.latitude(), first.longitude(), categories);
+        }
+
+        Map<Long, GridSummaryDto> summaries = new HashMap<>();
+        accumulators.forEach((gridId, accumulator) -> summaries.put(gridId, accumulator.toDto()));
+
+        // 빈 셀도 count=0으로 저장해 다음 요청에서 다시 DB를 보지 않도록 합니다.
+        summaryRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < missedGridIds.size(); i++) {
+                long gridId = missedGridIds.get(i);
+                String version = versions == null || versions.get(i) == null ? "" : versions.get(i);
+                Map<String, String> hash = summaries.get(gridId).toHash();
+                byte[][] keysAndArgs = new byte[2 + 2 + 2 * hash.size()][];
+                int j = 0;
+                keysAndArgs[j++] = utf8(CacheKeys.gridSummary(gridId));
+                keysAndArgs[j++] = utf8(CacheKeys.gridSummaryVersion(gridId));
+                keysAndArgs[j++] = utf8(version);
+                keysAndArgs[j++] = utf8(Long.toString(jitteredTtlMillis()));
+                for (Map.Entry<String, String> field : hash.entrySet()) {
+                    keysAndArgs[j++] = utf8(field.getKey());
+                    keysAndArgs[j++] = utf8(field.getValue());
+                }
+                connection.scriptingCommands().eval(WRITE_SUMMARY_SCRIPT, ReturnType.INTEGER, 2, keysAndArgs);
+            }
+            return null;
+        });
+        return summaries;
+    }
+
     // 💡ID 목록으로 캐시에서 EventCacheDto 조회
     public Map<Long, EventCacheDto> findEventsByIds(List<Long> eventIds) {
         if (eventIds == null || eventIds.isEmpty()) {
             return new HashMap<>();
         }
 
-        List<String> cacheKeys = eventIds.stream()
-                .map(id -> EVENT_CACHE_PREFIX + id)
+        // 💡 L1에 있는 것은 바로 사용 (Redis 왕복/JSON 역직렬화 없음)
+        Map<Long, EventCacheDto> cachedEvents = new HashMap<>(eventNearCache.getAllPresent(eventIds));
+        int localHits = cachedEvents.size();
+
+        List<Long> remoteIds = eventIds.stream()
+                .filter(id -> !cachedEvents.containsKey(id))
                 .collect(Collectors.toList());
 
-        List<Object> results = redisTemplate.opsForValue().multiGet(cacheKeys);
-        Map<Long, EventCacheDto> cachedEvents = new HashMap<>();
+        if (!remoteIds.isEmpty()) {
+            List<String> cacheKeys = remoteIds.stream()
+                    .map(CacheKeys::event)
+                    .collect(Collectors.toList());
 
-        for (int i = 0; i < eventIds.size(); i++) {
-            if (results != null && results.get(i) != null) {
-                cachedEvents.put(eventIds.get(i), (EventCacheDto) results.get(i));
+            List<Object> results = redisTemplate.opsForValue().multiGet(cacheKeys);
+            for (int i = 0; i < remoteIds.size(); i++) {
+                if (results != null && results.get(i) != null) {
+                    EventCacheDto dto = (EventCacheDto) results.get(i);
+                    cachedEvents.put(remoteIds.get(i), dto);
+                    eventNearCache.put(remoteIds.get(i), dto);
+                }
             }
         }
-        log.info("{}개의 ID 중 {}개를 캐시에서 찾았습니다.", eventIds.size(), cachedEvents.size());
+        log.info("{}개의 ID 중 {}개를 캐시에서 찾았습니다. (L1 {}개)", eventIds.size(), cachedEvents.size(), localHits);
         return cachedEvents;
     }
 
@@ -97,26 +319,120 @@ public class EventCacheService {
 
         Map<String, Object> mapToCache = eventDtos.stream()
                 .collect(Collectors.toMap(
-                        dto -> EVENT_CACHE_PREFIX + dto.eventId(), // Key: "event::1"
+                        dto -> CacheKeys.event(dto.eventId()), // Key: "event::1"
                         dto -> dto // Value: EventCacheDto 객체
                 ));
 
-        redisTemplate.opsForValue().multiSet(mapToCache);
-        // 각 키에 만료 시간 설정
-        mapToCache.keySet().forEach(key -> redisTemplate.expire(key, 10, TimeUnit.MINUTES));
+        writeWithTtl(mapToCache);
+        eventDtos.forEach(dto -> eventNearCache.put(dto.eventId(), dto));
         log.info("{}개의 이벤트를 캐시에 저장했습니다.", mapToCache.size());
     }
 
+    // 💡 키마다 SET key value PX ttl 을 파이프라인으로 한번에 전송 (값과 TTL이 원자적으로 함께 설정됨)
+    private void writeWithTtl(Map<String, Object> values) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> cacheOperations = (RedisOperations<String, Object>) operations;
+                values.forEach((key, value) ->
+                        cacheOperations.opsForValue().set(key, value, jitteredTtlMillis(), TimeUnit.MILLISECONDS));
+                return null;
+            }
+        });
+    }
+
+    // 그리드는 eventId → 이벤트 해시로 저장 (cacheConsumer가 이벤트 하나만 HSET/HDEL로 고칠 수 있도록)
+    // stale-while-revalidate가 켜져 있으면 값은 staleWindow만큼 더 보관하고 갱신 표시 키를 따로 둠
+    // 💡 셀마다 WRITE_GRID_SCRIPT 한번(DEL + HSET + PEXPIRE + 갱신 표시)을 파이프라인으로 전송
+    //    → 다른 클라이언트(cacheConsumer의 패치)가 중간에 끼어들지 못하고, 연결이 끊겨도 TTL 없는 해시가 남지 않음
+    @SuppressWarnings("unchecked")
+    private void writeGridsWithTtl(Map<Long, List<EventCacheDto>> grids) {
+        boolean staleWhileRevalidate = gridCacheProperties.isStaleWhileRevalidate();
+        long staleWindowMillis = gridCacheProperties.getStaleWindow().toMillis();
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        RedisSerializer<Object> hashValueSerializer = (RedisSerializer<Object>) redisTemplate.getHashValueSerializer();
+        byte[] freshValue = valueSerializer.serialize(Boolean.TRUE);
+        byte[] marker = hashValueSerializer.serialize(Boolean.TRUE);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            grids.forEach((gridId, events) -> {
+                long ttl = jitteredTtlMillis();
+                byte[][] keysAndArgs = new byte[2 + 3 + 2 * (events.size() + 1)][];
+                int i = 0;
+                keysAndArgs[i++] = utf8(CacheKeys.grid(gridId));
+                keysAndArgs[i++] = utf8(CacheKeys.gridFresh(gridId));
+                keysAndArgs[i++] = utf8(Long.toString(staleWhileRevalidate ? ttl + staleWindowMillis : ttl));
+                keysAndArgs[i++] = utf8(Long.toString(staleWhileRevalidate ? ttl : 0));
+                keysAndArgs[i++] = freshValue;
+                // 빈 셀도 캐시 히트로 구분되도록 표시 필드를 항상 넣음
+                keysAndArgs[i++] = utf8(CacheKeys.GRID_MARKER_FIELD);
+                keysAndArgs[i++] = marker;
+                for (EventCacheDto event : events) {
+                    keysAndArgs[i++] = utf8(String.valueOf(event.eventId()));
+                    keysAndArgs[i++] = hashValueSerializer.serialize(event);
+                }
+                connection.scriptingCommands().eval(WRITE_GRID_SCRIPT, ReturnType.INTEGER, 2, keysAndArgs);
+            });
+            return null;
+        });
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 그리드별 lease를 SET NX PX로 한번에 시도하고, 잡은 셀 목록을 반환합니다.
+     */
+    public List<Long> tryAcquireGridLeases(List<Long> gridIds, String owner, Duration ttl) {
+        List<Object> results = summaryRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                for (Long gridId : gridIds) {
+                    stringOperations.opsForValue().setIfAbsent(CacheKeys.gridLease(gridId), owner, ttl);
+                }
+                return null;
+            }
+        });
+        List<Long> acquired = new ArrayList<>();
+        for (int i = 0; i < gridIds.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i))) {
+                acquired.add(gridIds.get(i));
+            }
+        }
+        return acquired;
+    }
+
+    public void releaseGridLeases(List<Long> gridIds, String owner) {
+        List<String> keys = gridIds.stream().map(CacheKeys::gridLease).toList();
+        summaryRedisTemplate.execute(RELEASE_LEASE_SCRIPT, keys, owner);
+    }
+
+    private static long jitteredTtlMillis() {
+        return CACHE_TTL_MILLIS + ThreadLocalRandom.current().nextLong(CACHE_TTL_JITTER_MILLIS + 1);
+    }
+
     // 💡 [신규] 개별 이벤트 캐시 무효화
     public void invalidateEventCache(Long eventId) {
-        String cacheKey = EVENT_CACHE_PREFIX + eventId;
+        String cacheKey = CacheKeys.event(eventId);
         log.info("이벤트 캐시 무효화: {}", cacheKey);
+        eventNearCache.invalidate(eventId);
         redisTemplate.delete(cacheKey);
     }
 
+    // 이 노드의 L1에서만 제거 (cache-management-topic 수신 시)
+    public void evictNearCache(Long gridId, Long eventId) {
+        if (gridId != null) {
+            gridNearCache.invalidate(gridId);
+        }
+        if (eventId != null) {
+            eventNearCache.invalidate(eventId);
+        }
+    }
+
     // 특정 그리드 캐시 무효화
-    /*public void invalidateGridCache(String gridId) {
+    /*public void invalidateGridCache(long gridId) {
         log.info("캐시 무효화: {}", gridId);
-        redisTemplate.delete(gridId);
+        redisTemplate.delete(CacheKeys.grid(gridId));
     }*/
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+package com.runinto.event.service;
+
+import com.runinto.config.serializer.EventCacheRedisSerializer;
+import com.runinto.event.dto.cache.EventCacheDto;
+import com.runinto.event.dto.EventCategoryInfoForResponseDto;
+import com.runinto.kafka.outbox.OutboxService;
+import com.runinto.util.GeoUtil;
+import common.kafka.dto.CacheUpdateAction;
+import common.kafka.dto.CacheUpdateMessage;
+import common.kafka.dto.GridSummaryDelta;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 이벤트 변경을 cache-management-topic의 델타 메시지로 발행합니다.
+ * cacheConsumer는 메시지의 payload를 그리드 해시에 그대로 반영하므로 셀 전체를 다시 읽지 않습니다.
+ * 셀 요약의 증감도 같은 메시지에 담아 cacheConsumer가 함께 반영합니다.
+ * 메시지는 호출한 쪽 트랜잭션의 아웃박스에 기록되고 OutboxRelay가 전송합니다.
+ */
+@Slf4j
+@Component
+public class EventCacheUpdatePublisher {
+
+    private static final String TOPIC = "cache-management-topic";
+
+    private final OutboxService outboxService;
+    private final EventCacheRedisSerializer serializer = new EventCacheRedisSerializer();
+
+    public EventCacheUpdatePublisher(OutboxService outboxService) {
+        this.outboxService = outboxService;
+    }
+
+    public void eventAdded(EventCacheDto event) {
+        send(upsert(CacheUpdateAction.EVENT_ADDED, event, List.of(summaryDelta(event, 1))));
+    }
+
+    public void eventRemoved(EventCacheDto event) {
+        send(CacheUpdateMessage.removed(event.gridId(), event.eventId(), List.of(summaryDelta(event, -1))));
+    }
+
+    // 그리드가 바뀌었으면 이전 셀에서 제거 + 새 셀에 추가
+    public void eventUpdated(EventCacheDto previous, EventCacheDto current) {
+        if (!Objects.equals(previous.gridId(), current.gridId())) {
+            eventRemoved(previous);
+            eventAdded(current);
+            return;
+        }
+        // 위치나 카테고리가 바뀐 경우에만 셀 요약을 옮겨줍니다.
+        List<GridSummaryDelta> summaryDeltas = List.of();
+        if (previous.latitude() != current.latitude()
+                || previous.longitude() != current.longitude()
+                || !Objects.equals(previous.eventCategories(), current.eventCategories())) {
+            summaryDeltas = List.of(summaryDelta(previous, -1), summaryDelta(current, 1));
+        }
+        send(upsert(CacheUpdateAction.EVENT_UPDATED, current, summaryDeltas));
+    }
+
+    public void participantsChanged(EventCacheDto event) {
+        send(upsert(CacheUpdateAction.PARTICIPANTS_CHANGED, event, List.of()));
+    }
+
+    private CacheUpdateMessage upsert(CacheUpdateAction action, EventCacheDto event, List<GridSummaryDelta> summaryDeltas) {
+        return CacheUpdateMessage.upsert(action, event.gridId(), event.eventId(), serializer.serialize(event), summaryDeltas);
+    }
+
+    // 이벤트가 속한 모든 레벨의 셀 요약에 count만큼 반영
+    static GridSummaryDelta summaryDelta(EventCacheDto event, int count) {
+        List<Long> gridIds = new ArrayList<>(GeoUtil.LEVEL_COUNT);
+        for (int level = 0; level < GeoUtil.LEVEL_COUNT; level++) {
+            gridIds.add(GeoUtil.getGridId(level, event.latitude(), event.longitude()));
+        }
+        List<String> categories = new ArrayList<>();
+        if (event.eventCategories() != null) {
+            for (EventCategoryInfoForResponseDto category : event.eventCategories()) {
+                if (category != null && category.getCategory() != null) {
+                    categories.add(category.getCategory());
+                }
+            }
+        }
+        return new GridSummaryDelta(gridIds, count, event.latitude(), event.longitude(), categories);
+    }
+
+    private void send(CacheUpdateMessage message) {
+        log.debug("캐시 델타 기록: action={}, gridId={}, eventId={}",
+                message.getAction(), message.getGridId(), message.getEventId());
+        // 💡 그리드 ID를 키로 사용 → 같은 셀의 델타는 같은 파티션에서 순서대로 적용됨
+        outboxService.append(TOPIC, String.valueOf(message.getGridId()), message);
+    }
+}
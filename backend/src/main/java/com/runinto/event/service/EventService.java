@@ -4,35 +4,48 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.runinto.chat.domain.repository.chatroom.Chatroom;
 import com.runinto.chat.domain.repository.chatroom.ChatroomParticipant;
+import com.runinto.chat.domain.repository.chatroom.ChatroomParticipantJPARepository;
+import com.runinto.chat.dto.ChatroomMemberJoinedEvent;
+import com.runinto.chat.dto.ChatroomMemberLeftEvent;
 import com.runinto.event.domain.*;
 import com.runinto.event.domain.repository.EventParticipantRepository;
 import com.runinto.event.domain.repository.EventRepository;
 import com.runinto.event.domain.repository.EventSpecifications;
 import com.runinto.event.dto.request.CreateEventRequestDto;
+import com.runinto.event.dto.request.EventCursor;
 import com.runinto.event.dto.request.FindEventRequest;
+import com.runinto.event.dto.request.UpdateEventRequest;
+import com.runinto.event.dto.response.EventClusterListResponse;
+import com.runinto.event.dto.response.EventClusterResponse;
 import com.runinto.event.dto.response.EventResponse;
+import com.runinto.event.dto.response.EventSliceResponse;
 import com.runinto.exception.event.EventNotFoundException;
 import com.runinto.exception.event.PermissionDeniedException;
 import com.runinto.exception.user.UserIdNotFoundException;
-import common.kafka.dto.CacheUpdateMessage;// common 모듈의 DTO를 import
-import com.runinto.kafka.service.KafkaProducerService;
 import com.runinto.user.domain.User;
 import com.runinto.user.domain.repository.UserH2Repository;
 import com.runinto.util.GeoUtil;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import com.runinto.event.dto.cache.EventCacheDto;
+import com.runinto.event.dto.cache.GridCacheLookup;
+import com.runinto.event.dto.cache.GridSummaryDto;
 @Slf4j
 @Service
 public class EventService {
@@ -40,18 +53,40 @@ public class EventService {
     private final UserH2Repository userH2Repository;
     private final EventRepository eventRepository;
     private final EventCacheService eventCacheService;
-    private final KafkaProducerService kafkaProducerService;
+    private final EventCacheUpdatePublisher cacheUpdatePublisher;
     private final EventParticipantRepository eventParticipantRepository;
+    private final EventSpatialIndex eventSpatialIndex;
+    private final GridCacheLoader gridCacheLoader;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ChatroomParticipantJPARepository chatroomParticipantRepository;
+
+    // 인덱스 적재 전 그리드 캐시 조회가 한번에 읽는 최대 셀 수 (넘으면 DB에서 바로 조회)
+    private static final int MAX_GRID_CACHE_CELLS = 1024;
+    // 그리드 요약 조회 한번에 읽는 최대 셀(=Redis 키) 수
+    private static final int MAX_SUMMARY_CELLS = 64;
+    // 클러스터 조회는 화면 크기에 비례해 셀 수가 늘어나므로 상한을 조금 넉넉하게 둡니다.
+    private static final int MAX_CLUSTER_CELLS = 256;
+    // 이 줌 이상이면 500m 셀, CLUSTER_ZOOM_LEVEL_1 이상이면 4km 셀 ... (셀 하나가 화면에서 60~100px 정도, 레벨마다 줌 3단계)
+    private static final int CLUSTER_ZOOM_LEVEL_0 = 14;
+    private static final int CLUSTER_ZOOM_LEVEL_1 = 11;
+    private static final int CLUSTER_ZOOM_LEVEL_2 = 8;
+    private static final int CLUSTER_ZOOM_LEVEL_3 = 5;
 
 
     public EventService(final EventRepository eventRepository, final UserH2Repository userH2Repository,
-                        EventCacheService eventCacheService, KafkaProducerService kafkaProducerService,
-                        EventParticipantRepository eventParticipantRepository) {
+                        EventCacheService eventCacheService, EventCacheUpdatePublisher cacheUpdatePublisher,
+                        EventParticipantRepository eventParticipantRepository, EventSpatialIndex eventSpatialIndex,
+                        GridCacheLoader gridCacheLoader, ApplicationEventPublisher applicationEventPublisher,
+                        ChatroomParticipantJPARepository chatroomParticipantRepository) {
         this.eventRepository = eventRepository;
         this.userH2Repository = userH2Repository;
         this.eventCacheService = eventCacheService;
-        this.kafkaProducerService = kafkaProducerService;
+        this.cacheUpdatePublisher = cacheUpdatePublisher;
         this.eventParticipantRepository = eventParticipantRepository;
+        this.eventSpatialIndex = eventSpatialIndex;
+        this.gridCacheLoader = gridCacheLoader;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.chatroomParticipantRepository = chatroomParticipantRepository;
     }
 
     public Event findById(long id) {
@@ -63,92 +98,101 @@ public class EventService {
         return eventRepository.findByHostUserId(userId);
     }
 
-    public void save(Event event) {
-        eventRepository.save(event);
+    /**
+     * 요청에 담긴 필드만 바꿔 저장합니다.
+     * 변경 전 상태(셀 키, 좌표, 카테고리)는 바꾸기 전에 엔티티에서 읽습니다.
+     * (인메모리 인덱스는 적재 전이면 비어 있고, 다른 노드의 델타가 늦게 오면 낡아 있을 수 있음)
+     */
+    @Transactional
+    public Event update(long eventId, UpdateEventRequest request) {
+        Event event = findById(eventId);
+        EventCacheDto previous = EventCacheDto.from(event);
+
+        if (request.getTitle() != null) event.setTitle(request.getTitle());
+        if (request.getDescription() != null) event.setDescription(request.getDescription());
+        if (request.getMaxParticipants() != null) event.setMaxParticipants(request.getMaxParticipants());
+        if (request.getLatitude() != null) event.setLatitude(request.getLatitude());
+        if (request.getLongitude() != null) event.setLongitude(request.getLongitude());
+        if (request.getIsPublic() != null) event.setPublic(request.getIsPublic());
+
+        return save(event, previous);
+    }
+
+    private Event save(Event event, EventCacheDto previous) {
+        // 좌표가 바뀌었을 수 있으므로 셀 키를 다시 계산
+        event.setGridId(GeoUtil.getGridId(event.getLatitude(), event.getLongitude()));
+        Event saved = eventRepository.save(event);
+        EventCacheDto current = EventCacheDto.from(saved);
+
+        // 셀을 통째로 지우지 않고 바뀐 이벤트만 캐시에 반영 (셀이 바뀌면 이전 셀에서 제거) - 같은 트랜잭션의 아웃박스에 기록
+        // 셀 요약 증감도 같은 메시지에 담겨 cacheConsumer가 반영
+        cacheUpdatePublisher.eventUpdated(previous, current);
+
+        runAfterCommit(() -> eventSpatialIndex.put(current));
+        return saved;
     }
 
     //위치 필터는 필수, 카테고리 필터는 선택
     public List<EventResponse> findByDynamicCondition(FindEventRequest request) {
+        // 💡 인덱스가 적재된 이후에는 메모리에서 바로 조회 (Redis/DB 왕복 없음)
+        if (eventSpatialIndex.isReady()) {
+            return eventSpatialIndex.search(request.getSwlatitude(), request.getSwlongitude(),
+                            request.getNelatitude(), request.getNelongitude(), request.getCategories())
+                    .stream()
+                    .map(EventResponse::from)
+                    .collect(Collectors.toList());
+        }
+        return findByGridCache(request);
+    }
+
+    // 인덱스 적재 전에 사용하는 그리드 캐시 기반 조회
+    private List<EventResponse> findByGridCache(FindEventRequest request) {
+        // 💡 셀 캐시는 500m 레벨에만 있으므로 넓은 범위는 셀을 나열하지 않고 조건 조회로 처리
+        if (GeoUtil.countCells(0, request.getSwlatitude(), request.getSwlongitude(),
+                request.getNelatitude(), request.getNelongitude()) > MAX_GRID_CACHE_CELLS) {
+            List<Long> eventIds = eventRepository.findIdsWithPaging(createSpecificationFromRequest(request),
+                    Pageable.unpaged()).getContent();
+            return eventIds.isEmpty() ? List.of() : findEventsByIdsInOrder(eventIds);
+        }
         boolean hasCategoryFilter = request.getCategories() != null && !request.getCategories().isEmpty();
 
-        List<String> requiredGridIds = GeoUtil.getGridIdsForBoundingBox(request.getSwlatitude(),
+        long[] requiredGridIds = GeoUtil.getGridIdsForBoundingBox(request.getSwlatitude(),
                 request.getSwlongitude(),
                 request.getNelatitude(),
                 request.getNelongitude());
 
-        Map<String, List<EventCacheDto>> cachedGrids = eventCacheService.findGridsFromCache(requiredGridIds);
-
-        List<String> missedGridIds = requiredGridIds.stream()
-                .filter(id -> !cachedGrids.containsKey(id))
-                .collect(Collectors.toList());
-
-        if (!missedGridIds.isEmpty()) {
-            Map<String, List<EventCacheDto>> newGrids = eventCacheService.findGridsFromDbAndCache(missedGridIds);
-            cachedGrids.putAll(newGrids);
-        }
-
-        for (Map.Entry<String, List<EventCacheDto>> entry : cachedGrids.entrySet()) {
-
-            // 현재 항목의 Key (gridId)와 Value (이벤트 목록)를 가져옵니다.
-            String gridId = entry.getKey();
-            List<EventCacheDto> eventListInGrid = entry.getValue();
-
-            System.out.println("--- Grid ID: " + gridId + " 순회 시작 ---");
-
-            // 2. 안쪽 루프: 해당 Grid에 속한 이벤트 목록(List)을 순회합니다.
-            for (EventCacheDto event : eventListInGrid) {
+        GridCacheLookup lookup = eventCacheService.findGridsFromCache(requiredGridIds);
+        Map<Long, List<EventCacheDto>> cachedGrids = lookup.grids();
+        // 💡 오래된 셀은 그대로 응답에 쓰고 백그라운드에서 다시 채움
+        gridCacheLoader.refreshAsync(lookup.staleGridIds());
 
-                // 최종적으로 개별 EventCacheDto 객체에 접근하여 원하는 작업을 수행합니다.
-                // 예시: 이벤트의 제목을 출력
-                System.out.println("이벤트 제목: " + event.title());
-                // System.out.println(event.toString()); // 객체 전체 정보 출력
+        List<Long> missedGridIds = new ArrayList<>();
+        for (long gridId : requiredGridIds) {
+            if (!cachedGrids.containsKey(gridId)) {
+                missedGridIds.add(gridId);
             }
-
-            System.out.println("--- Grid ID: " + gridId + " 순회 종료 ---\n");
         }
 
-        /*Stream<EventCacheDto> eventStream = cachedGrids.values().stream()
-                .flatMap(List::stream)
-                .distinct();
-
-        eventStream = eventStream.filter(dto ->
-                dto.latitude() >= request.getSwlatitude() && dto.latitude() <= request.getNelatitude() &&
-                        dto.longitude() >= request.getSwlongitude() && dto.longitude() <= request.getNelongitude());
-
-        if (hasCategoryFilter) {
-            eventStream = eventStream.filter(dto ->
-                    dto.eventCategories().stream()
-                            .anyMatch(ecDto -> request.getCategories().contains(ecDto.getCategory())));
+        if (!missedGridIds.isEmpty()) {
+            // 💡 같은 셀을 동시에 놓친 요청들은 한번의 DB 조회 결과를 공유
+            Map<Long, List<EventCacheDto>> newGrids = gridCacheLoader.load(missedGridIds);
+            cachedGrids.putAll(newGrids);
         }
 
-        // 💡 최종적으로 클라이언트에게 보낼 EventResponse로 변환합니다.
-        return eventStream
-                .map(EventResponse::from) // EventResponse에 EventCacheDto를 받는 from 메소드 필요
-                .collect(Collectors.toList());*/
-
-        // --- 2. 단일 스트림 파이프라인으로 필터링 및 변환 ---
         return cachedGrids.values().stream()
                 .flatMap(List::stream)
                 .distinct()
-                .peek(dto -> log.info("### 스트림 시작 (distinct 후): {}", dto.toString())) // peek 1: 스트림 시작점 데이터 확인
-                .filter(dto -> {
-                    boolean passes = dto.latitude() >= request.getSwlatitude() && dto.latitude() <= request.getNelatitude() &&
-                            dto.longitude() >= request.getSwlongitude() && dto.longitude() <= request.getNelongitude();
-                    // log.info("위치 필터링 결과: {} -> 통과 여부: {}", dto.title(), passes); // 너무 많은 로그가 찍힐 수 있어 주석 처리
-                    return passes;
-                })
-                .peek(dto -> log.info("### 위치 필터 통과: {}", dto.toString())) // peek 2: 위치 필터를 통과한 데이터 확인
+                .filter(dto -> dto.latitude() >= request.getSwlatitude() && dto.latitude() <= request.getNelatitude() &&
+                        dto.longitude() >= request.getSwlongitude() && dto.longitude() <= request.getNelongitude())
                 .filter(dto -> {             // 카테고리 필터링
                     if (!hasCategoryFilter) {
                         return true;
                     }
-                    // 이 부분이 수정 포인트입니다.
                     return dto.eventCategories().stream()
                             .anyMatch(ecDto -> {
                                 // ecDto.getCategory()는 String 타입이므로, 이를 Enum으로 변환합니다.
                                 try {
                                     EventType categoryAsEnum = EventType.valueOf(ecDto.getCategory());
-                                    // 변환된 Enum을 사용하여 Set에 포함되어 있는지 확인합니다.
                                     return request.getCategories().contains(categoryAsEnum);
                                 } catch (IllegalArgumentException e) {
                                     // DTO에 잘못된 카테고리 문자열이 있는 경우 예외 처리
@@ -160,6 +204,87 @@ public class EventService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 바운딩 박스를 덮는 그리드 셀 요약을 반환합니다.
+     * 셀 수가 MAX_SUMMARY_CELLS를 넘지 않도록 레벨(500m ~ 2048km)을 골라 Redis 키 수를 제한합니다.
+     */
+    public List<GridSummaryDto> findGridSummaries(FindEventRequest request) {
+        int level = GeoUtil.chooseLevel(request.getSwlatitude(), request.getSwlongitude(),
+                request.getNelatitude(), request.getNelongitude(), MAX_SUMMARY_CELLS);
+        return findGridSummaries(request, level);
+    }
+
+    /**
+     * 지도 줌에 맞는 레벨의 셀 요약을 클러스터로 반환합니다.
+     * 화면이 클수록 같은 줌에서 더 많은 셀이 반환되며, MAX_CLUSTER_CELLS를 넘으면 한 단계 거친 레벨을 사용합니다.
+     * 카테고리 필터가 있으면 개수와 중심도 해당 카테고리 이벤트만으로 계산합니다.
+     */
+    public EventClusterListResponse findEventClusters(FindEventRequest request, int zoom) {
+        int level = Math.max(levelForZoom(zoom), GeoUtil.chooseLevel(request.getSwlatitude(), request.getSwlongitude(),
+                request.getNelatitude(), request.getNelongitude(), MAX_CLUSTER_CELLS));
+        Set<EventType> categories = request.getCategories();
+
+        List<EventClusterResponse> clusters = findGridSummaries(request, level).stream()
+                .map(summary -> EventClusterResponse.from(summary, categories))
+                // 카테고리 필터가 있으면 해당 카테고리 이벤트가 없는 셀은 제외
+                .filter(cluster -> cluster.getCount() > 0)
+                .collect(Collectors.toList());
+        return new EventClusterListResponse(level, clusters);
+    }
+
+    private static int levelForZoom(int zoom) {
+        if (zoom >= CLUSTER_ZOOM_LEVEL_0) {
+            return 0;
+        }
+        if (zoom >= CLUSTER_ZOOM_LEVEL_1) {
+            return 1;
+        }
+        if (zoom >= CLUSTER_ZOOM_LEVEL_2) {
+            return 2;
+        }
+        return zoom >= CLUSTER_ZOOM_LEVEL_3 ? 3 : 4;
+    }
+
+    private List<GridSummaryDto> findGridSummaries(FindEventRequest request, int level) {
+        // 가장 거친 레벨은 지구 전체도 상한 안에 들어가므로, 여기 걸리는 건 좌표 범위를 벗어난 요청뿐
+        if (GeoUtil.countCells(level, request.getSwlatitude(), request.getSwlongitude(),
+                request.getNelatitude(), request.getNelongitude()) > MAX_CLUSTER_CELLS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 범위가 너무 넓습니다.");
+        }
+        long[] gridIds = GeoUtil.getGridIdsForBoundingBox(level, request.getSwlatitude(), request.getSwlongitude(),
+                request.getNelatitude(), request.getNelongitude());
+
+        Map<Long, GridSummaryDto> summaries = eventCacheService.findGridSummariesFromCache(gridIds);
+
+        List<Long> missedGridIds = new ArrayList<>();
+        for (long gridId : gridIds) {
+            if (!summaries.containsKey(gridId)) {
+                missedGridIds.add(gridId);
+            }
+        }
+        if (!missedGridIds.isEmpty()) {
+            summaries.putAll(eventCacheService.findGridSummariesFromDbAndCache(level, missedGridIds));
+        }
+
+        List<GridSummaryDto> result = new ArrayList<>();
+        for (long gridId : gridIds) {
+            GridSummaryDto summary = summaries.get(gridId);
+            if (summary != null && summary.count() > 0) {
+                result.add(summary);
+            }
+        }
+        return result;
+    }
+
+    // 애플리케이션 기동 시 DB의 이벤트로 공간 인덱스를 채웁니다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void loadSpatialIndex() {
+        List<EventCacheDto> events = eventRepository.findAllForIndex().stream()
+                .map(EventCacheDto::from)
+                .toList();
+        eventSpatialIndex.loadAll(events);
+    }
 
     public Page<EventResponse> findByDynamicConditionWithPaging(FindEventRequest request, Pageable pageable) {
         // 1. 요청 DTO를 기반으로 Specification 생성
@@ -173,6 +298,34 @@ public class EventService {
             return Page.empty(pageable);
         }
 
+        return new PageImpl<>(findEventsByIdsInOrder(eventIds), pageable, idPage.getTotalElements());
+    }
+
+    /**
+     * 커서 기반 목록 조회. (creationTime, id) 키로 다음 위치를 찾고 ID만 조회한 뒤 캐시에서 채웁니다.
+     * 전체 개수는 withTotal이 true일 때만 COUNT 쿼리로 계산합니다.
+     */
+    public EventSliceResponse findByDynamicConditionWithCursor(FindEventRequest request, EventCursor cursor,
+                                                               int size, boolean withTotal) {
+        Specification<Event> spec = createSpecificationFromRequest(request);
+
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회
+        List<EventCursor> rows = eventRepository.findCursorsAfter(spec, cursor, size + 1);
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+
+        List<Long> eventIds = rows.stream().map(EventCursor::eventId).collect(Collectors.toList());
+        List<EventResponse> events = eventIds.isEmpty() ? List.of() : findEventsByIdsInOrder(eventIds);
+        String nextCursor = hasNext ? rows.get(rows.size() - 1).encode() : null;
+        Long total = withTotal ? eventRepository.countIds(spec) : null;
+
+        return new EventSliceResponse(events, nextCursor, hasNext, total);
+    }
+
+    // ID 목록을 캐시 우선으로 EventResponse로 변환 (ID 순서 유지)
+    private List<EventResponse> findEventsByIdsInOrder(List<Long> eventIds) {
         // 3. [Cache] ID 목록으로 캐시에서 데이터 조회
         Map<Long, EventCacheDto> eventDtoMap = eventCacheService.findEventsByIds(eventIds);
 
@@ -195,12 +348,12 @@ public class EventService {
             eventCacheService.saveEventsToCache(dtosToCache);
         }
 
-        // 6. [App] 최종 페이지 데이터 조립 (ID 순서 유지)
-        List<EventResponse> finalContent = eventIds.stream()
-                .map(id -> EventResponse.from(eventDtoMap.get(id)))
+        // 6. [App] 최종 페이지 데이터 조립 (ID 순서 유지, 조회 사이에 삭제된 이벤트는 제외)
+        return eventIds.stream()
+                .map(eventDtoMap::get)
+                .filter(Objects::nonNull)
+                .map(EventResponse::from)
                 .collect(Collectors.toList());
-
-        return new PageImpl<>(finalContent, pageable, idPage.getTotalElements());
     }
 
     // 💡 Specification 생성 로직을 서비스로 이동
@@ -256,17 +409,9 @@ public class EventService {
 
         event.setHost(user);
 
-        String gridId = GeoUtil.getGridId(event.getLatitude(), event.getLongitude());
+        long gridId = GeoUtil.getGridId(event.getLatitude(), event.getLongitude());
         event.setGridId(gridId);
 
-        CacheUpdateMessage message = new CacheUpdateMessage("INVALIDATE_GRID", event.getGridId());
-        try {
-            kafkaProducerService.send("cache-management-topic", message);
-        } catch (Exception e) { // 예외 처리를 좀 더 포괄적으로 변경
-            log.error("Kafka 메시지 전송 실패: {}", message, e);
-            throw new RuntimeException("Kafka 메시지 전송에 실패했습니다.", e);
-        }
-
 
         log.info("이벤트 저장 시작");
         // 이벤트 저장
@@ -290,9 +435,19 @@ public class EventService {
                 .build();
 
         savedEvent.setChatroom(chatroom);
+        // 채팅방 ID까지 확정된 상태로 캐시 델타를 만들기 위해 먼저 flush
+        eventRepository.flush();
+        EventCacheDto dto = EventCacheDto.from(savedEvent);
+        cacheUpdatePublisher.eventAdded(dto);
+        // 방장이 지금 접속 중이면 커밋 이후 새 채팅방 채널을 구독 (방장은 참여자로 저장되지 않음)
+        applicationEventPublisher.publishEvent(new ChatroomMemberJoinedEvent(chatroom.getId(), user.getUserId()));
+
+        // 커밋 이후 인덱스에 반영 (셀 요약은 위 메시지로 cacheConsumer가 반영)
+        runAfterCommit(() -> eventSpatialIndex.put(dto));
         return savedEvent;
     }
 
+    @Transactional
     public void deleteEvent(long eventId, Long currentUserId) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new EventNotFoundException("이벤트를 찾을 수 없습니다."));
@@ -302,17 +457,20 @@ public class EventService {
             throw new PermissionDeniedException("이벤트를 삭제할 권한이 없습니다.");
         }
 
-        String gridId = event.getGridId();
-        // 카프카에 캐시 갱신 메시지를 보냅니다.
+        EventCacheDto deleted = EventCacheDto.from(event);
         boolean isDeleted = eventRepository.delete(event);
 
+        // 삭제와 같은 트랜잭션의 아웃박스에 캐시 갱신 메시지(셀 요약 증감 포함)를 기록합니다.
         if (isDeleted) {
-            CacheUpdateMessage message = new CacheUpdateMessage("INVALIDATE_GRID", gridId);
-            kafkaProducerService.send("cache-management-topic", message);
+            cacheUpdatePublisher.eventRemoved(deleted);
         }
-        eventCacheService.invalidateEventCache(eventId);
+        runAfterCommit(() -> {
+            eventCacheService.invalidateEventCache(eventId);
+            eventSpatialIndex.remove(eventId);
+        });
     }
 
+    @Transactional
     public void kickParticipant(Long eventId, Long participantId, Long currentUserId) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new EventNotFoundException("이벤트를 찾을 수 없습니다."));
@@ -335,6 +493,13 @@ public class EventService {
 
         // 💡 새로 만든 Repository 메소드를 호출하여 DB에 직접 업데이트 요청
         eventParticipantRepository.updateStatusById(participantToKick.getId(), ParticipationStatus.REJECTED);
+
+        // 강퇴된 사용자는 채팅방에서도 제외 (커밋 이후 멤버십 캐시와 방 구독에 반영)
+        Chatroom chatroom = event.getChatroom();
+        if (chatroom != null) {
+            chatroomParticipantRepository.deleteByChatroomIdAndUserId(chatroom.getId(), participantId);
+            applicationEventPublisher.publishEvent(new ChatroomMemberLeftEvent(chatroom.getId(), participantId));
+        }
     }
 
     //public void clear() {eventRepository.clear();}
@@ -390,6 +555,9 @@ public class EventService {
 
         chatroom.getParticipants().add(chatParticipant);
         user.getChatParticipations().add(chatParticipant);
+
+        // 커밋 이후 멤버십 캐시에 추가하고, 승인된 사용자가 지금 접속 중이면 해당 노드가 채팅방 채널을 구독
+        applicationEventPublisher.publishEvent(new ChatroomMemberJoinedEvent(chatroom.getId(), user.getUserId()));
     }
 
     @Transactional
@@ -450,6 +618,25 @@ public class EventService {
         participant.setUser(user);
         event.getEventParticipants().add(participant);
         user.getEventParticipants().add(participant);
+
+        // 참여자 수가 바뀌었으므로 인덱스와 캐시의 DTO 갱신
+        EventCacheDto dto = EventCacheDto.from(event);
+        cacheUpdatePublisher.participantsChanged(dto);
+        runAfterCommit(() -> eventSpatialIndex.put(dto));
+    }
+
+    // 트랜잭션 안이면 커밋 이후에, 아니면 즉시 실행
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     public List<EventParticipant> getApprovedEventParticipants(Long eventId) {
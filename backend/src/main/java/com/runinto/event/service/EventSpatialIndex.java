@@ -0,0 +1,312 @@
+package com.runinto.event.service;
+
+import com.runinto.event.domain.EventType;
+import com.runinto.event.dto.EventCategoryInfoForResponseDto;
+import com.runinto.event.dto.cache.EventCacheDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 살아있는 이벤트를 메모리에 들고 있는 쿼드트리 공간 인덱스.
+ * 바운딩 박스 + 카테고리 조회를 Redis/DB 왕복 없이 처리합니다.
+ * 기동 시 DB로 채우고, 이후 변경은 모든 노드가 받는 cache-management-topic 델타(NearCacheInvalidationConsumer)로 반영합니다.
+ */
+@Slf4j
+@Component
+public class EventSpatialIndex {
+
+    // 리프 노드 하나가 담는 이벤트 수 (넘치면 4분할)
+    private static final int NODE_CAPACITY = 16;
+    // 최대 분할 깊이 (180도 / 2^20 ≒ 20m)
+    private static final int MAX_DEPTH = 20;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entriesById = new HashMap<>();
+    private Node root = newRoot();
+    private volatile boolean ready = false;
+
+    /**
+     * 인덱스를 주어진 이벤트 목록으로 다시 채웁니다. 호출 이후부터 조회에 사용할 수 있습니다.
+     */
+    public void loadAll(Collection<EventCacheDto> events) {
+        lock.writeLock().lock();
+        try {
+            entriesById.clear();
+            root = newRoot();
+            for (EventCacheDto event : events) {
+                insert(event);
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("공간 인덱스 적재 완료: {}개 이벤트", events.size());
+    }
+
+    // 생성/수정 모두 처리 (기존 항목이 있으면 교체)
+    public void put(EventCacheDto event) {
+        if (event == null || event.eventId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            insert(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long eventId) {
+        if (eventId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Entry previous = entriesById.remove(eventId);
+            if (previous != null) {
+                root.remove(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 이벤트가 아직 gridId 셀에 있을 때만 제거합니다.
+     * 셀 이동은 이전 셀 EVENT_REMOVED + 새 셀 EVENT_ADDED로 나가고 키(셀)가 달라 도착 순서가 보장되지 않으므로,
+     * 새 위치가 먼저 반영된 뒤 늦게 온 제거 델타가 이벤트를 지우지 않도록 합니다.
+     */
+    public void removeIfInGrid(Long eventId, Long gridId) {
+        if (eventId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Entry previous = entriesById.get(eventId);
+            if (previous != null && (gridId == null || Objects.equals(previous.event().gridId(), gridId))) {
+                entriesById.remove(eventId);
+                root.remove(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public EventCacheDto get(Long eventId) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entriesById.get(eventId);
+            return entry == null ? null : entry.event();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사각형 범위 안의 이벤트를 반환합니다. categories가 비어있으면 카테고리 필터를 적용하지 않습니다.
+     */
+    public List<EventCacheDto> search(double swLat, double swLng, double neLat, double neLng, Set<EventType> categories) {
+        int categoryMask = categoryMask(categories);
+        List<EventCacheDto> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            root.collect(swLat, swLng, neLat, neLng, categoryMask, result);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entriesById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(EventCacheDto event) {
+        Entry entry = new Entry(event, event.latitude(), event.longitude(), categoryMask(event));
+        Entry previous = entriesById.put(event.eventId(), entry);
+        if (previous != null) {
+            root.remove(previous);
+        }
+        root.insert(entry);
+    }
+
+    private static Node newRoot() {
+        return new Node(-90.0, -180.0, 90.0, 180.0, 0);
+    }
+
+    private static int categoryMask(Set<EventType> categories) {
+        int mask = 0;
+        if (categories != null) {
+            for (EventType type : categories) {
+                mask |= 1 << type.ordinal();
+            }
+        }
+        return mask;
+    }
+
+    private static int categoryMask(EventCacheDto event) {
+        int mask = 0;
+        if (event.eventCategories() == null) {
+            return mask;
+        }
+        for (EventCategoryInfoForResponseDto category : event.eventCategories()) {
+            if (category == null || category.getCategory() == null) {
+                continue;
+            }
+            try {
+                mask |= 1 << EventType.valueOf(category.getCategory()).ordinal();
+            } catch (IllegalArgumentException e) {
+                log.warn("알 수 없는 카테고리 무시: eventId={}, category={}", event.eventId(), category.getCategory());
+            }
+        }
+        return mask;
+    }
+
+    private record Entry(EventCacheDto event, double latitude, double longitude, int categoryMask) {
+    }
+
+    private static final class Node {
+        private final double minLat;
+        private final double minLng;
+        private final double maxLat;
+        private final double maxLng;
+        private final double midLat;
+        private final double midLng;
+        private final int depth;
+
+        private Entry[] entries = new Entry[NODE_CAPACITY];
+        private int count;
+        private Node[] children; // 0: SW, 1: SE, 2: NW, 3: NE (리프면 null)
+
+        private Node(double minLat, double minLng, double maxLat, double maxLng, int depth) {
+            this.minLat = minLat;
+            this.minLng = minLng;
+            this.maxLat = maxLat;
+            this.maxLng = maxLng;
+            this.midLat = (minLat + maxLat) / 2;
+            this.midLng = (minLng + maxLng) / 2;
+            this.depth = depth;
+        }
+
+        private void insert(Entry entry) {
+            if (children != null) {
+                childFor(entry).insert(entry);
+                return;
+            }
+            if (count == entries.length) {
+                if (depth < MAX_DEPTH) {
+                    split();
+                    childFor(entry).insert(entry);
+                    return;
+                }
+                // 최대 깊이에서는 같은 좌표가 몰려있는 경우이므로 버킷을 늘립니다.
+                entries = Arrays.copyOf(entries, entries.length * 2);
+            }
+            entries[count++] = entry;
+        }
+
+        private boolean remove(Entry entry) {
+            if (children != null) {
+                boolean removed = childFor(entry).remove(entry);
+                if (removed) {
+                    mergeIfSparse();
+                }
+                return removed;
+            }
+            for (int i = 0; i < count; i++) {
+                if (entries[i] == entry) {
+                    entries[i] = entries[--count];
+                    entries[count] = null;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void collect(double swLat, double swLng, double neLat, double neLng, int categoryMask,
+                             List<EventCacheDto> result) {
+            if (maxLat < swLat || minLat > neLat || maxLng < swLng || minLng > neLng) {
+                return;
+            }
+            if (children != null) {
+                for (Node child : children) {
+                    child.collect(swLat, swLng, neLat, neLng, categoryMask, result);
+                }
+                return;
+            }
+            for (int i = 0; i < count; i++) {
+                Entry entry = entries[i];
+                if (entry.latitude() < swLat || entry.latitude() > neLat
+                        || entry.longitude() < swLng || entry.longitude() > neLng) {
+                    continue;
+                }
+                if (categoryMask != 0 && (entry.categoryMask() & categoryMask) == 0) {
+                    continue;
+                }
+                result.add(entry.event());
+            }
+        }
+
+        private void split() {
+            int nextDepth = depth + 1;
+            children = new Node[]{
+                    new Node(minLat, minLng, midLat, midLng, nextDepth),
+                    new Node(minLat, midLng, midLat, maxLng, nextDepth),
+                    new Node(midLat, minLng, maxLat, midLng, nextDepth),
+                    new Node(midLat, midLng, maxLat, maxLng, nextDepth)
+            };
+            for (int i = 0; i < count; i++) {
+                childFor(entries[i]).insert(entries[i]);
+            }
+            entries = null;
+            count = 0;
+        }
+
+        // 자식이 모두 리프이고 합쳐도 용량 이하라면 다시 리프로 되돌립니다.
+        private void mergeIfSparse() {
+            int total = 0;
+            for (Node child : children) {
+                if (child.children != null) {
+                    return;
+                }
+                total += child.count;
+            }
+            if (total > NODE_CAPACITY) {
+                return;
+            }
+            Entry[] merged = new Entry[NODE_CAPACITY];
+            int index = 0;
+            for (Node child : children) {
+                System.arraycopy(child.entries, 0, merged, index, child.count);
+                index += child.count;
+            }
+            entries = merged;
+            count = total;
+            children = null;
+        }
+
+        private Node childFor(Entry entry) {
+            int index = (entry.latitude() >= midLat ? 2 : 0) + (entry.longitude() >= midLng ? 1 : 0);
+            return children[index];
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.runinto.event.service;
+
+import com.runinto.config.properties.GridCacheProperties;
+import com.runinto.event.dto.cache.EventCacheDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 미스난 그리드를 셀당 한번만 DB에서 읽도록 모아주는 로더 (single-flight).
+ * 노드 안에서는 진행 중인 로드를 공유하고, 노드 간에는 Redis lease를 잡은 노드만 DB를 조회합니다.
+ */
+@Slf4j
+@Component
+public class GridCacheLoader {
+
+    private static final long LEASE_POLL_INTERVAL_MILLIS = 50;
+
+    private final EventCacheService eventCacheService;
+    private final GridCacheProperties properties;
+    private final String leaseOwner = UUID.randomUUID().toString();
+    private final Map<Long, CompletableFuture<List<EventCacheDto>>> inFlight = new ConcurrentHashMap<>();
+    // 백그라운드 갱신용. 밀리면 버리고 다음 요청에서 다시 시도합니다.
+    private final ThreadPoolExecutor refreshExecutor = new ThreadPoolExecutor(1, 2, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(64), new ThreadPoolExecutor.DiscardPolicy());
+
+    public GridCacheLoader(EventCacheService eventCacheService, GridCacheProperties properties) {
+        this.eventCacheService = eventCacheService;
+        this.properties = properties;
+    }
+
+    /**
+     * 그리드들을 DB에서 읽어 캐시에 채우고 반환합니다. 같은 셀을 이미 읽는 중이면 그 결과를 기다립니다.
+     */
+    public Map<Long, List<EventCacheDto>> load(List<Long> gridIds) {
+        List<Long> owned = new ArrayList<>();
+        Map<Long, CompletableFuture<List<EventCacheDto>>> ownedFutures = new HashMap<>();
+        Map<Long, CompletableFuture<List<EventCacheDto>>> waiting = new HashMap<>();
+        for (Long gridId : gridIds) {
+            CompletableFuture<List<EventCacheDto>> future = new CompletableFuture<>();
+            CompletableFuture<List<EventCacheDto>> existing = inFlight.putIfAbsent(gridId, future);
+            if (existing == null) {
+                owned.add(gridId);
+                ownedFutures.put(gridId, future);
+            } else {
+                waiting.put(gridId, existing);
+            }
+        }
+
+        Map<Long, List<EventCacheDto>> result = new HashMap<>();
+        if (!owned.isEmpty()) {
+            try {
+                Map<Long, List<EventCacheDto>> loaded = loadAcrossNodes(owned);
+                result.putAll(loaded);
+                owned.forEach(gridId -> ownedFutures.get(gridId).complete(loaded.getOrDefault(gridId, List.of())));
+            } catch (RuntimeException e) {
+                ownedFutures.values().forEach(future -> future.completeExceptionally(e));
+                throw e;
+            } finally {
+                owned.forEach(gridId -> inFlight.remove(gridId, ownedFutures.get(gridId)));
+            }
+        }
+
+        waiting.forEach((gridId, future) -> {
+            try {
+                result.put(gridId, future.join());
+            } catch (CompletionException e) {
+                // 먼저 시작한 요청이 실패했으면 직접 읽음
+                log.warn("그리드 {} 공유 로드 실패, 직접 조회합니다.", Long.toHexString(gridId), e);
+                result.putAll(eventCacheService.findGridsFromDbAndCache(List.of(gridId)));
+            }
+        });
+        return result;
+    }
+
+    // 오래된 값을 반환한 셀을 백그라운드에서 다시 채웁니다.
+    public void refreshAsync(List<Long> gridIds) {
+        if (gridIds.isEmpty()) {
+            return;
+        }
+        List<Long> targets = gridIds.stream().filter(gridId -> !inFlight.containsKey(gridId)).toList();
+        if (targets.isEmpty()) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            try {
+                load(targets);
+            } catch (RuntimeException e) {
+                log.warn("그리드 백그라운드 갱신 실패: {}개", targets.size(), e);
+            }
+        });
+    }
+
+    private Map<Long, List<EventCacheDto>> loadAcrossNodes(List<Long> gridIds) {
+        List<Long> leased = eventCacheService.tryAcquireGridLeases(gridIds, leaseOwner, properties.getLeaseTtl());
+        List<Long> others = new ArrayList<>(gridIds);
+        others.removeAll(leased);
+
+        Map<Long, List<EventCacheDto>> result = new HashMap<>();
+        if (!leased.isEmpty()) {
+            try {
+                result.putAll(eventCacheService.findGridsFromDbAndCache(leased));
+            } finally {
+                eventCacheService.releaseGridLeases(leased, leaseOwner);
+            }
+        }
+        if (!others.isEmpty()) {
+            result.putAll(waitForOtherNodes(others));
+        }
+        return result;
+    }
+
+    // 다른 노드가 채워주길 잠깐 기다리고, 시간 안에 안 채워진 셀만 직접 읽습니다.
+    private Map<Long, List<EventCacheDto>> waitForOtherNodes(List<Long> gridIds) {
+        Map<Long, List<EventCacheDto>> result = new HashMap<>();
+        List<Long> remaining = new ArrayList<>(gridIds);
+        long deadline = System.nanoTime() + properties.getLeaseWaitTimeout().toNanos();
+        while (!remaining.isEmpty() && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(LEASE_POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            Map<Long, List<EventCacheDto>> filled = eventCacheService
+                    .findGridsFromCache(remaining.stream().mapToLong(Long::longValue).toArray())
+                    .grids();
+            result.putAll(filled);
+            remaining.removeAll(filled.keySet());
+        }
+        if (!remaining.isEmpty()) {
+            log.info("lease 대기 시간 초과, {}개 그리드를 직접 조회합니다.", remaining.size());
+            result.putAll(eventCacheService.findGridsFromDbAndCache(remaining));
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,61 @@
+package com.runinto.kafka.consumer;
+
+import com.runinto.chat.service.ChatService;
+import common.kafka.dto.ChatMessageDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * chat-messages-topic을 배치로 받아 chat_message 테이블에 한번에 저장합니다.
+ * 저장에 실패하면 예외를 그대로 던져 에러 핸들러가 재시도하고, 그래도 실패한 레코드는 chat-messages-topic.DLT로 옮깁니다.
+ * 읽을 수 없는 레코드는 그 앞까지 저장한 뒤 위치(index)와 함께 알려 그 레코드만 DLT로 보냅니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatMessagePersistenceConsumer {
+
+    private static final LogAccessor LOG_ACCESSOR = new LogAccessor(ChatMessagePersistenceConsumer.class);
+
+    private final ChatService chatService;
+
+    @KafkaListener(topics = "chat-messages-topic", containerFactory = "chatMessageWriterListenerContainerFactory")
+    public void consume(List<ConsumerRecord<String, ChatMessageDto>> records) {
+        List<ChatMessageDto> messages = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, ChatMessageDto> record = records.get(i);
+            if (record.value() != null) {
+                messages.add(record.value());
+                continue;
+            }
+            DeserializationException failure = SerializationUtils.getExceptionFromHeader(
+                    record, SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, LOG_ACCESSOR);
+            if (failure == null) {
+                // 값이 비어 있는 레코드는 저장할 것이 없음
+                continue;
+            }
+            // 💡 에러 핸들러는 index 앞까지 커밋하므로 그 앞의 메시지를 먼저 저장
+            save(messages);
+            throw new BatchListenerFailedException("채팅 메시지 역직렬화 실패", failure, i);
+        }
+        save(messages);
+    }
+
+    private void save(List<ChatMessageDto> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        int saved = chatService.saveMessages(messages);
+        log.debug("채팅 메시지 {}건 수신, {}건 저장", messages.size(), saved);
+    }
+}
@@ -0,0 +1,53 @@
+package com.runinto.kafka.consumer;
+
+import com.runinto.config.serializer.EventCacheRedisSerializer;
+import com.runinto.event.dto.cache.EventCacheDto;
+import com.runinto.event.service.EventCacheService;
+import com.runinto.event.service.EventSpatialIndex;
+import common.kafka.dto.CacheUpdateMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * cache-management-topic을 구독해 이 노드의 L1 캐시에서 해당 그리드/이벤트를 지우고 공간 인덱스에 델타를 반영합니다.
+ * 노드마다 그룹이 달라 모든 노드가 전부 받으므로, 다른 노드에서 생긴 변경도 이 노드의 검색 결과에 반영됩니다.
+ * Redis(L2) 그리드 해시 반영은 cacheConsumer가 담당합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NearCacheInvalidationConsumer {
+
+    private final EventCacheService eventCacheService;
+    private final EventSpatialIndex eventSpatialIndex;
+    private final EventCacheRedisSerializer serializer = new EventCacheRedisSerializer();
+
+    @KafkaListener(topics = "cache-management-topic", containerFactory = "nearCacheListenerContainerFactory")
+    public void consume(CacheUpdateMessage message) {
+        log.debug("L1 캐시 무효화: action={}, gridId={}, eventId={}",
+                message.getAction(), message.getGridId(), message.getEventId());
+        eventCacheService.evictNearCache(message.getGridId(), message.getEventId());
+        applyToSpatialIndex(message);
+    }
+
+    // 변경을 처리한 노드는 커밋 직후 이미 반영했으므로 같은 값을 한번 더 넣게 됨 (put은 교체라 무해)
+    private void applyToSpatialIndex(CacheUpdateMessage message) {
+        if (message.getAction() == null) {
+            return;
+        }
+        switch (message.getAction()) {
+            case EVENT_ADDED, EVENT_UPDATED, PARTICIPANTS_CHANGED -> {
+                if (message.getPayload() != null
+                        && serializer.deserialize(message.getPayload()) instanceof EventCacheDto event) {
+                    eventSpatialIndex.put(event);
+                }
+            }
+            case EVENT_REMOVED -> eventSpatialIndex.removeIfInGrid(message.getEventId(), message.getGridId());
+            // 그리드 전체 무효화는 이벤트 값이 없으므로 인덱스는 그대로 둠
+            case INVALIDATE_GRID -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.runinto.kafka.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 도메인 변경과 같은 트랜잭션에 기록되는 Kafka 발행 대기 메시지.
+ * OutboxRelay가 id 순서대로 읽어 전송한 뒤 삭제합니다. 같은 (topic, message_key)의 행은 id 순서대로만 전달됩니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "outbox_event", indexes = {
+        @Index(name = "idx_outbox_next_attempt", columnList = "next_attempt_at, id"),
+        @Index(name = "idx_outbox_key", columnList = "topic, message_key, id")
+})
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String topic;
+
+    @Column(name = "message_key")
+    private String messageKey;
+
+    // 이미 JSON으로 직렬화된 메시지 (릴레이는 내용을 해석하지 않음)
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 이 시각 이후에 전송 시도 (실패하면 백오프만큼 뒤로 미룸)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // 전송 중인 릴레이가 이 시각까지 잡고 있음 (null이면 아무도 잡지 않음). 릴레이가 죽으면 이 시각 이후 다른 릴레이가 가져감
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OutboxEvent outboxEvent)) return false;
+        return id != null && id.equals(outboxEvent.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
@@ -0,0 +1,37 @@
+package com.runinto.kafka.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 💡 여러 노드가 릴레이를 돌려도 같은 행을 동시에 잡지 않도록 SKIP LOCKED (-2)로 잠금
+    // 같은 키의 이전 행이 백오프 중이거나 다른 릴레이가 전송 중이면 그 키의 이후 행은 건너뜀 (키 단위 순서 유지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM OutboxEvent o WHERE o.nextAttemptAt <= :now " +
+            "AND (o.claimedUntil IS NULL OR o.claimedUntil <= :now) " +
+            "AND NOT EXISTS (SELECT p.id FROM OutboxEvent p WHERE p.topic = o.topic AND p.messageKey = o.messageKey " +
+            "AND p.id < o.id AND (p.nextAttemptAt > :now OR p.claimedUntil > :now)) " +
+            "ORDER BY o.id")
+    List<OutboxEvent> findReadyForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // ids 중 같은 키의 이전 행이 ids 밖에 남아 있는 행
+    // 💡 SKIP LOCKED가 건너뛴 행(다른 릴레이가 아직 claim을 커밋하지 않은 행)은 위 조회의 NOT EXISTS로 걸러지지 않으므로 잠근 뒤 다시 확인
+    @Query("SELECT o.id FROM OutboxEvent o WHERE o.id IN :ids " +
+            "AND EXISTS (SELECT p.id FROM OutboxEvent p WHERE p.topic = o.topic AND p.messageKey = o.messageKey " +
+            "AND p.id < o.id AND p.id NOT IN :ids)")
+    List<Long> findIdsBehindOtherRows(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,187 @@
+package com.runinto.kafka.outbox;
+
+import com.runinto.config.properties.OutboxProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 아웃박스 테이블을 주기적으로 비우며 Kafka로 전송합니다.
+ * 배치 전체를 먼저 send한 뒤 한번에 확인하므로 프로듀서가 linger 동안 모아서 압축 전송합니다.
+ * 실패한 행은 지수 백오프로 nextAttemptAt을 미뤄 다시 시도합니다. (최소 한 번 전달)
+ * 같은 키(그리드)의 행은 순서가 중요하므로, 실패한 행 뒤의 같은 키 행은 이미 전달됐더라도 지우지 않고
+ * 실패한 행이 전송된 뒤 다시 보냅니다. 소비자가 마지막 값으로 덮어쓰므로 최종 상태가 순서대로 맞춰집니다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, String> outboxKafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties properties;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       @Qualifier("outboxKafkaTemplate") KafkaTemplate<String, String> outboxKafkaTemplate,
+                       TransactionTemplate transactionTemplate,
+                       OutboxProperties properties) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxKafkaTemplate = outboxKafkaTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${server.kafka.outbox.poll-interval:200ms}")
+    public void relay() {
+        if (!properties.isRelayEnabled()) {
+            return;
+        }
+        // 배치가 가득 찼다면 밀린 행이 더 있으므로 바로 이어서 처리
+        int sent;
+        do {
+            sent = relayBatch();
+        } while (sent == properties.getBatchSize());
+    }
+
+    /**
+     * 전송 가능한 행을 한 배치 잡아 전송하고, 성공한 행 수를 반환합니다.
+     * 💡 행을 잡는 트랜잭션을 먼저 커밋한 뒤 전송하므로 Kafka 응답을 기다리는 동안 행 잠금을 쥐고 있지 않습니다.
+     * 다른 릴레이는 claimedUntil로 잡힌 행(과 그 뒤의 같은 키 행)을 건너뜁니다.
+     */
+    public int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> batch = transactionTemplate.execute(status -> claim(now));
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<?>> futures = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            futures.add(send(event));
+        }
+
+        long deadline = System.nanoTime() + properties.getSendTimeout().toNanos();
+        List<Long> sentIds = new ArrayList<>(batch.size());
+        List<OutboxEvent> failed = new ArrayList<>();
+        List<OutboxEvent> released = new ArrayList<>();
+        // 이 배치에서 실패한 행이 있는 키 (배치는 id 순이므로 이후 같은 키 행은 보류)
+        Set<List<String>> blockedKeys = new HashSet<>();
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxEvent event = batch.get(i);
+            boolean delivered = await(futures.get(i), deadline);
+            List<String> key = orderingKey(event);
+            if (key != null && blockedKeys.contains(key)) {
+                // 앞선 행보다 먼저 도착했을 수 있으므로 남겨두고, 앞선 행이 나간 뒤 다시 보냄
+                event.setClaimedUntil(null);
+                released.add(event);
+                continue;
+            }
+            if (delivered) {
+                sentIds.add(event.getId());
+            } else {
+                event.setAttempts(event.getAttempts() + 1);
+                event.setNextAttemptAt(now.plus(backoff(event.getAttempts())));
+                event.setClaimedUntil(null);
+                failed.add(event);
+                released.add(event);
+                if (key != null) {
+                    blockedKeys.add(key);
+                }
+            }
+        }
+
+        transactionTemplate.execute(status -> {
+            if (!sentIds.isEmpty()) {
+                outboxEventRepository.deleteAllByIdInBatch(sentIds);
+            }
+            if (!released.isEmpty()) {
+                outboxEventRepository.saveAll(released);
+            }
+            return null;
+        });
+        if (!failed.isEmpty()) {
+            log.warn("아웃박스 전송 실패 {}건 (성공 {}건, 보류 {}건), 첫 실패 id={}, 시도 횟수={}",
+                    failed.size(), sentIds.size(), released.size() - failed.size(),
+                    failed.get(0).getId(), failed.get(0).getAttempts());
+        }
+        return sentIds.size();
+    }
+
+    /**
+     * 전송할 행을 잠그고 claimedUntil을 표시합니다. 트랜잭션 안에서 호출해야 합니다.
+     * 같은 키의 이전 행을 다른 릴레이가 잡고 있으면 그 키의 행은 이번 배치에서 뺍니다.
+     */
+    List<OutboxEvent> claim(LocalDateTime now) {
+        List<OutboxEvent> ready = outboxEventRepository.findReadyForUpdate(now, PageRequest.of(0, properties.getBatchSize()));
+        if (ready.isEmpty()) {
+            return ready;
+        }
+
+        Set<Long> behindOthers = new HashSet<>(outboxEventRepository.findIdsBehindOtherRows(
+                ready.stream().map(OutboxEvent::getId).toList()));
+        Set<List<String>> skippedKeys = new HashSet<>();
+        LocalDateTime claimedUntil = now.plus(properties.getClaimTimeout());
+        List<OutboxEvent> claimed = new ArrayList<>(ready.size());
+        for (OutboxEvent event : ready) {
+            List<String> key = orderingKey(event);
+            if (key != null && (skippedKeys.contains(key) || behindOthers.contains(event.getId()))) {
+                // 이 행을 빼면 같은 키의 이후 행도 함께 빼야 순서가 유지됨
+                skippedKeys.add(key);
+                continue;
+            }
+            event.setClaimedUntil(claimedUntil);
+            claimed.add(event);
+        }
+        return claimed;
+    }
+
+    private static boolean await(CompletableFuture<?> future, long deadline) {
+        try {
+            future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 키가 없는 메시지는 파티션이 정해지지 않으므로 순서를 맞출 필요가 없음
+    private static List<String> orderingKey(OutboxEvent event) {
+        return event.getMessageKey() == null ? null : List.of(event.getTopic(), event.getMessageKey());
+    }
+
+    private CompletableFuture<?> send(OutboxEvent event) {
+        try {
+            return outboxKafkaTemplate.send(event.getTopic(), event.getMessageKey(), event.getPayload());
+        } catch (RuntimeException e) {
+            // 메타데이터 조회 실패 등 send 자체가 던지는 예외도 같은 재시도 경로로 보냄
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    Duration backoff(int attempts) {
+        Duration max = properties.getMaxBackoff();
+        Duration backoff = properties.getInitialBackoff();
+        for (int i = 1; i < attempts && backoff.compareTo(max) < 0; i++) {
+            backoff = backoff.multipliedBy(2);
+        }
+        return backoff.compareTo(max) < 0 ? backoff : max;
+    }
+}
@@ -0,0 +1,43 @@
+package com.runinto.kafka.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Kafka로 보낼 메시지를 호출한 쪽의 트랜잭션 안에서 아웃박스 테이블에 기록합니다.
+ * 트랜잭션이 롤백되면 메시지도 함께 사라집니다.
+ */
+@Service
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxService(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional
+    public void append(String topic, String key, Object message) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 메시지 직렬화 실패: " + message, e);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        outboxEventRepository.save(OutboxEvent.builder()
+                .topic(topic)
+                .messageKey(key)
+                .payload(payload)
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .attempts(0)
+                .build());
+    }
+}
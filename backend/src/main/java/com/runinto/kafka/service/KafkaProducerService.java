@@ -1,9 +1,14 @@
 package com.runinto.kafka.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class KafkaProducerService {
@@ -14,4 +19,18 @@ public class KafkaProducerService {
         // 지정된 토픽으로 메시지를 보냅니다.
         kafkaTemplate.send(topic, payload);
     }
-}
\ No newline at end of file
+
+    /**
+     * 같은 키의 메시지는 같은 파티션으로 가므로 순서가 보장됩니다.
+     * 전송은 비동기이며 실패는 로그로만 남깁니다.
+     */
+    public CompletableFuture<SendResult<String, Object>> send(String topic, String key, Object payload) {
+        CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(topic, key, payload);
+        future.whenComplete((result, ex) -> {
+            if (ex != null) {
+                log.error("Kafka 메시지 전송 실패: topic={}, key={}", topic, key, ex);
+            }
+        });
+        return future;
+    }
+}
@@ -1,35 +1,223 @@
 package com.runinto.util;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
 
 public class GeoUtil {
     // 500m에 해당하는 위도/경도 근사치
     private static final double LATITUDE_STEP = 0.0045;
     private static final double LONGITUDE_STEP = 0.0057;
 
+    // 500m(0) → 4km(1) → 32km(2) → 256km(3) → 2048km(4) 계층형 그리드. 한 단계 올라갈 때마다 축별로 8배
+    // 가장 거친 레벨에서는 지구 전체도 200개 남짓한 셀로 덮입니다.
+    public static final int LEVEL_COUNT = 5;
+    private static final int LEVEL_FACTOR = 8;
+
+    // 축마다 30비트 인덱스를 사용 (음수 인덱스는 오프셋으로 양수화), 상위 4비트는 레벨
+    private static final int INDEX_BITS = 30;
+    private static final long INDEX_OFFSET = 1L << (INDEX_BITS - 1);
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+    private static final int LEVEL_SHIFT = 2 * INDEX_BITS;
+    private static final long CELL_MASK = (1L << LEVEL_SHIFT) - 1;
+    // 배열로 돌려줄 수 있는 최대 셀 수
+    private static final int MAX_ARRAY_CELLS = Integer.MAX_VALUE - 8;
+
     /**
      * 좌표를 기반으로 그리드 ID를 생성합니다.
-     * 예: "grid_37.5665_126.9780"
+     * 위도/경도 셀 인덱스를 비트 단위로 교차(Morton, Z-order)시킨 64비트 값입니다.
      */
-    public static String getGridId(double latitude, double longitude) {
-        long latIndex = (long) (latitude / LATITUDE_STEP);
-        long lngIndex = (long) (longitude / LONGITUDE_STEP);
-        return String.format("grid_%d_%d", latIndex, lngIndex);
+    public static long getGridId(double latitude, double longitude) {
+        return encodeCell(latitudeIndex(latitude), longitudeIndex(longitude));
+    }
+
+    /**
+     * 주어진 레벨의 그리드 ID를 생성합니다. 레벨 0은 getGridId(lat, lng)와 같습니다.
+     */
+    public static long getGridId(int level, double latitude, double longitude) {
+        return encodeCell(level, latitudeIndex(level, latitude), longitudeIndex(level, longitude));
     }
 
     /**
      * 주어진 사각형 바운더리에 포함되는 모든 그리드 ID 목록을 반환합니다.
      */
-    public static List<String> getGridIdsForBoundingBox(double swLat, double swLng, double neLat, double neLng) {
-        List<String> gridIds = new ArrayList<>();
-        for (double lat = swLat; lat <= neLat; lat += LATITUDE_STEP) {
-            for (double lng = swLng; lng <= neLng; lng += LONGITUDE_STEP) {
-                gridIds.add(getGridId(lat, lng));
+    public static long[] getGridIdsForBoundingBox(double swLat, double swLng, double neLat, double neLng) {
+        return getGridIdsForBoundingBox(0, swLat, swLng, neLat, neLng);
+    }
+
+    /**
+     * 셀 수가 배열로 만들 수 없을 만큼 크면 IllegalArgumentException을 던집니다.
+     * 호출하는 쪽은 countCells나 chooseLevel로 먼저 셀 수를 제한해야 합니다.
+     */
+    public static long[] getGridIdsForBoundingBox(int level, double swLat, double swLng, double neLat, double neLng) {
+        CellIterator cells = cellsInBoundingBox(level, swLat, swLng, neLat, neLng);
+        if (cells.size() > MAX_ARRAY_CELLS) {
+            throw new IllegalArgumentException("Bounding box covers too many grid cells: " + cells.size());
+        }
+        long[] gridIds = new long[(int) cells.size()];
+        int i = 0;
+        while (cells.hasNext()) {
+            gridIds[i++] = cells.nextLong();
+        }
+        return gridIds;
+    }
+
+    /**
+     * 사각형 바운더리의 셀을 박싱 없이 순회하는 이터레이터를 반환합니다.
+     */
+    public static CellIterator cellsInBoundingBox(double swLat, double swLng, double neLat, double neLng) {
+        return cellsInBoundingBox(0, swLat, swLng, neLat, neLng);
+    }
+
+    public static CellIterator cellsInBoundingBox(int level, double swLat, double swLng, double neLat, double neLng) {
+        return new CellIterator(level, latitudeIndex(level, swLat), longitudeIndex(level, swLng),
+                latitudeIndex(level, neLat), longitudeIndex(level, neLng));
+    }
+
+    /**
+     * 바운딩 박스를 maxCells개 이하의 셀로 덮을 수 있는 가장 세밀한 레벨을 고릅니다.
+     * 어느 레벨도 조건을 만족하지 못하면 가장 거친 레벨을 반환합니다.
+     */
+    public static int chooseLevel(double swLat, double swLng, double neLat, double neLng, int maxCells) {
+        for (int level = 0; level < LEVEL_COUNT - 1; level++) {
+            if (countCells(level, swLat, swLng, neLat, neLng) <= maxCells) {
+                return level;
+            }
+        }
+        return LEVEL_COUNT - 1;
+    }
+
+    /**
+     * 바운딩 박스를 덮는 셀 수. 축마다 최대 2^30개라 곱해도 long 범위 안입니다.
+     */
+    public static long countCells(int level, double swLat, double swLng, double neLat, double neLng) {
+        long latCells = latitudeIndex(level, neLat) - latitudeIndex(level, swLat) + 1;
+        long lngCells = longitudeIndex(level, neLng) - longitudeIndex(level, swLng) + 1;
+        return (latCells <= 0 || lngCells <= 0) ? 0 : latCells * lngCells;
+    }
+
+    public static long latitudeIndex(double latitude) {
+        return (long) Math.floor(latitude / LATITUDE_STEP);
+    }
+
+    public static long longitudeIndex(double longitude) {
+        return (long) Math.floor(longitude / LONGITUDE_STEP);
+    }
+
+    // 상위 레벨 인덱스는 레벨 0 인덱스를 나눠서 구해야 부모/자식 셀 경계가 정확히 맞습니다.
+    public static long latitudeIndex(int level, double latitude) {
+        return Math.floorDiv(latitudeIndex(latitude), levelScale(level));
+    }
+
+    public static long longitudeIndex(int level, double longitude) {
+        return Math.floorDiv(longitudeIndex(longitude), levelScale(level));
+    }
+
+    public static double latitudeStep(int level) {
+        return LATITUDE_STEP * levelScale(level);
+    }
+
+    public static double longitudeStep(int level) {
+        return LONGITUDE_STEP * levelScale(level);
+    }
+
+    public static long encodeCell(long latIndex, long lngIndex) {
+        return (spread(latIndex + INDEX_OFFSET) << 1) | spread(lngIndex + INDEX_OFFSET);
+    }
+
+    public static long encodeCell(int level, long latIndex, long lngIndex) {
+        return ((long) level << LEVEL_SHIFT) | encodeCell(latIndex, lngIndex);
+    }
+
+    public static int levelOf(long gridId) {
+        return (int) (gridId >>> LEVEL_SHIFT);
+    }
+
+    public static long decodeLatitudeIndex(long gridId) {
+        return compact((gridId & CELL_MASK) >>> 1) - INDEX_OFFSET;
+    }
+
+    public static long decodeLongitudeIndex(long gridId) {
+        return compact(gridId & CELL_MASK) - INDEX_OFFSET;
+    }
+
+    private static long levelScale(int level) {
+        if (level < 0 || level >= LEVEL_COUNT) {
+            throw new IllegalArgumentException("Unsupported grid level: " + level);
+        }
+        long scale = 1;
+        for (int i = 0; i < level; i++) {
+            scale *= LEVEL_FACTOR;
+        }
+        return scale;
+    }
+
+    // 하위 30비트를 짝수 비트 자리로 펼칩니다.
+    private static long spread(long value) {
+        long v = value & INDEX_MASK;
+        v = (v | (v << 16)) & 0x0000FFFF0000FFFFL;
+        v = (v | (v << 8)) & 0x00FF00FF00FF00FFL;
+        v = (v | (v << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        v = (v | (v << 2)) & 0x3333333333333333L;
+        v = (v | (v << 1)) & 0x5555555555555555L;
+        return v;
+    }
+
+    // spread의 역연산: 짝수 비트만 모아 다시 정수로 만듭니다.
+    private static long compact(long value) {
+        long v = value & 0x5555555555555555L;
+        v = (v | (v >>> 1)) & 0x3333333333333333L;
+        v = (v | (v >>> 2)) & 0x0F0F0F0F0F0F0F0FL;
+        v = (v | (v >>> 4)) & 0x00FF00FF00FF00FFL;
+        v = (v | (v >>> 8)) & 0x0000FFFF0000FFFFL;
+        v = (v | (v >>> 16)) & 0x00000000FFFFFFFFL;
+        return v;
+    }
+
+    /**
+     * 위도 인덱스 → 경도 인덱스 순서로 셀을 순회합니다. nextLong()은 할당을 하지 않습니다.
+     */
+    public static final class CellIterator implements PrimitiveIterator.OfLong {
+        private final int level;
+        private final long minLngIndex;
+        private final long maxLatIndex;
+        private final long maxLngIndex;
+        private final long size;
+        private long latIndex;
+        private long lngIndex;
+
+        private CellIterator(int level, long minLatIndex, long minLngIndex, long maxLatIndex, long maxLngIndex) {
+            this.level = level;
+            this.minLngIndex = minLngIndex;
+            this.maxLatIndex = maxLatIndex;
+            this.maxLngIndex = maxLngIndex;
+            this.latIndex = minLatIndex;
+            this.lngIndex = minLngIndex;
+            long latCount = maxLatIndex - minLatIndex + 1;
+            long lngCount = maxLngIndex - minLngIndex + 1;
+            // 셀을 미리 만들지 않으므로 세계 전체 박스도 개수만 계산됨
+            this.size = (latCount <= 0 || lngCount <= 0) ? 0 : latCount * lngCount;
+        }
+
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return size > 0 && latIndex <= maxLatIndex;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            long gridId = encodeCell(level, latIndex, lngIndex);
+            if (++lngIndex > maxLngIndex) {
+                lngIndex = minLngIndex;
+                latIndex++;
             }
+            return gridId;
         }
-        // 중복 제거 후 반환
-        return gridIds.stream().distinct().collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,18 @@
+package com.runinto.chat.domain.repository;
+
+import com.runinto.chat.domain.repository.message.ChatMessageH2Repository;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 채팅 저장소 @DataJpaTest 전용 설정.
+ * Backend 클래스의 @EnableRedisHttpSession 때문에 슬라이스 테스트에서 Redis가 필요해지는 것을 피합니다.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EntityScan("com.runinto")
+@Import(ChatMessageH2Repository.class)
+class ChatJpaRepositoryTestConfig {
+}
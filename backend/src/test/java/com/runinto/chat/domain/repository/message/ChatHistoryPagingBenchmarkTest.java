@@ -0,0 +1,106 @@
+package com.runinto.chat.domain.repository.message;
+
+import com.runinto.chat.domain.repository.chatroom.Chatroom;
+import com.runinto.event.domain.Event;
+import com.runinto.user.domain.Gender;
+import com.runinto.user.domain.Role;
+import com.runinto.user.domain.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메시지 100개 방과 수십만 개 방에서 최신/과거 페이지 조회 시간을 비교합니다. ((chatroom_id, id) 인덱스 범위 스캔)
+ * gradle :backend:test -Dbenchmark=true --tests '*ChatHistoryPagingBenchmarkTest' 로 실행합니다.
+ */
+@DataJpaTest(showSql = false)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("채팅 기록 커서 페이징 벤치마크")
+class ChatHistoryPagingBenchmarkTest {
+
+    private static final int SMALL_ROOM = 100;
+    private static final int LARGE_ROOM = 500_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int ROUNDS = 2_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ChatMessageH2Repository chatMessageRepository;
+
+    @Test
+    void comparePageCostByRoomSize() {
+        User host = User.builder()
+                .name("host").email("host@test.com").password("pw")
+                .imgUrl("img").description("desc")
+                .gender(Gender.MALE).age(20).role(Role.USER)
+                .build();
+        entityManager.persist(host);
+        long smallRoom = chatroom(host, "small").getId();
+        long largeRoom = chatroom(host, "large").getId();
+        entityManager.flush();
+        // 엔티티를 하나씩 만들지 않고 H2에서 바로 채움 (ID는 시퀀스 범위와 겹치지 않게 큰 값부터)
+        insertMessages(smallRoom, 1_000_000_000L, SMALL_ROOM);
+        insertMessages(largeRoom, 2_000_000_000L, LARGE_ROOM);
+        entityManager.clear();
+
+        // 워밍업
+        readPages(smallRoom, 1_000_000_000L + SMALL_ROOM / 2);
+        readPages(largeRoom, 2_000_000_000L + LARGE_ROOM / 2);
+
+        long smallNanos = readPages(smallRoom, 1_000_000_000L + SMALL_ROOM / 2);
+        long largeNanos = readPages(largeRoom, 2_000_000_000L + LARGE_ROOM / 2);
+        System.out.printf("[benchmark] 페이지(%d건) 조회 평균: 메시지 %d개 방 %.1fus, 메시지 %d개 방 %.1fus%n",
+                PAGE_SIZE, SMALL_ROOM, smallNanos / 1e3 / ROUNDS, LARGE_ROOM, largeNanos / 1e3 / ROUNDS);
+
+        String plan = String.valueOf(entityManager.createNativeQuery(
+                        "EXPLAIN SELECT id FROM chat_message WHERE chatroom_id = " + largeRoom
+                                + " AND id < 2000250000 ORDER BY chatroom_id, id DESC LIMIT 50")
+                .getSingleResult());
+        System.out.printf("[benchmark] 실행 계획: %s%n", plan.replaceAll("\\s+", " "));
+        assertThat(plan.toUpperCase()).contains("IDX_CHAT_MESSAGE_ROOM_ID").contains("INDEX SORTED");
+    }
+
+    // 최신 페이지 + 커서 기준 과거 페이지를 번갈아 조회
+    private long readPages(long chatroomId, long middleId) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            Long cursor = (i % 2 == 0) ? null : middleId;
+            assertThat(chatMessageRepository.findPageBefore(chatroomId, cursor, PAGE_SIZE)).hasSize(PAGE_SIZE);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void insertMessages(long chatroomId, long firstId, int count) {
+        entityManager.createNativeQuery("INSERT INTO chat_message (id, chatroom_id, sender_id, message, send_time, partition_day) "
+                        + "SELECT ? + X, ?, 1, CONCAT('message ', X), CURRENT_TIMESTAMP, ? FROM SYSTEM_RANGE(0, ?)")
+                .setParameter(1, firstId)
+                .setParameter(2, chatroomId)
+                .setParameter(3, ChatMessage.partitionDayOf(LocalDateTime.now()))
+                .setParameter(4, count - 1)
+                .executeUpdate();
+    }
+
+    private Chatroom chatroom(User host, String title) {
+        Event event = Event.builder()
+                .title(title).description("benchmark").maxParticipants(10)
+                .latitude(37.5).longitude(127.0)
+                .host(host)
+                .participants(new HashSet<>())
+                .categories(new HashSet<>())
+                .build();
+        entityManager.persist(event);
+        Chatroom chatroom = Chatroom.builder().event(event).build();
+        entityManager.persist(chatroom);
+        return chatroom;
+    }
+}
@@ -0,0 +1,179 @@
+package com.runinto.chat.domain.repository.message;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.runinto.chat.domain.repository.chatroom.Chatroom;
+import com.runinto.chat.dto.response.ChatMessageResponse;
+import com.runinto.chat.service.ChatMessageArchiver;
+import com.runinto.config.properties.ChatArchiveProperties;
+import com.runinto.event.domain.Event;
+import com.runinto.user.domain.Gender;
+import com.runinto.user.domain.Role;
+import com.runinto.user.domain.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.ignoreStubs;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(showSql = false)
+@DisplayName("채팅 날짜 파티션 보관 테스트")
+class ChatMessageArchiveTest {
+
+    private static final LocalDateTime OLD = LocalDateTime.of(2026, 8, 1, 12, 0);
+    private static final LocalDateTime RECENT = LocalDateTime.of(2026, 10, 17, 9, 30);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ChatMessageH2Repository chatMessageRepository;
+
+    @TempDir
+    Path archiveDirectory;
+
+    private ChatMessageArchiver archiver;
+    private long lastId;
+
+    @BeforeEach
+    void setUp() {
+        User host = User.builder()
+                .name("host").email("host@test.com").password("pw")
+                .imgUrl("img").description("desc")
+                .gender(Gender.MALE).age(20).role(Role.USER)
+                .build();
+        entityManager.persist(host);
+        Event event = Event.builder()
+                .title("archive").description("archive").maxParticipants(10)
+                .latitude(37.5).longitude(127.0)
+                .host(host)
+                .participants(new HashSet<>())
+                .categories(new HashSet<>())
+                .build();
+        entityManager.persist(event);
+        Chatroom chatroom = Chatroom.builder().event(event).build();
+        entityManager.persist(chatroom);
+        for (int i = 0; i < 5; i++) {
+            message(chatroom, "old " + i, OLD.plusMinutes(i));
+            message(chatroom, "older " + i, OLD.minusDays(1).plusMinutes(i));
+        }
+        message(chatroom, "recent", RECENT);
+        entityManager.flush();
+        entityManager.clear();
+
+        ChatArchiveProperties properties = new ChatArchiveProperties();
+        properties.setDirectory(archiveDirectory.toString());
+        properties.setBatchSize(2);
+        archiver = new ChatMessageArchiver(chatMessageRepository, properties, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    @DisplayName("저장 시 전송 시각의 날짜로 파티션이 정해진다")
+    void assignsPartitionDay() {
+        assertThat(chatMessageRepository.findOldestPartitionBefore(20261017)).contains(20260731);
+        assertThat(chatMessageRepository.findOldestPartitionBefore(20260731)).isEmpty();
+    }
+
+    @Nested
+    @DisplayName("archiveBefore 메소드는")
+    class Describe_archiveBefore {
+
+        @Test
+        @DisplayName("기준일 이전 파티션을 gzip 세그먼트로 옮기고 테이블에서 지운다")
+        void movesColdPartitions() throws IOException {
+            long archived = archiver.archiveBefore(LocalDate.of(2026, 10, 1));
+
+            assertThat(archived).isEqualTo(10);
+            assertThat(chatMessageRepository.findAll()).extracting(ChatMessage::getMessage).containsExactly("recent");
+
+            List<Path> segments;
+            try (Stream<Path> files = Files.list(archiveDirectory)) {
+                segments = files.sorted().toList();
+            }
+            assertThat(segments).extracting(path -> path.getFileName().toString())
+                    .allMatch(name -> name.endsWith(".jsonl.gz"))
+                    .anyMatch(name -> name.startsWith("chat-message-20260731-"))
+                    .anyMatch(name -> name.startsWith("chat-message-20260801-"))
+                    .hasSize(2);
+            assertThat(readLines(segments.get(1))).hasSize(5)
+                    .allMatch(line -> line.contains("\"sendTime\":\"2026-08-01T12:0"));
+        }
+
+        @Test
+        @DisplayName("세그먼트에 쓴 id만 조각 단위로 지워, 읽은 뒤 늦게 커밋된 더 작은 id의 행은 남긴다")
+        void deletesOnlyWrittenIds() {
+            ChatMessageH2Repository repository = mock(ChatMessageH2Repository.class);
+            when(repository.findOldestPartitionBefore(anyInt())).thenReturn(Optional.of(20260801), Optional.empty());
+            // id 13은 첫 조각을 읽은 뒤에 커밋되어 두 번째 조각(id > 12)에 보이지 않음
+            when(repository.findPartitionSlice(20260801, 0, 2)).thenReturn(List.of(row(11L), row(12L)));
+            when(repository.findPartitionSlice(20260801, 12, 2)).thenReturn(List.of(row(14L)));
+            ChatArchiveProperties properties = new ChatArchiveProperties();
+            properties.setDirectory(archiveDirectory.toString());
+            properties.setBatchSize(2);
+
+            long archived = new ChatMessageArchiver(repository, properties,
+                    new ObjectMapper().registerModule(new JavaTimeModule())).archiveBefore(LocalDate.of(2026, 10, 1));
+
+            assertThat(archived).isEqualTo(3);
+            verify(repository).deletePartition(20260801, List.of(11L, 12L));
+            verify(repository).deletePartition(20260801, List.of(14L));
+            verifyNoMoreInteractions(ignoreStubs(repository));
+        }
+
+        @Test
+        @DisplayName("옮길 파티션이 없으면 파일을 만들지 않는다")
+        void nothingToArchive() throws IOException {
+            assertThat(archiver.archiveBefore(LocalDate.of(2026, 7, 1))).isZero();
+
+            try (Stream<Path> files = Files.list(archiveDirectory)) {
+                assertThat(files).isEmpty();
+            }
+        }
+    }
+
+    private void message(Chatroom chatroom, String content, LocalDateTime sendTime) {
+        entityManager.persist(ChatMessage.builder()
+                .id(++lastId)
+                .chatroom(chatroom)
+                .senderId(1L)
+                .message(content)
+                .sendTime(sendTime)
+                .build());
+    }
+
+    private static ChatMessageResponse row(long id) {
+        return new ChatMessageResponse(id, 1L, 1L, "message " + id, OLD);
+    }
+
+    private static List<String> readLines(Path segment) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(segment)), StandardCharsets.UTF_8))) {
+            return reader.lines().toList();
+        }
+    }
+}
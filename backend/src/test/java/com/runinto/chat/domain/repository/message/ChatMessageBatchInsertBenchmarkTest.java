@@ -0,0 +1,128 @@
+package com.runinto.chat.domain.repository.message;
+
+import com.runinto.chat.domain.repository.chatroom.Chatroom;
+import com.runinto.event.domain.Event;
+import com.runinto.user.domain.Gender;
+import com.runinto.user.domain.Role;
+import com.runinto.user.domain.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메시지 한 건씩 저장+flush(기존) vs 시퀀스 ID + JDBC 배치 일괄 저장(신규) 처리량 비교.
+ * gradle :backend:test -Dbenchmark=true --tests '*ChatMessageBatchInsertBenchmarkTest' 로 실행합니다.
+ */
+@DataJpaTest(showSql = false, properties = {
+        "spring.jpa.properties.hibernate.jdbc.batch_size=100",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("채팅 메시지 일괄 저장 벤치마크")
+class ChatMessageBatchInsertBenchmarkTest {
+
+    private static final int MESSAGE_COUNT = 5_000;
+    private static final int ROUNDS = 5;
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ChatMessageH2Repository chatMessageRepository;
+
+    private Long chatroomId;
+    private long lastId;
+
+    @BeforeEach
+    void setUp() {
+        User host = User.builder()
+                .name("host").email("host@test.com").password("pw")
+                .imgUrl("img").description("desc")
+                .gender(Gender.MALE).age(20).role(Role.USER)
+                .build();
+        entityManager.persist(host);
+        Event event = Event.builder()
+                .title("event").description("benchmark").maxParticipants(10)
+                .latitude(37.5).longitude(127.0)
+                .host(host)
+                .participants(new HashSet<>())
+                .categories(new HashSet<>())
+                .build();
+        entityManager.persist(event);
+        Chatroom chatroom = Chatroom.builder().event(event).build();
+        entityManager.persist(chatroom);
+        entityManager.flush();
+        entityManager.clear();
+        chatroomId = chatroom.getId();
+    }
+
+    @Test
+    void compareInsertPaths() {
+        // 워밍업
+        insertOneByOne(BATCH_SIZE);
+        insertInBatches(BATCH_SIZE);
+
+        long oneByOneNanos = 0;
+        long batchedNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            insertOneByOne(MESSAGE_COUNT);
+            oneByOneNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            insertInBatches(MESSAGE_COUNT);
+            batchedNanos += System.nanoTime() - start;
+        }
+
+        double oneByOneRate = MESSAGE_COUNT * ROUNDS / (oneByOneNanos / 1e9);
+        double batchedRate = MESSAGE_COUNT * ROUNDS / (batchedNanos / 1e9);
+        System.out.printf("[benchmark] 한 건씩 저장: %.0f msg/s, 배치 저장(%d건): %.0f msg/s (x%.1f)%n",
+                oneByOneRate, BATCH_SIZE, batchedRate, batchedRate / oneByOneRate);
+
+        Long count = entityManager.createQuery("SELECT COUNT(m) FROM ChatMessage m", Long.class).getSingleResult();
+        assertThat(count).isEqualTo(2L * (BATCH_SIZE + (long) MESSAGE_COUNT * ROUNDS));
+    }
+
+    // 메시지마다 INSERT를 바로 실행 (기존 ChatMessageH2Repository.save 호출 흐름, 호출마다 새 영속성 컨텍스트)
+    private void insertOneByOne(int count) {
+        for (int i = 0; i < count; i++) {
+            chatMessageRepository.save(message(i));
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+
+    private void insertInBatches(int count) {
+        for (int from = 0; from < count; from += BATCH_SIZE) {
+            List<ChatMessage> batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = from; i < Math.min(count, from + BATCH_SIZE); i++) {
+                batch.add(message(i));
+            }
+            chatMessageRepository.saveAll(batch);
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+
+    private ChatMessage message(int i) {
+        return ChatMessage.builder()
+                .id(++lastId)
+                .chatroom(entityManager.getReference(Chatroom.class, chatroomId))
+                .senderId(1L)
+                .message("message " + i)
+                .sendTime(LocalDateTime.now())
+                .build();
+    }
+}
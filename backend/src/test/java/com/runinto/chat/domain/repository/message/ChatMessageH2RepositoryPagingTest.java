@@ -0,0 +1,144 @@
+package com.runinto.chat.domain.repository.message;
+
+import com.runinto.chat.domain.repository.chatroom.Chatroom;
+import com.runinto.chat.dto.response.ChatMessageResponse;
+import com.runinto.event.domain.Event;
+import com.runinto.user.domain.Gender;
+import com.runinto.user.domain.Role;
+import com.runinto.user.domain.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(showSql = false)
+@DisplayName("ChatMessageH2Repository 커서 페이징 테스트")
+class ChatMessageH2RepositoryPagingTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ChatMessageH2Repository chatMessageRepository;
+
+    private Long chatroomId;
+    private long lastId;
+    private final List<Long> messageIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User host = User.builder()
+                .name("host").email("host@test.com").password("pw")
+                .imgUrl("img").description("desc")
+                .gender(Gender.MALE).age(20).role(Role.USER)
+                .build();
+        entityManager.persist(host);
+        Chatroom chatroom = chatroom(host, "room");
+        Chatroom otherRoom = chatroom(host, "other");
+        for (int i = 0; i < 10; i++) {
+            messageIds.add(message(chatroom, "message " + i).getId());
+            message(otherRoom, "other " + i);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        chatroomId = chatroom.getId();
+    }
+
+    @Nested
+    @DisplayName("findPageBefore 메소드는")
+    class Describe_findPageBefore {
+
+        @Test
+        @DisplayName("커서가 없으면 가장 최근 메시지부터 최신순으로 limit개를 반환한다")
+        void latestPage() {
+            List<ChatMessageResponse> page = chatMessageRepository.findPageBefore(chatroomId, null, 3);
+
+            assertThat(page).extracting(ChatMessageResponse::getId)
+                    .containsExactly(messageIds.get(9), messageIds.get(8), messageIds.get(7));
+            assertThat(page).allMatch(message -> message.getChatRoomId().equals(chatroomId));
+        }
+
+        @Test
+        @DisplayName("커서보다 오래된 같은 방의 메시지만 반환한다")
+        void olderThanCursor() {
+            List<ChatMessageResponse> page = chatMessageRepository.findPageBefore(chatroomId, messageIds.get(2), 5);
+
+            assertThat(page).extracting(ChatMessageResponse::getId)
+                    .containsExactly(messageIds.get(1), messageIds.get(0));
+        }
+    }
+
+    @Nested
+    @DisplayName("findPageAfter 메소드는")
+    class Describe_findPageAfter {
+
+        @Test
+        @DisplayName("커서보다 새로운 메시지를 오래된 순으로 반환한다")
+        void newerThanCursor() {
+            List<ChatMessageResponse> page = chatMessageRepository.findPageAfter(chatroomId, messageIds.get(6), 2);
+
+            assertThat(page).extracting(ChatMessageResponse::getMessage)
+                    .containsExactly("message 7", "message 8");
+        }
+    }
+
+    @Nested
+    @DisplayName("saveAll 메소드는")
+    class Describe_saveAll {
+
+        @Test
+        @DisplayName("이미 저장된 id의 메시지는 건너뛰고 새 메시지만 저장한다")
+        void skipsDuplicates() {
+            Chatroom chatroom = entityManager.getReference(Chatroom.class, chatroomId);
+            long newId = ++lastId;
+
+            chatMessageRepository.saveAll(List.of(
+                    ChatMessage.builder().id(messageIds.get(9)).chatroom(chatroom).senderId(1L)
+                            .message("redelivered").sendTime(LocalDateTime.now()).build(),
+                    ChatMessage.builder().id(newId).chatroom(chatroom).senderId(1L)
+                            .message("new").sendTime(LocalDateTime.now()).build()));
+
+            List<ChatMessageResponse> page = chatMessageRepository.findPageBefore(chatroomId, null, 3);
+            assertThat(page).extracting(ChatMessageResponse::getId)
+                    .containsExactly(newId, messageIds.get(9), messageIds.get(8));
+            assertThat(page).extracting(ChatMessageResponse::getMessage)
+                    .containsExactly("new", "message 9", "message 8");
+        }
+    }
+
+    private Chatroom chatroom(User host, String title) {
+        Event event = Event.builder()
+                .title(title).description("paging").maxParticipants(10)
+                .latitude(37.5).longitude(127.0)
+                .host(host)
+                .participants(new HashSet<>())
+                .categories(new HashSet<>())
+                .build();
+        entityManager.persist(event);
+        Chatroom chatroom = Chatroom.builder().event(event).build();
+        entityManager.persist(chatroom);
+        return chatroom;
+    }
+
+    private ChatMessage message(Chatroom chatroom, String content) {
+        ChatMessage message = ChatMessage.builder()
+                .id(++lastId)
+                .chatroom(chatroom)
+                .senderId(1L)
+                .message(content)
+                .sendTime(LocalDateTime.now())
+                .build();
+        entityManager.persist(message);
+        return message;
+    }
+}
@@ -0,0 +1,182 @@
+package com.runinto.chat.domain.repository.message;
+
+import com.runinto.chat.domain.repository.chatroom.Chatroom;
+import com.runinto.chat.dto.response.ChatMessageResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChatMessageLogRepository 테스트")
+class ChatMessageLogRepositoryTest {
+
+    // 세그먼트 하나에 레코드 10개 남짓, 인덱스는 4건마다 → 페이지가 블록/세그먼트 경계를 넘나들도록 작게 설정
+    private static final int SEGMENT_SIZE = 512;
+    private static final int INDEX_INTERVAL = 4;
+
+    @TempDir
+    Path directory;
+
+    private ChatMessageLogRepository repository;
+    private long lastId;
+    private final List<Long> roomIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        repository = new ChatMessageLogRepository(directory, SEGMENT_SIZE, INDEX_INTERVAL);
+        // 두 방을 번갈아 저장해 방마다 id가 띄엄띄엄 증가하도록 함 (받은 노드에서 붙인 id처럼 전역으로 증가)
+        for (int i = 0; i < 40; i++) {
+            List<ChatMessage> saved = repository.saveAll(List.of(message(1L, "room1 " + i), message(2L, "room2 " + i)));
+            roomIds.add(saved.get(0).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("방마다 세그먼트 파일을 나눠 순차로 쓴다")
+    void writesSegmentsPerRoom() throws IOException {
+        try (Stream<Path> segments = Files.list(directory.resolve("1"))) {
+            assertThat(segments.count()).isGreaterThan(1);
+        }
+        assertThat(roomIds).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Nested
+    @DisplayName("findPageBefore 메소드는")
+    class Describe_findPageBefore {
+
+        @Test
+        @DisplayName("커서가 없으면 가장 최근 메시지부터 최신순으로 반환한다")
+        void latestPage() {
+            List<ChatMessageResponse> page = repository.findPageBefore(1L, null, 3);
+
+            assertThat(page).extracting(ChatMessageResponse::getMessage).containsExactly("room1 39", "room1 38", "room1 37");
+            assertThat(page).allMatch(message -> message.getChatRoomId().equals(1L));
+        }
+
+        @Test
+        @DisplayName("블록과 세그먼트 경계를 넘어 커서보다 오래된 메시지를 이어서 읽는다")
+        void crossesSegments() {
+            List<ChatMessageResponse> page = repository.findPageBefore(1L, roomIds.get(25), 20);
+
+            assertThat(page).extracting(ChatMessageResponse::getId)
+                    .containsExactlyElementsOf(reversed(roomIds.subList(5, 25)));
+        }
+    }
+
+    @Nested
+    @DisplayName("findPageAfter 메소드는")
+    class Describe_findPageAfter {
+
+        @Test
+        @DisplayName("커서보다 새로운 메시지를 오래된 순으로 반환한다")
+        void newerThanCursor() {
+            List<ChatMessageResponse> page = repository.findPageAfter(1L, roomIds.get(10), 15);
+
+            assertThat(page).extracting(ChatMessageResponse::getId).containsExactlyElementsOf(roomIds.subList(11, 26));
+        }
+
+        @Test
+        @DisplayName("전송 시각과 본문을 그대로 복원한다")
+        void restoresFields() {
+            ChatMessageResponse first = repository.findPageAfter(2L, 0L, 1).get(0);
+
+            assertThat(first.getMessage()).isEqualTo("room2 0");
+            assertThat(first.getSenderId()).isEqualTo(7L);
+            assertThat(first.getSendTime()).isEqualTo(LocalDateTime.of(2026, 10, 18, 9, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("saveAll 메소드는")
+    class Describe_saveAll {
+
+        @Test
+        @DisplayName("이미 쓴 id의 메시지(재전달)는 건너뛰고 새 메시지만 이어 쓴다")
+        void skipsRedelivered() {
+            ChatMessage redelivered = message(1L, "redelivered");
+            redelivered.setId(roomIds.get(39));
+            ChatMessage next = message(1L, "new");
+
+            repository.saveAll(List.of(next, redelivered));
+
+            assertThat(repository.findPageBefore(1L, null, 2)).extracting(ChatMessageResponse::getMessage)
+                    .containsExactly("new", "room1 39");
+        }
+    }
+
+    @Nested
+    @DisplayName("findById 메소드는")
+    class Describe_findById {
+
+        @Test
+        @DisplayName("희소 인덱스로 레코드를 찾아 엔티티로 되돌린다")
+        void findsRecord() {
+            ChatMessage found = repository.findById(roomIds.get(17)).orElseThrow();
+
+            assertThat(found.getChatroom().getId()).isEqualTo(1L);
+            assertThat(found.getMessage()).isEqualTo("room1 17");
+            assertThat(found.getPartitionDay()).isEqualTo(20261018);
+            assertThat(repository.findById(lastId + 1)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("deleteById 메소드는")
+    class Describe_deleteById {
+
+        @Test
+        @DisplayName("레코드에 삭제 표시를 남겨 조회와 페이지에서 제외한다")
+        void tombstones() {
+            repository.deleteById(roomIds.get(17));
+
+            assertThat(repository.findById(roomIds.get(17))).isEmpty();
+            assertThat(repository.findPageBefore(1L, roomIds.get(19), 3)).extracting(ChatMessageResponse::getId)
+                    .containsExactly(roomIds.get(18), roomIds.get(16), roomIds.get(15));
+            assertThat(repository.findAll()).hasSize(79);
+        }
+    }
+
+    @Test
+    @DisplayName("다시 열면 기존 세그먼트를 복구하고 이어서 쓴다")
+    void recoversOnReopen() throws IOException {
+        repository.deleteById(roomIds.get(0));
+        repository.close();
+        ChatMessageLogRepository reopened = new ChatMessageLogRepository(directory, SEGMENT_SIZE, INDEX_INTERVAL);
+
+        assertThat(reopened.findPageBefore(1L, null, 40)).extracting(ChatMessageResponse::getId)
+                .containsExactlyElementsOf(reversed(roomIds.subList(1, 40)));
+        ChatMessage next = reopened.save(message(1L, "after restart"));
+        assertThat(reopened.findPageBefore(1L, null, 1)).extracting(ChatMessageResponse::getId)
+                .containsExactly(next.getId());
+    }
+
+    private ChatMessage message(long chatroomId, String content) {
+        Chatroom chatroom = Chatroom.builder().build();
+        chatroom.setId(chatroomId);
+        return ChatMessage.builder()
+                .id(++lastId)
+                .chatroom(chatroom)
+                .senderId(7L)
+                .message(content)
+                .sendTime(LocalDateTime.of(2026, 10, 18, 9, 0))
+                .build();
+    }
+
+    private static List<Long> reversed(List<Long> ids) {
+        List<Long> copy = new ArrayList<>(ids);
+        Collections.reverse(copy);
+        return copy;
+    }
+}
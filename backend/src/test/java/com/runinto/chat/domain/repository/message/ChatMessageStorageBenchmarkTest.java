@@ -0,0 +1,136 @@
+package com.runinto.chat.domain.repository.message;
+
+import com.runinto.chat.domain.repository.chatroom.Chatroom;
+import com.runinto.event.domain.Event;
+import com.runinto.user.domain.Gender;
+import com.runinto.user.domain.Role;
+import com.runinto.user.domain.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ChatMessageH2Repository vs ChatMessageLogRepository: 여러 방에 섞여 들어오는 배치 저장 처리량과 기록 페이지 조회 시간 비교.
+ * gradle :backend:test -Dbenchmark=true --tests '*ChatMessageStorageBenchmarkTest' 로 실행합니다.
+ */
+@DataJpaTest(showSql = false, properties = {
+        "spring.jpa.properties.hibernate.jdbc.batch_size=100",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("채팅 메시지 저장소 벤치마크")
+class ChatMessageStorageBenchmarkTest {
+
+    private static final int ROOMS = 10;
+    private static final int MESSAGES = 50_000;
+    private static final int BATCH_SIZE = 500;
+    private static final int PAGE_SIZE = 50;
+    private static final int ROUNDS = 2_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ChatMessageH2Repository h2Repository;
+
+    @TempDir
+    Path logDirectory;
+
+    @Test
+    void compareStorage() throws IOException {
+        User host = User.builder()
+                .name("host").email("host@test.com").password("pw")
+                .imgUrl("img").description("desc")
+                .gender(Gender.MALE).age(20).role(Role.USER)
+                .build();
+        entityManager.persist(host);
+        List<Long> rooms = new ArrayList<>(ROOMS);
+        for (int i = 0; i < ROOMS; i++) {
+            rooms.add(chatroom(host, "room " + i).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        ChatMessageLogRepository logRepository = new ChatMessageLogRepository(logDirectory, 4 * 1024 * 1024, 64);
+
+        long h2WriteNanos = write(h2Repository, rooms, true);
+        long logWriteNanos = write(logRepository, rooms, false);
+        System.out.printf("[benchmark] 배치 저장(%d건씩, %d개 방): H2 %.0f msg/s, 로그 %.0f msg/s%n",
+                BATCH_SIZE, ROOMS, MESSAGES / (h2WriteNanos / 1e9), MESSAGES / (logWriteNanos / 1e9));
+
+        long room = rooms.get(0);
+        long h2Middle = h2Repository.findPageBefore(room, null, MESSAGES / ROOMS / 2).get(MESSAGES / ROOMS / 2 - 1).getId();
+        long logMiddle = logRepository.findPageBefore(room, null, MESSAGES / ROOMS / 2).get(MESSAGES / ROOMS / 2 - 1).getId();
+        // 워밍업
+        readPages(h2Repository, room, h2Middle);
+        readPages(logRepository, room, logMiddle);
+
+        long h2ReadNanos = readPages(h2Repository, room, h2Middle);
+        long logReadNanos = readPages(logRepository, room, logMiddle);
+        System.out.printf("[benchmark] 페이지(%d건) 조회 평균 (방당 메시지 %d개): H2 %.1fus, 로그 %.1fus%n",
+                PAGE_SIZE, MESSAGES / ROOMS, h2ReadNanos / 1e3 / ROUNDS, logReadNanos / 1e3 / ROUNDS);
+    }
+
+    // 방을 돌아가며 섞인 배치를 저장 (Kafka 배치 리스너가 받는 모양)
+    private long write(ChatMessageRepositoryImple repository, List<Long> rooms, boolean jpa) {
+        long start = System.nanoTime();
+        for (int from = 0; from < MESSAGES; from += BATCH_SIZE) {
+            List<ChatMessage> batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = from; i < from + BATCH_SIZE; i++) {
+                batch.add(message(rooms.get(i % rooms.size()), i));
+            }
+            repository.saveAll(batch);
+            if (jpa) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    // 최신 페이지 + 커서 기준 과거 페이지를 번갈아 조회
+    private long readPages(ChatMessageRepositoryImple repository, long chatroomId, long middleId) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            Long cursor = (i % 2 == 0) ? null : middleId;
+            assertThat(repository.findPageBefore(chatroomId, cursor, PAGE_SIZE)).hasSize(PAGE_SIZE);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private ChatMessage message(long chatroomId, int i) {
+        return ChatMessage.builder()
+                .id(i + 1L)
+                .chatroom(entityManager.getReference(Chatroom.class, chatroomId))
+                .senderId(1L)
+                .message("message " + i)
+                .sendTime(LocalDateTime.now())
+                .build();
+    }
+
+    private Chatroom chatroom(User host, String title) {
+        Event event = Event.builder()
+                .title(title).description("benchmark").maxParticipants(10)
+                .latitude(37.5).longitude(127.0)
+                .host(host)
+                .participants(new HashSet<>())
+                .categories(new HashSet<>())
+                .build();
+        entityManager.persist(event);
+        Chatroom chatroom = Chatroom.builder().event(event).build();
+        entityManager.persist(chatroom);
+        return chatroom;
+    }
+}
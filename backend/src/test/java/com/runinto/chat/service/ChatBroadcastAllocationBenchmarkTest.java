@@ -0,0 +1,188 @@
+package com.runinto.chat.service;
+
+import com.runinto.chat.proto.ChatMessageProto;
+import com.runinto.config.properties.ChatSessionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 수신자마다 protobuf를 다시 만들고 toByteArray()하던 기존 방식 vs 한번 직렬화한 읽기 전용 프레임 공유 방식의
+ * 브로드캐스트 1회당 힙 할당량 비교 (스레드별 할당 바이트 카운터 사용).
+ * gradle :backend:test -Dbenchmark=true --tests '*ChatBroadcastAllocationBenchmarkTest' 로 실행합니다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("채팅 브로드캐스트 할당량 벤치마크")
+class ChatBroadcastAllocationBenchmarkTest {
+
+    private static final int[] ROOM_SIZES = {10, 100, 1_000};
+    private static final int BROADCASTS = 2_000;
+    private static final String CONTENT = "a".repeat(1_024);
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void compareAllocationPerBroadcast() {
+        for (int roomSize : ROOM_SIZES) {
+            // 전송 스레드 대신 호출 스레드에서 바로 큐를 비워 할당량을 한 스레드에서 측정
+            LocalChatSessions sessions = new LocalChatSessions(Runnable::run, Runnable::run, new ChatSessionProperties(), new SimpleMeterRegistry());
+            List<Long> members = new ArrayList<>(roomSize);
+            for (long userId = 1; userId <= roomSize; userId++) {
+                sessions.register(userId, new DrainingSession());
+                members.add(userId);
+            }
+
+            // 워밍업
+            measure(() -> perRecipientEncode(sessions, members));
+            measure(() -> sharedFrame(sessions, members));
+
+            long perRecipient = measure(() -> perRecipientEncode(sessions, members));
+            long shared = measure(() -> sharedFrame(sessions, members));
+            System.out.printf("[benchmark] 방 인원 %d명: 수신자별 직렬화 %d B/broadcast, 공유 프레임 %d B/broadcast (페이로드 %d B는 1회만)%n",
+                    roomSize, perRecipient, shared, CONTENT.length());
+
+            // 공유 프레임은 수신자당 바이트 배열을 만들지 않으므로 수신자당 할당이 페이로드 크기보다 훨씬 작아야 함
+            assertThat(shared / roomSize).isLessThan(CONTENT.length() / 4);
+            assertThat(shared).isLessThan(perRecipient / 5);
+        }
+    }
+
+    private long measure(Runnable broadcast) {
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < BROADCASTS; i++) {
+            broadcast.run();
+        }
+        return (threadMXBean.getThreadAllocatedBytes(threadId) - before) / BROADCASTS;
+    }
+
+    // 기존: 수신자마다 메시지 빌드 + toByteArray + BinaryMessage
+    private void perRecipientEncode(LocalChatSessions sessions, List<Long> members) {
+        for (Long userId : members) {
+            byte[] payload = ChatMessageProto.ChatMessage.newBuilder()
+                    .setChatRoomId(1L)
+                    .setSenderId(1L)
+                    .setMessage(CONTENT)
+                    .build()
+                    .toByteArray();
+            sessions.broadcast(List.of(userId), ByteBuffer.wrap(payload));
+        }
+    }
+
+    private void sharedFrame(LocalChatSessions sessions, List<Long> members) {
+        ByteBuffer frame = ChatFrames.encode(ChatMessageProto.ChatMessage.newBuilder()
+                .setChatRoomId(1L)
+                .setSenderId(1L)
+                .setMessage(CONTENT)
+                .build());
+        sessions.broadcast(members, frame);
+    }
+
+    // 컨테이너처럼 버퍼를 끝까지 읽기만 하는 세션 (할당 없음)
+    private static final class DrainingSession implements WebSocketSession {
+        private long drained;
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) {
+            ByteBuffer payload = ((BinaryMessage) message).getPayload();
+            while (payload.hasRemaining()) {
+                drained += payload.get();
+            }
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public String getId() {
+            return "benchmark";
+        }
+
+        @Override
+        public URI getUri() {
+            return null;
+        }
+
+        @Override
+        public HttpHeaders getHandshakeHeaders() {
+            return HttpHeaders.EMPTY;
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return Map.of();
+        }
+
+        @Override
+        public Principal getPrincipal() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return null;
+        }
+
+        @Override
+        public String getAcceptedProtocol() {
+            return null;
+        }
+
+        @Override
+        public void setTextMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getTextMessageSizeLimit() {
+            return 0;
+        }
+
+        @Override
+        public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getBinaryMessageSizeLimit() {
+            return 0;
+        }
+
+        @Override
+        public List<WebSocketExtension> getExtensions() {
+            return List.of();
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void close(CloseStatus status) {
+        }
+    }
+}
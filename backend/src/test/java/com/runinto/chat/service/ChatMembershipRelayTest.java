@@ -0,0 +1,67 @@
+package com.runinto.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.runinto.chat.dto.ChatroomMemberJoinedEvent;
+import com.runinto.chat.dto.ChatroomMemberLeftEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ChatMembershipRelay 테스트")
+class ChatMembershipRelayTest {
+
+    private StringRedisTemplate redisTemplate;
+    private ChatroomMembershipCache membershipCache;
+    private ChatRoomSubscriptionManager subscriptionManager;
+    private ChatMembershipRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        membershipCache = mock(ChatroomMembershipCache.class);
+        subscriptionManager = mock(ChatRoomSubscriptionManager.class);
+        relay = new ChatMembershipRelay(mock(RedisMessageListenerContainer.class), redisTemplate,
+                membershipCache, subscriptionManager, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 온 강퇴는 이 노드의 멤버십 캐시와 방 구독에 반영한다")
+    void appliesRemoteChange() {
+        String body = "{\"node\":\"other\",\"joined\":false,\"chatroomId\":10,\"userId\":1}";
+
+        relay.onMessage(new DefaultMessage("chatroom-membership".getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+
+        verify(membershipCache).onMemberLeft(new ChatroomMemberLeftEvent(10L, 1L));
+        verify(subscriptionManager).onMemberLeft(new ChatroomMemberLeftEvent(10L, 1L));
+    }
+
+    @Test
+    @DisplayName("로컬 참여는 바로 반영하고 발행하며, 되돌아온 자기 메시지는 다시 적용하지 않는다")
+    void publishesAndIgnoresOwnEcho() {
+        relay.onMemberJoined(new ChatroomMemberJoinedEvent(10L, 2L));
+
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq("chatroom-membership"), published.capture());
+        verify(subscriptionManager, times(1)).onMemberJoined(new ChatroomMemberJoinedEvent(10L, 2L));
+
+        relay.onMessage(new DefaultMessage("chatroom-membership".getBytes(StandardCharsets.UTF_8),
+                published.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+        verify(membershipCache, times(1)).onMemberJoined(any());
+        verify(subscriptionManager, never()).onMemberLeft(any());
+    }
+}
@@ -0,0 +1,43 @@
+package com.runinto.chat.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChatMessageIdGenerator 테스트")
+class ChatMessageIdGeneratorTest {
+
+    private static final long NOW = ChatMessageIdGenerator.EPOCH_MILLIS + 1_000;
+
+    @Test
+    @DisplayName("시각, 노드 번호, 순번을 한 id에 담는다")
+    void packsTimeWorkerAndSequence() {
+        ChatMessageIdGenerator generator = new ChatMessageIdGenerator(() -> NOW, () -> 1029);
+
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        assertThat(first >>> 22).isEqualTo(1_000L);
+        // 노드 번호는 1024개로 돌려 씀
+        assertThat((first >>> 12) & ChatMessageIdGenerator.MAX_WORKER_ID).isEqualTo(5L);
+        assertThat(second).isEqualTo(first + 1);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가거나 한 밀리초의 순번을 다 써도 id는 계속 증가한다")
+    void staysMonotonic() {
+        AtomicLong clock = new AtomicLong(NOW);
+        ChatMessageIdGenerator generator = new ChatMessageIdGenerator(clock::get, () -> 0);
+
+        long previous = generator.nextId();
+        clock.set(NOW - 500);
+        for (int i = 0; i < 10_000; i++) {
+            long next = generator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+}
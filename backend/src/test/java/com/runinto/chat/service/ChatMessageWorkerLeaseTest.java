@@ -0,0 +1,79 @@
+package com.runinto.chat.service;
+
+import common.cache.CacheKeys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ChatMessageWorkerLease 테스트")
+class ChatMessageWorkerLeaseTest {
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private ChatMessageWorkerLease lease;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        lease = new ChatMessageWorkerLease(redisTemplate, clock::get);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 쓰고 있지 않은 첫 번호를 잡는다")
+    void acquiresFirstFreeSlot() {
+        givenFree(2);
+
+        assertThat(lease.workerId()).isEqualTo(2L);
+        // lease 기간 안에는 Redis에 다시 묻지 않음
+        givenFree(0);
+        assertThat(lease.workerId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("연장하지 못한 채 lease가 끝나면 그 번호를 버리고 새 번호를 잡는다")
+    @SuppressWarnings("unchecked")
+    void reacquiresAfterLosingLease() {
+        givenFree(2);
+        lease.workerId();
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(0L);
+        // 그 사이 다른 노드가 2번을 가져감
+        when(valueOperations.setIfAbsent(eq(CacheKeys.chatMessageWorker(2)), anyString(), any(Duration.class)))
+                .thenReturn(false);
+        givenFree(5);
+
+        clock.addAndGet(ChatMessageWorkerLease.LEASE_MILLIS);
+
+        assertThat(lease.workerId()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("빈 번호가 없으면 예외를 던진다")
+    void failsWhenNoSlotIsFree() {
+        assertThatThrownBy(() -> lease.workerId()).isInstanceOf(IllegalStateException.class);
+    }
+
+    private void givenFree(int workerId) {
+        when(valueOperations.setIfAbsent(eq(CacheKeys.chatMessageWorker(workerId)), anyString(), any(Duration.class)))
+                .thenReturn(true);
+    }
+}
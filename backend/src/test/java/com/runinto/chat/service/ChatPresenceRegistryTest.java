@@ -0,0 +1,78 @@
+package com.runinto.chat.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ChatPresenceRegistry 테스트")
+class ChatPresenceRegistryTest {
+
+    private StringRedisTemplate redisTemplate;
+    private ChatPresenceRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        registry = new ChatPresenceRegistry(redisTemplate, mock(LocalChatSessions.class));
+    }
+
+    @Nested
+    @DisplayName("connected 메소드는")
+    class Describe_connected {
+
+        @Test
+        @DisplayName("다른 노드에 이미 연결이 있으면 false를 반환한다")
+        void alreadyOnlineElsewhere() {
+            givenRemainingNodes(2L);
+
+            assertThat(registry.connected(1L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("이 노드가 첫 연결이면 true를 반환한다")
+        void firstNode() {
+            givenRemainingNodes(1L);
+
+            assertThat(registry.connected(1L)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("disconnected 메소드는")
+    class Describe_disconnected {
+
+        @Test
+        @DisplayName("다른 노드에 기기가 남아 있으면 false를 반환한다")
+        void stillOnlineElsewhere() {
+            givenRemainingNodes(1L);
+
+            assertThat(registry.disconnected(1L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("남은 노드가 없거나 Redis를 쓸 수 없으면 true를 반환한다")
+        void lastNode() {
+            givenRemainingNodes(0L);
+            assertThat(registry.disconnected(1L)).isTrue();
+
+            when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                    .thenThrow(new RedisConnectionFailureException("down"));
+            assertThat(registry.disconnected(1L)).isTrue();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRemainingNodes(long nodes) {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(nodes);
+    }
+}
@@ -0,0 +1,139 @@
+package com.runinto.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.runinto.chat.proto.ChatMessageProto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ChatRoomSubscriptionManager 테스트")
+class ChatRoomSubscriptionManagerTest {
+
+    private RedisMessageListenerContainer container;
+    private LocalChatSessions sessions;
+    private RecentChatMessages recentMessages;
+    private ChatRoomSubscriptionManager manager;
+
+    @BeforeEach
+    void setUp() {
+        container = mock(RedisMessageListenerContainer.class);
+        sessions = mock(LocalChatSessions.class);
+        when(sessions.isConnected(any())).thenReturn(true);
+        recentMessages = mock(RecentChatMessages.class);
+        manager = new ChatRoomSubscriptionManager(container, sessions, recentMessages, new ObjectMapper());
+    }
+
+    private static List<ChannelTopic> topics(long chatroomId) {
+        return List.of(new ChannelTopic("chatroom:" + chatroomId), new ChannelTopic("chatroom-signal:" + chatroomId));
+    }
+
+    @Nested
+    @DisplayName("구독 관리는")
+    class Describe_subscription {
+
+        @Test
+        @DisplayName("방의 첫 로컬 멤버가 들어올 때만 구독하고 마지막 멤버가 나갈 때 해제한다")
+        void subscribesPerActiveRoom() {
+            manager.userConnected(1L, List.of(10L, 20L));
+            manager.userConnected(2L, List.of(10L));
+
+            verify(container, times(1)).addMessageListener(manager, topics(10L));
+            verify(container, times(1)).addMessageListener(manager, topics(20L));
+            assertThat(manager.subscribedChatroomIds()).containsExactlyInAnyOrder(10L, 20L);
+
+            when(sessions.isConnected(1L)).thenReturn(false);
+            assertThat(manager.userDisconnected(1L)).containsExactlyInAnyOrder(10L, 20L);
+
+            verify(container, never()).removeMessageListener(manager, topics(10L));
+            verify(container).removeMessageListener(manager, topics(20L));
+            assertThat(manager.subscribedChatroomIds()).containsExactly(10L);
+            assertThat(manager.localMembers(10L)).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("다른 기기가 아직 연결되어 있으면 구독을 유지하고 방별 연결 수는 기기 수를 센다")
+        void keepsSubscriptionWhileAnotherDeviceIsConnected() {
+            manager.userConnected(1L, List.of(10L));
+            manager.userConnected(2L, List.of(10L));
+            when(sessions.deviceCount(1L)).thenReturn(2);
+            when(sessions.deviceCount(2L)).thenReturn(1);
+
+            assertThat(manager.connectionCount(10L)).isEqualTo(3);
+
+            assertThat(manager.userDisconnected(1L)).isEmpty();
+
+            verify(container, never()).removeMessageListener(manager, topics(10L));
+            assertThat(manager.localMembers(10L)).containsExactlyInAnyOrder(1L, 2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("onMessage 메소드는")
+    class Describe_onMessage {
+
+        @Test
+        @DisplayName("채널의 방에 속한 로컬 멤버에게만 protobuf로 전달하고 최근 메시지 미러에 같은 프레임을 넣는다")
+        @SuppressWarnings("unchecked")
+        void deliversToLocalMembers() throws Exception {
+            manager.userConnected(1L, List.of(10L));
+            manager.userConnected(2L, List.of(10L));
+            manager.userConnected(3L, List.of(30L));
+            String body = "{\"messageId\":77,\"chatroomId\":10,\"senderId\":1,\"content\":\"hi\",\"sentAt\":1700000000000}";
+
+            manager.onMessage(new DefaultMessage("chatroom:10".getBytes(StandardCharsets.UTF_8),
+                    body.getBytes(StandardCharsets.UTF_8)), null);
+
+            ArgumentCaptor<Collection<Long>> recipients = ArgumentCaptor.forClass(Collection.class);
+            ArgumentCaptor<ByteBuffer> frame = ArgumentCaptor.forClass(ByteBuffer.class);
+            verify(sessions, times(1)).broadcast(recipients.capture(), frame.capture());
+            assertThat(recipients.getValue()).containsExactlyInAnyOrder(1L, 2L);
+            assertThat(frame.getValue().isReadOnly()).isTrue();
+            ChatMessageProto.ChatMessage delivered = ChatMessageProto.ChatEnvelope.parseFrom(frame.getValue().duplicate()).getMessage();
+            assertThat(delivered.getMessageId()).isEqualTo(77L);
+            assertThat(delivered.getChatRoomId()).isEqualTo(10L);
+            assertThat(delivered.getSenderId()).isEqualTo(1L);
+            assertThat(delivered.getMessage()).isEqualTo("hi");
+            assertThat(delivered.getSentAt()).isEqualTo(1_700_000_000_000L);
+            verify(recentMessages).mirror(eq(10L), eq(ChatFrames.chatMessageFrame(77L, 10L, 1L, "hi", 1_700_000_000_000L)));
+        }
+
+        @Test
+        @DisplayName("신호 채널의 묶음 프레임은 다시 직렬화하지 않고 방의 로컬 멤버에게 그대로 전달한다")
+        @SuppressWarnings("unchecked")
+        void relaysSignalBatch() {
+            manager.userConnected(1L, List.of(10L));
+            byte[] batch = ChatMessageProto.ChatEnvelope.newBuilder()
+                    .setSignals(ChatMessageProto.SignalBatch.newBuilder().setChatRoomId(10L))
+                    .build().toByteArray();
+
+            manager.onMessage(new DefaultMessage("chatroom-signal:10".getBytes(StandardCharsets.UTF_8), batch), null);
+
+            ArgumentCaptor<ByteBuffer> frame = ArgumentCaptor.forClass(ByteBuffer.class);
+            verify(sessions).broadcast(any(Collection.class), frame.capture());
+            byte[] delivered = new byte[frame.getValue().remaining()];
+            frame.getValue().duplicate().get(delivered);
+            assertThat(delivered).isEqualTo(batch);
+            verify(recentMessages, never()).mirror(anyLong(), any());
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.runinto.chat.service;
+
+import com.runinto.chat.domain.repository.chatroom.ChatroomH2Repository;
+import com.runinto.chat.domain.repository.chatroom.ChatroomParticipantJPARepository;
+import com.runinto.chat.domain.repository.message.ChatMessage;
+import com.runinto.chat.domain.repository.message.ChatMessageRepositoryImple;
+import com.runinto.chat.dto.response.ChatMessageResponse;
+import com.runinto.event.domain.repository.EventRepository;
+import common.kafka.dto.ChatMessageDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ChatService 테스트")
+class ChatServiceTest {
+
+    private ChatroomH2Repository chatroomRepository;
+    private ChatroomMembershipCache membershipCache;
+    private RecentChatMessages recentMessages;
+    private ChatMessageRepositoryImple chatMessageRepository;
+    private ChatroomParticipantJPARepository chatroomParticipantRepository;
+    private ChatService chatService;
+
+    @BeforeEach
+    void setUp() {
+        chatroomRepository = mock(ChatroomH2Repository.class);
+        membershipCache = mock(ChatroomMembershipCache.class);
+        recentMessages = mock(RecentChatMessages.class);
+        chatMessageRepository = mock(ChatMessageRepositoryImple.class);
+        chatroomParticipantRepository = mock(ChatroomParticipantJPARepository.class);
+        chatService = new ChatService(chatroomRepository, chatMessageRepository,
+                mock(EventRepository.class), chatroomParticipantRepository,
+                mock(ApplicationEventPublisher.class), membershipCache, recentMessages, mock(ChatMessageIdGenerator.class));
+    }
+
+    @Nested
+    @DisplayName("getRecentMessages 메소드는")
+    class Describe_getRecentMessages {
+
+        @Test
+        @DisplayName("버퍼 프레임의 메시지 id를 id 순서대로 돌려주어 대화 기록 조회의 커서로 쓸 수 있다")
+        void returnsIngressIds() {
+            when(membershipCache.contains(10L, 1L)).thenReturn(true);
+            when(recentMessages.recent(10L)).thenReturn(new byte[][]{
+                    ChatFrames.chatMessageFrame(101L, 10L, 1L, "first", 1_700_000_000_000L),
+                    ChatFrames.chatMessageFrame(103L, 10L, 2L, "third", 1_700_000_000_002L),
+                    ChatFrames.chatMessageFrame(102L, 10L, 1L, "second", 1_700_000_000_001L)
+            });
+
+            List<ChatMessageResponse> messages = chatService.getRecentMessages(10L, 1L);
+
+            assertThat(messages).extracting(ChatMessageResponse::getId).containsExactly(101L, 102L, 103L);
+            assertThat(messages).extracting(ChatMessageResponse::getMessage).containsExactly("first", "second", "third");
+        }
+
+        @Test
+        @DisplayName("같은 id의 메시지가 두번 들어 있으면 하나만 돌려준다")
+        void dedupesById() {
+            when(membershipCache.contains(10L, 1L)).thenReturn(true);
+            byte[] frame = ChatFrames.chatMessageFrame(101L, 10L, 1L, "first", 1_700_000_000_000L);
+            when(recentMessages.recent(10L)).thenReturn(new byte[][]{
+                    frame, ChatFrames.chatMessageFrame(102L, 10L, 1L, "second", 1_700_000_000_001L), frame
+            });
+
+            assertThat(chatService.getRecentMessages(10L, 1L)).extracting(ChatMessageResponse::getId)
+                    .containsExactly(101L, 102L);
+        }
+    }
+
+    @Nested
+    @DisplayName("saveMessages 메소드는")
+    class Describe_saveMessages {
+
+        @Test
+        @DisplayName("전달 중에 삭제된 채팅방의 메시지는 버리고 나머지만 저장한다")
+        @SuppressWarnings("unchecked")
+        void dropsDeletedChatroom() {
+            when(chatroomRepository.findExistingIds(any())).thenReturn(Set.of(10L));
+
+            int saved = chatService.saveMessages(List.of(
+                    ChatMessageDto.builder().messageId(1L).chatroomId(10L).senderId(1L).content("kept").sentAt(1L).build(),
+                    ChatMessageDto.builder().messageId(2L).chatroomId(20L).senderId(1L).content("deleted").sentAt(1L).build()));
+
+            ArgumentCaptor<List<ChatMessage>> captor = ArgumentCaptor.forClass(List.class);
+            verify(chatMessageRepository).saveAll(captor.capture());
+            assertThat(saved).isEqualTo(1);
+            assertThat(captor.getValue()).extracting(ChatMessage::getId).containsExactly(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("isMemberOrHost 메소드는")
+    class Describe_isMemberOrHost {
+
+        @Test
+        @DisplayName("방장을 포함한 멤버십 캐시로만 확인하고 DB를 읽지 않는다")
+        void usesMembershipCacheOnly() {
+            when(membershipCache.contains(10L, 7L)).thenReturn(true);
+
+            assertThat(chatService.isMemberOrHost(10L, 7L)).isTrue();
+            assertThat(chatService.isMemberOrHost(10L, 8L)).isFalse();
+            verify(chatroomRepository, never()).findHostIdById(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("findChatroomIdsByUserId 메소드는")
+    class Describe_findChatroomIdsByUserId {
+
+        @Test
+        @DisplayName("참여 중인 방과 방장인 방을 함께 돌려준다")
+        void includesHostedRooms() {
+            when(chatroomParticipantRepository.findChatroomIdsByUserId(7L)).thenReturn(List.of(10L, 20L));
+            when(chatroomRepository.findIdsByHostId(7L)).thenReturn(List.of(20L, 30L));
+
+            assertThat(chatService.findChatroomIdsByUserId(7L)).containsExactly(10L, 20L, 30L);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.runinto.chat.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ChatSessionsEndpoint 테스트")
+class ChatSessionsEndpointTest {
+
+    private final LocalChatSessions sessions = mock(LocalChatSessions.class);
+    private final ChatRoomSubscriptionManager subscriptionManager = mock(ChatRoomSubscriptionManager.class);
+    private final ChatSessionsEndpoint endpoint = new ChatSessionsEndpoint(sessions, subscriptionManager);
+
+    @Test
+    @DisplayName("노드 전체 연결 수와 구독 중인 방 수를 반환한다")
+    void summary() {
+        when(sessions.connectionCount()).thenReturn(3);
+        when(sessions.connectedUserIds()).thenReturn(Set.of(1L, 2L));
+        when(subscriptionManager.subscribedChatroomIds()).thenReturn(Set.of(10L));
+
+        assertThat(endpoint.summary()).containsEntry("connections", 3)
+                .containsEntry("users", 2)
+                .containsEntry("subscribedRooms", 1);
+    }
+
+    @Test
+    @DisplayName("방별 연결 수와 사용자별 미전송 큐 깊이를 반환하고, 알 수 없는 범위는 null을 반환한다")
+    void detail() {
+        when(subscriptionManager.connectionCount(10L)).thenReturn(4);
+        when(sessions.deviceCount(1L)).thenReturn(2);
+        when(sessions.queueDepth(1L)).thenReturn(7);
+
+        assertThat(endpoint.detail("rooms", 10L)).containsEntry("connections", 4);
+        assertThat(endpoint.detail("users", 1L)).containsEntry("devices", 2).containsEntry("queueDepth", 7);
+        assertThat(endpoint.detail("sessions", 1L)).isNull();
+    }
+}
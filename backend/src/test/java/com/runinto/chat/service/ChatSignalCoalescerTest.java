@@ -0,0 +1,78 @@
+package com.runinto.chat.service;
+
+import com.runinto.chat.proto.ChatMessageProto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ChatSignalCoalescer 테스트")
+class ChatSignalCoalescerTest {
+
+    private StringRedisTemplate redisTemplate;
+    private ChatSignalCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        coalescer = new ChatSignalCoalescer(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("한 주기 안의 신호는 사용자·종류별 마지막 값만 남기고 방마다 한 프레임으로 발행한다")
+    @SuppressWarnings("unchecked")
+    void coalescesPerRoom() throws Exception {
+        coalescer.typing(10L, 1L, true);
+        coalescer.typing(10L, 1L, false);
+        coalescer.typing(10L, 2L, true);
+        coalescer.readUpTo(10L, 1L, 30L);
+        coalescer.readUpTo(10L, 1L, 20L);
+        coalescer.presence(List.of(10L, 20L), 3L, true);
+
+        coalescer.flush();
+
+        ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisTemplate).executePipelined(callback.capture());
+        RedisConnection connection = mock(RedisConnection.class);
+        callback.getValue().doInRedis(connection);
+        ArgumentCaptor<byte[]> frame = ArgumentCaptor.forClass(byte[].class);
+        verify(connection, times(2)).publish(any(byte[].class), any(byte[].class));
+        verify(connection).publish(aryEq("chatroom-signal:10".getBytes(StandardCharsets.UTF_8)), frame.capture());
+
+        ChatMessageProto.SignalBatch batch = ChatMessageProto.ChatEnvelope.parseFrom(frame.getValue()).getSignals();
+        assertThat(batch.getChatRoomId()).isEqualTo(10L);
+        assertThat(batch.getSignalsList()).hasSize(4);
+        assertThat(batch.getSignalsList())
+                .filteredOn(ChatMessageProto.ChatEnvelope::hasTyping)
+                .extracting(signal -> signal.getTyping().getUserId() + ":" + signal.getTyping().getTyping())
+                .containsExactlyInAnyOrder("1:false", "2:true");
+        assertThat(batch.getSignalsList())
+                .filteredOn(ChatMessageProto.ChatEnvelope::hasReadUpTo)
+                .extracting(signal -> signal.getReadUpTo().getMessageId())
+                .containsExactly(30L);
+        assertThat(coalescer.pendingRooms()).isZero();
+    }
+
+    @Test
+    @DisplayName("모인 신호가 없으면 Redis를 호출하지 않는다")
+    @SuppressWarnings("unchecked")
+    void skipsEmptyFlush() {
+        coalescer.flush();
+
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+}
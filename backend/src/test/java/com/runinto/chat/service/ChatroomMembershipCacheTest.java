@@ -0,0 +1,99 @@
+package com.runinto.chat.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.runinto.chat.domain.repository.chatroom.ChatroomJpaRepository;
+import com.runinto.chat.domain.repository.chatroom.ChatroomParticipantJPARepository;
+import com.runinto.chat.dto.ChatroomMemberJoinedEvent;
+import com.runinto.chat.dto.ChatroomMemberLeftEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ChatroomMembershipCache 테스트")
+class ChatroomMembershipCacheTest {
+
+    private ChatroomParticipantJPARepository repository;
+    private ChatroomJpaRepository chatroomRepository;
+    private ChatroomMembershipCache membershipCache;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ChatroomParticipantJPARepository.class);
+        chatroomRepository = mock(ChatroomJpaRepository.class);
+        membershipCache = new ChatroomMembershipCache(Caffeine.newBuilder().build(), repository, chatroomRepository);
+    }
+
+    @Nested
+    @DisplayName("멤버십 조회는")
+    class Describe_members {
+
+        @Test
+        @DisplayName("방마다 처음 한번만 DB에서 읽고 정렬된 배열로 들고 있는다")
+        void loadsOncePerRoom() {
+            when(repository.findUserIdsByChatroomId(10L)).thenReturn(List.of(30L, 10L, 20L));
+
+            assertThat(membershipCache.members(10L)).containsExactly(10L, 20L, 30L);
+            assertThat(membershipCache.contains(10L, 20L)).isTrue();
+            assertThat(membershipCache.contains(10L, 40L)).isFalse();
+
+            verify(repository, times(1)).findUserIdsByChatroomId(10L);
+        }
+
+        @Test
+        @DisplayName("참여자로 저장되지 않는 방장도 함께 적재해 DB 조회 없이 확인한다")
+        void includesHost() {
+            when(chatroomRepository.findHostIdById(10L)).thenReturn(Optional.of(7L));
+            when(repository.findUserIdsByChatroomId(10L)).thenReturn(List.of(20L));
+
+            assertThat(membershipCache.contains(10L, 7L)).isTrue();
+            assertThat(membershipCache.contains(10L, 20L)).isTrue();
+            assertThat(membershipCache.members(10L)).containsExactly(20L);
+
+            membershipCache.onMemberJoined(new ChatroomMemberJoinedEvent(10L, 30L));
+            assertThat(membershipCache.contains(10L, 7L)).isTrue();
+            verify(chatroomRepository, times(1)).findHostIdById(10L);
+        }
+    }
+
+    @Nested
+    @DisplayName("참여/강퇴 이벤트는")
+    class Describe_events {
+
+        @Test
+        @DisplayName("캐시된 방의 배열을 교체해 DB 조회 없이 반영한다")
+        void patchesCachedRoom() {
+            when(repository.findUserIdsByChatroomId(10L)).thenReturn(List.of(1L, 3L));
+            long[] before = membershipCache.members(10L);
+
+            membershipCache.onMemberJoined(new ChatroomMemberJoinedEvent(10L, 2L));
+            assertThat(membershipCache.members(10L)).containsExactly(1L, 2L, 3L);
+
+            membershipCache.onMemberLeft(new ChatroomMemberLeftEvent(10L, 1L));
+            membershipCache.onMemberLeft(new ChatroomMemberLeftEvent(10L, 3L));
+            assertThat(membershipCache.members(10L)).containsExactly(2L);
+
+            // 이전에 읽어간 배열은 바뀌지 않는다
+            assertThat(before).containsExactly(1L, 3L);
+            verify(repository, times(1)).findUserIdsByChatroomId(10L);
+        }
+
+        @Test
+        @DisplayName("캐시에 없는 방은 건드리지 않고 다음 조회 때 DB에서 읽는다")
+        void ignoresUncachedRoom() {
+            membershipCache.onMemberJoined(new ChatroomMemberJoinedEvent(20L, 5L));
+            when(repository.findUserIdsByChatroomId(20L)).thenReturn(List.of());
+
+            assertThat(membershipCache.isEmpty(20L)).isTrue();
+        }
+    }
+}
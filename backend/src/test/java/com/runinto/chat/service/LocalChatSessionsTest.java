@@ -0,0 +1,147 @@
+package com.runinto.chat.service;
+
+import com.runinto.config.properties.ChatSessionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("LocalChatSessions 테스트")
+class LocalChatSessionsTest {
+
+    private LocalChatSessions sessions;
+
+    @BeforeEach
+    void setUp() {
+        sessions = new LocalChatSessions(Runnable::run, Runnable::run, new ChatSessionProperties(), new SimpleMeterRegistry());
+    }
+
+    private WebSocketSession openSession() {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+
+    @Nested
+    @DisplayName("여러 기기로 접속하면")
+    class Describe_multiDevice {
+
+        @Test
+        @DisplayName("기존 세션을 교체하지 않고 모든 기기에 전달한다")
+        void deliversToEveryDevice() throws Exception {
+            WebSocketSession phone = openSession();
+            WebSocketSession laptop = openSession();
+
+            assertThat(sessions.register(1L, phone)).isTrue();
+            assertThat(sessions.register(1L, laptop)).isFalse();
+
+            ByteBuffer frame = ByteBuffer.wrap(new byte[]{1, 2, 3}).asReadOnlyBuffer();
+            assertThat(sessions.broadcast(List.of(1L), frame)).isEqualTo(2);
+            verify(phone).sendMessage(any());
+            verify(laptop).sendMessage(any());
+            assertThat(sessions.deviceCount(1L)).isEqualTo(2);
+            assertThat(sessions.connectionCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("마지막 기기가 끊길 때만 사용자의 연결이 끝난 것으로 본다")
+        void unregistersPerDevice() throws Exception {
+            WebSocketSession phone = openSession();
+            WebSocketSession laptop = openSession();
+            sessions.register(1L, phone);
+            sessions.register(1L, laptop);
+
+            assertThat(sessions.unregister(1L, phone)).isFalse();
+            assertThat(sessions.isConnected(1L)).isTrue();
+            assertThat(sessions.unregister(1L, phone)).isFalse();
+            assertThat(sessions.unregister(1L, laptop)).isTrue();
+
+            assertThat(sessions.isConnected(1L)).isFalse();
+            assertThat(sessions.connectionCount()).isZero();
+            assertThat(sessions.broadcast(List.of(1L), ByteBuffer.wrap(new byte[]{1}))).isZero();
+            verify(phone, never()).sendMessage(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("전송이 멈춘 세션이 전송 스레드 수보다 많으면")
+    class Describe_stalledSessions {
+
+        private static final int CORE_THREADS = 2;
+        private static final int STALLED = 6;
+
+        private final CountDownLatch release = new CountDownLatch(1);
+        private LocalChatSessions pooled;
+
+        @BeforeEach
+        void setUp() {
+            ChatSessionProperties properties = new ChatSessionProperties();
+            properties.setSenderThreads(CORE_THREADS);
+            properties.setSendTimeLimit(Duration.ofMillis(50));
+            properties.setSlowConsumerPolicy(ChatSessionProperties.SlowConsumerPolicy.DISCONNECT);
+            pooled = new LocalChatSessions(properties, new SimpleMeterRegistry());
+        }
+
+        @AfterEach
+        void tearDown() {
+            release.countDown();
+            pooled.shutdown();
+        }
+
+        @Test
+        @DisplayName("다른 세션의 전송은 계속되고, 멈춘 세션은 전송 풀과 별개로 끊긴다")
+        void othersKeepReceiving() throws Exception {
+            List<WebSocketSession> stalled = new ArrayList<>();
+            for (long userId = 1; userId <= STALLED; userId++) {
+                WebSocketSession session = openSession();
+                doAnswer(invocation -> {
+                    release.await();
+                    return null;
+                }).when(session).sendMessage(any());
+                pooled.register(userId, session);
+                stalled.add(session);
+            }
+            WebSocketSession healthy = openSession();
+            pooled.register(100L, healthy);
+
+            ByteBuffer frame = ByteBuffer.wrap(new byte[]{1}).asReadOnlyBuffer();
+            List<Long> everyone = LongStream.rangeClosed(1, STALLED).boxed().collect(Collectors.toList());
+            everyone.add(100L);
+            pooled.broadcast(everyone, frame);
+
+            verify(healthy, timeout(1_000)).sendMessage(any());
+
+            // 모든 멈춘 전송이 시작된 뒤 시간 한도가 지나면 주기 점검에서 끊음
+            for (WebSocketSession session : stalled) {
+                verify(session, timeout(1_000)).sendMessage(any());
+            }
+            Thread.sleep(100);
+            pooled.closeStalled();
+            for (WebSocketSession session : stalled) {
+                verify(session, timeout(1_000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+            }
+            verify(healthy, never()).close(any());
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.runinto.chat.service;
+
+import com.runinto.config.properties.ChatSessionProperties.SlowConsumerPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("QueuedWebSocketSession 테스트")
+class QueuedWebSocketSessionTest {
+
+    private WebSocketSession delegate;
+    private ManualExecutor executor;
+    private RecordingMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(WebSocketSession.class);
+        when(delegate.isOpen()).thenReturn(true);
+        executor = new ManualExecutor();
+        metrics = new RecordingMetrics();
+    }
+
+    private QueuedWebSocketSession session(int bufferSizeLimit, SlowConsumerPolicy policy) {
+        return new QueuedWebSocketSession(delegate, executor, executor, bufferSizeLimit, 5_000, policy, metrics);
+    }
+
+    @Nested
+    @DisplayName("sendMessage 메소드는")
+    class Describe_sendMessage {
+
+        @Test
+        @DisplayName("호출 스레드에서 보내지 않고 큐에 넣은 뒤 전송 스레드가 순서대로 보낸다")
+        void queuesAndDrainsInOrder() throws Exception {
+            QueuedWebSocketSession session = session(1_024, SlowConsumerPolicy.DROP);
+
+            session.sendMessage(new BinaryMessage(new byte[]{1}));
+            session.sendMessage(new BinaryMessage(new byte[]{2}));
+
+            verify(delegate, never()).sendMessage(any());
+            assertThat(session.getQueueDepth()).isEqualTo(2);
+            assertThat(executor.tasks).hasSize(1);
+
+            executor.runAll();
+
+            ArgumentCaptor<WebSocketMessage<?>> sent = ArgumentCaptor.forClass(WebSocketMessage.class);
+            verify(delegate, times(2)).sendMessage(sent.capture());
+            assertThat(sent.getAllValues()).extracting(message -> ((BinaryMessage) message).getPayload().get(0))
+                    .containsExactly((byte) 1, (byte) 2);
+            assertThat(session.getQueueDepth()).isZero();
+            assertThat(session.getBufferedBytes()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("버퍼 한도를 넘으면")
+    class Describe_slowConsumer {
+
+        @Test
+        @DisplayName("DROP 정책은 새 메시지를 버리고 연결을 유지한다")
+        void dropsNewMessage() throws Exception {
+            QueuedWebSocketSession session = session(10, SlowConsumerPolicy.DROP);
+
+            session.sendMessage(new BinaryMessage(new byte[8]));
+            session.sendMessage(new BinaryMessage(new byte[8]));
+
+            assertThat(session.getQueueDepth()).isEqualTo(1);
+            assertThat(metrics.dropped).isEqualTo(1);
+            executor.runAll();
+            verify(delegate, times(1)).sendMessage(any());
+            verify(delegate, never()).close(any());
+        }
+
+        @Test
+        @DisplayName("DISCONNECT 정책은 큐를 비우고 연결을 끊는다")
+        void disconnects() throws Exception {
+            QueuedWebSocketSession session = session(10, SlowConsumerPolicy.DISCONNECT);
+
+            session.sendMessage(new BinaryMessage(new byte[8]));
+            session.sendMessage(new BinaryMessage(new byte[8]));
+            session.sendMessage(new BinaryMessage(new byte[8]));
+            executor.runAll();
+
+            verify(delegate).close(CloseStatus.SESSION_NOT_RELIABLE);
+            verify(delegate, never()).sendMessage(any());
+            assertThat(metrics.disconnected).isEqualTo(1);
+            assertThat(session.getQueueDepth()).isZero();
+        }
+    }
+
+    // 작업을 모아뒀다가 테스트가 원할 때 실행
+    private static final class ManualExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+
+    private static final class RecordingMetrics implements QueuedWebSocketSession.SendQueueMetrics {
+        private int dropped;
+        private int disconnected;
+
+        @Override
+        public void enqueued(int depth) {
+        }
+
+        @Override
+        public void sent(int depth) {
+        }
+
+        @Override
+        public void dropped() {
+            dropped++;
+        }
+
+        @Override
+        public void disconnected() {
+            disconnected++;
+        }
+    }
+}
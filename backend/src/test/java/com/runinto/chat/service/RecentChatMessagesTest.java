@@ -0,0 +1,97 @@
+package com.runinto.chat.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.runinto.config.properties.ChatRecentProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RecentChatMessages 테스트")
+class RecentChatMessagesTest {
+
+    private StringRedisTemplate redisTemplate;
+    private RecentChatMessages recentMessages;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        ChatRecentProperties properties = new ChatRecentProperties();
+        properties.setSize(3);
+        recentMessages = new RecentChatMessages(Caffeine.newBuilder().build(), redisTemplate, properties);
+    }
+
+    @Nested
+    @DisplayName("최근 메시지 조회는")
+    class Describe_recent {
+
+        @Test
+        @DisplayName("구독 중인 방은 한번만 Redis에서 읽고 이후 pub/sub 프레임으로 미러를 갱신한다")
+        @SuppressWarnings("unchecked")
+        void mirrorsTrackedRoom() {
+            when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(List.of(frame(1), frame(2)));
+            recentMessages.track(10L);
+
+            assertThat(recentMessages.recent(10L)).isDeepEqualTo(new byte[][]{frame(1), frame(2)});
+            recentMessages.mirror(10L, frame(3));
+            recentMessages.mirror(10L, frame(4));
+
+            assertThat(recentMessages.recent(10L)).isDeepEqualTo(new byte[][]{frame(2), frame(3), frame(4)});
+            verify(redisTemplate, times(1)).execute(any(RedisCallback.class));
+        }
+
+        @Test
+        @DisplayName("Redis에서 다시 읽은 미러에 이미 있는 프레임은 한번 더 붙이지 않는다")
+        @SuppressWarnings("unchecked")
+        void skipsFrameAlreadyLoaded() {
+            // 받은 노드가 RPUSH한 뒤 pub/sub 프레임이 오기 전에 미러를 읽은 경우
+            when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(List.of(frame(1), frame(2)));
+            recentMessages.track(10L);
+            recentMessages.recent(10L);
+
+            recentMessages.mirror(10L, frame(2));
+
+            assertThat(recentMessages.recent(10L)).isDeepEqualTo(new byte[][]{frame(1), frame(2)});
+        }
+
+        @Test
+        @DisplayName("구독하지 않는 방은 미러를 두지 않고 매번 Redis에서 읽는다")
+        @SuppressWarnings("unchecked")
+        void readsUntrackedRoomFromRedis() {
+            when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(List.of(frame(1)));
+            recentMessages.track(10L);
+            recentMessages.recent(10L);
+            recentMessages.untrack(10L);
+
+            recentMessages.mirror(10L, frame(2));
+            assertThat(recentMessages.recent(10L)).isDeepEqualTo(new byte[][]{frame(1)});
+            assertThat(recentMessages.recent(10L)).isDeepEqualTo(new byte[][]{frame(1)});
+            verify(redisTemplate, times(3)).execute(any(RedisCallback.class));
+        }
+    }
+
+    @Test
+    @DisplayName("링 버퍼는 새 프레임을 뒤에 붙이고 크기를 넘는 오래된 프레임을 버린다")
+    void appendedKeepsNewest() {
+        byte[][] frames = {};
+        for (int i = 1; i <= 5; i++) {
+            frames = RecentChatMessages.appended(frames, frame(i), 3);
+        }
+        assertThat(frames).isDeepEqualTo(new byte[][]{frame(3), frame(4), frame(5)});
+    }
+
+    private static byte[] frame(int value) {
+        return new byte[]{(byte) value};
+    }
+}
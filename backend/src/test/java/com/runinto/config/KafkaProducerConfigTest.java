@@ -0,0 +1,40 @@
+package com.runinto.config;
+
+import com.runinto.config.properties.KafkaProducerProperties;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KafkaProducerConfig 테스트")
+class KafkaProducerConfigTest {
+
+    @Test
+    @DisplayName("기본 설정으로 KafkaProducer를 만들 수 있다")
+    void buildsProducerWithDefaults() {
+        Map<String, Object> props = KafkaProducerConfig.producerProps("localhost:9092", new KafkaProducerProperties());
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+
+        // 생성 시점에는 브로커에 연결하지 않으므로 설정 검증만 일어남
+        assertThatCode(() -> new KafkaProducer<String, String>(props).close(Duration.ZERO))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("delivery-timeout이 linger + request-timeout보다 짧으면 시작할 때 실패한다")
+    void rejectsShortDeliveryTimeout() {
+        KafkaProducerProperties properties = new KafkaProducerProperties();
+        properties.setDeliveryTimeout(Duration.ofSeconds(30));
+
+        assertThatThrownBy(() -> KafkaProducerConfig.producerProps("localhost:9092", properties))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("delivery-timeout");
+    }
+}
@@ -0,0 +1,76 @@
+package com.runinto.config.serializer;
+
+import com.runinto.event.dto.EventCategoryInfoForResponseDto;
+import com.runinto.event.dto.cache.EventCacheDto;
+import com.runinto.user.dto.response.EventParticipantsResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.sql.Time;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EventCacheRedisSerializer 테스트")
+class EventCacheRedisSerializerTest {
+
+    private final EventCacheRedisSerializer serializer = new EventCacheRedisSerializer();
+
+    static EventCacheDto sampleEvent(long id) {
+        return new EventCacheDto(id, "한강 러닝 " + id, "저녁 7시 여의도 출발", 10, Time.valueOf("19:00:00"),
+                37.5283, 126.9326, 100L + id, true,
+                new EventParticipantsResponse(7L, "runner", "/images/default_profile.png"),
+                3, Set.of(new EventCategoryInfoForResponseDto("ACTIVITY"), new EventCategoryInfoForResponseDto("TALKING")),
+                4611686018427387904L + id);
+    }
+
+    @Nested
+    @DisplayName("이벤트/그리드 값은")
+    class Describe_binary {
+
+        @Test
+        @DisplayName("버전 바이트로 시작하고 그대로 복원된다")
+        void roundTripsEvent() {
+            EventCacheDto event = sampleEvent(1);
+
+            byte[] bytes = serializer.serialize(event);
+
+            assertThat(bytes[0]).isEqualTo(EventCacheRedisSerializer.FORMAT_VERSION);
+            assertThat(serializer.deserialize(bytes)).isEqualTo(event);
+        }
+
+        @Test
+        @DisplayName("nullable 필드가 비어있어도 null로 복원된다")
+        void keepsNulls() {
+            EventCacheDto event = new EventCacheDto(2L, "t", null, 5, null, 1.0, 2.0, null, false,
+                    new EventParticipantsResponse(1L, "n", null), 0, Set.of(), null);
+
+            assertThat(serializer.deserialize(serializer.serialize(event))).isEqualTo(event);
+        }
+
+        @Test
+        @DisplayName("그리드 목록은 순서를 유지해 복원된다")
+        void roundTripsGrid() {
+            List<EventCacheDto> grid = List.of(sampleEvent(1), sampleEvent(2), sampleEvent(3));
+
+            assertThat(serializer.deserialize(serializer.serialize(grid))).isEqualTo(grid);
+        }
+    }
+
+    @Nested
+    @DisplayName("기존 JSON 값은")
+    class Describe_legacyJson {
+
+        @Test
+        @DisplayName("롤아웃 전에 저장된 값도 JSON 직렬화기로 읽는다")
+        void readsLegacyJson() {
+            EventCacheDto event = sampleEvent(1);
+            byte[] legacy = new GenericJackson2JsonRedisSerializer().serialize(event);
+
+            assertThat(serializer.deserialize(legacy)).isEqualTo(event);
+        }
+    }
+}
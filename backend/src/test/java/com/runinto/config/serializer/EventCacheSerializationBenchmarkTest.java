@@ -0,0 +1,60 @@
+package com.runinto.config.serializer;
+
+import com.runinto.event.dto.cache.EventCacheDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 캐시 값 JSON vs protobuf 크기/직렬화 시간 비교.
+ * gradle :backend:test -Dbenchmark=true --tests '*EventCacheSerializationBenchmarkTest' 로 실행합니다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("캐시 직렬화 벤치마크")
+class EventCacheSerializationBenchmarkTest {
+
+    private static final int GRID_SIZE = 50;
+    private static final int MEASURE_ROUNDS = 50_000;
+
+    @Test
+    @DisplayName("JSON vs protobuf (단건 / 그리드 50건)")
+    void compareSerializers() {
+        List<EventCacheDto> grid = new ArrayList<>();
+        for (int i = 0; i < GRID_SIZE; i++) {
+            grid.add(EventCacheRedisSerializerTest.sampleEvent(i));
+        }
+        EventCacheDto event = grid.get(0);
+
+        report("JSON     단건", new GenericJackson2JsonRedisSerializer(), event, MEASURE_ROUNDS);
+        report("protobuf 단건", new EventCacheRedisSerializer(), event, MEASURE_ROUNDS);
+        report("JSON     그리드", new GenericJackson2JsonRedisSerializer(), grid, MEASURE_ROUNDS / GRID_SIZE);
+        report("protobuf 그리드", new EventCacheRedisSerializer(), grid, MEASURE_ROUNDS / GRID_SIZE);
+    }
+
+    private static void report(String name, RedisSerializer<Object> serializer, Object value, int rounds) {
+        byte[] bytes = serializer.serialize(value);
+        for (int i = 0; i < rounds; i++) {
+            serializer.deserialize(serializer.serialize(value));
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            serializer.serialize(value);
+        }
+        long serializeNanos = (System.nanoTime() - start) / rounds;
+
+        start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            serializer.deserialize(bytes);
+        }
+        long deserializeNanos = (System.nanoTime() - start) / rounds;
+
+        System.out.printf("[benchmark] %s: %,d bytes, serialize %,d ns, deserialize %,d ns%n",
+                name, bytes.length, serializeNanos, deserializeNanos);
+    }
+}
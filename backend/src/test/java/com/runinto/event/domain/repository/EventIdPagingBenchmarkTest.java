@@ -0,0 +1,124 @@
+package com.runinto.event.domain.repository;
+
+import com.runinto.event.domain.Event;
+import com.runinto.event.domain.EventCategory;
+import com.runinto.event.domain.EventType;
+import com.runinto.user.domain.Gender;
+import com.runinto.user.domain.Role;
+import com.runinto.user.domain.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Time;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 엔티티 조회 후 ID 변환(기존) vs ID 프로젝션(신규) 페이지당 DB 시간/할당량 비교.
+ * gradle :backend:test -Dbenchmark=true --tests '*EventIdPagingBenchmarkTest' 로 실행합니다.
+ */
+@DataJpaTest(showSql = false)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("ID 페이징 벤치마크")
+class EventIdPagingBenchmarkTest {
+
+    private static final int EVENT_COUNT = 5_000;
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURE_ROUNDS = 1_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EventJpaRepository eventJpaRepository;
+
+    @Autowired
+    private EventIdQueryRepository eventIdQueryRepository;
+
+    @BeforeEach
+    void setUp() {
+        User host = User.builder()
+                .name("host").email("host@test.com").password("pw")
+                .imgUrl("img").description("desc")
+                .gender(Gender.MALE).age(20).role(Role.USER)
+                .build();
+        entityManager.persist(host);
+
+        EventType[] types = EventType.values();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            Event event = Event.builder()
+                    .title("event " + i).description("benchmark").maxParticipants(10)
+                    .creationTime(Time.valueOf(String.format("%02d:%02d:00", (i / 60) % 24, i % 60)))
+                    .latitude(37.4 + (i % 100) * 0.002).longitude(126.9 + (i / 100) * 0.004)
+                    .host(host)
+                    .participants(new HashSet<>())
+                    .categories(new HashSet<>())
+                    .build();
+            event.getEventCategories().add(EventCategory.builder().category(types[i % types.length]).event(event).build());
+            event.getEventCategories().add(EventCategory.builder().category(types[(i + 1) % types.length]).event(event).build());
+            entityManager.persist(event);
+            if (i % 500 == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("엔티티 페이징 vs ID 프로젝션 페이징")
+    void compareIdPaging() {
+        Specification<Event> spec = Specification.where(EventSpecifications.isInArea(37.45, 37.55, 126.9, 127.1))
+                .and(EventSpecifications.hasCategoryIn(Set.of(EventType.EAT, EventType.GAME)));
+        Pageable pageable = PageRequest.of(3, 20, Sort.by(Sort.Direction.DESC, "creationTime"));
+
+        Supplier<List<Long>> entityPaging = () -> eventJpaRepository.findAll(spec, pageable).map(Event::getId).getContent();
+        Supplier<List<Long>> idPaging = () -> eventIdQueryRepository.findIds(spec, pageable).getContent();
+
+        assertThat(idPaging.get()).hasSameSizeAs(entityPaging.get());
+
+        Result entity = measure(entityPaging);
+        Result projection = measure(idPaging);
+
+        System.out.printf("[benchmark] 엔티티 페이징   : %.3f ms/page, %,d bytes/page%n", entity.millisPerPage(), entity.bytesPerPage());
+        System.out.printf("[benchmark] ID 프로젝션 페이징: %.3f ms/page, %,d bytes/page%n", projection.millisPerPage(), projection.bytesPerPage());
+    }
+
+    private Result measure(Supplier<List<Long>> paging) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            paging.get();
+            entityManager.clear();
+        }
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long startBytes = threadBean.getThreadAllocatedBytes(threadId);
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            paging.get();
+            // 영속성 컨텍스트 재사용으로 엔티티 생성이 생략되지 않도록 매번 비움
+            entityManager.clear();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - startBytes;
+        return new Result(elapsedNanos / 1_000_000.0 / MEASURE_ROUNDS, allocated / MEASURE_ROUNDS);
+    }
+
+    private record Result(double millisPerPage, long bytesPerPage) {
+    }
+}
@@ -0,0 +1,130 @@
+package com.runinto.event.domain.repository;
+
+import com.runinto.event.domain.Event;
+import com.runinto.event.domain.EventCategory;
+import com.runinto.event.domain.EventType;
+import com.runinto.event.dto.request.EventCursor;
+import com.runinto.user.domain.Gender;
+import com.runinto.user.domain.Role;
+import com.runinto.user.domain.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.sql.Time;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("EventIdQueryRepository 테스트")
+class EventIdQueryRepositoryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EventIdQueryRepository eventIdQueryRepository;
+
+    private final List<Long> expectedOrder = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User host = User.builder()
+                .name("host").email("host@test.com").password("pw")
+                .imgUrl("img").description("desc")
+                .gender(Gender.MALE).age(20).role(Role.USER)
+                .build();
+        entityManager.persist(host);
+
+        // 같은 시간대가 섞이도록 생성 (10:00 x2, 09:00 x2, 08:00 x1)
+        Event a = persist(host, "10:00:00", EventType.EAT);
+        Event b = persist(host, "10:00:00", EventType.GAME);
+        Event c = persist(host, "09:00:00", EventType.EAT);
+        Event d = persist(host, "09:00:00", EventType.EAT);
+        Event e = persist(host, "08:00:00", EventType.MUSIC);
+        entityManager.flush();
+        entityManager.clear();
+
+        expectedOrder.addAll(List.of(b.getId(), a.getId(), d.getId(), c.getId(), e.getId()));
+    }
+
+    private Event persist(User host, String time, EventType type) {
+        Event event = Event.builder()
+                .title("event").maxParticipants(5)
+                .creationTime(Time.valueOf(time))
+                .latitude(37.5).longitude(127.0)
+                .host(host)
+                .participants(new HashSet<>())
+                .categories(new HashSet<>())
+                .build();
+        event.getEventCategories().add(EventCategory.builder().category(type).event(event).build());
+        entityManager.persist(event);
+        return event;
+    }
+
+    @Nested
+    @DisplayName("findCursorsAfter 메소드는")
+    class Describe_findCursorsAfter {
+
+        @Test
+        @DisplayName("커서를 이어 붙이면 (creationTime, id) 내림차순 전체를 중복 없이 순회한다")
+        void walksAllRowsInOrder() {
+            List<Long> visited = new ArrayList<>();
+            EventCursor cursor = null;
+            while (true) {
+                List<EventCursor> page = eventIdQueryRepository.findCursorsAfter(null, cursor, 2);
+                if (page.isEmpty()) {
+                    break;
+                }
+                page.forEach(row -> visited.add(row.eventId()));
+                // 토큰으로 왕복시켜도 같은 위치여야 한다
+                cursor = EventCursor.decode(page.get(page.size() - 1).encode());
+            }
+
+            assertThat(visited).containsExactlyElementsOf(expectedOrder);
+        }
+
+        @Test
+        @DisplayName("카테고리 Specification과 함께 사용할 수 있다")
+        void appliesSpecification() {
+            Specification<Event> spec = EventSpecifications.hasCategoryIn(Set.of(EventType.EAT));
+
+            List<EventCursor> rows = eventIdQueryRepository.findCursorsAfter(spec, null, 10);
+
+            assertThat(rows).extracting(EventCursor::eventId)
+                    .containsExactly(expectedOrder.get(1), expectedOrder.get(2), expectedOrder.get(3));
+            assertThat(eventIdQueryRepository.countIds(spec)).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("findIds 메소드는")
+    class Describe_findIds {
+
+        @Test
+        @DisplayName("Pageable 정렬/오프셋대로 ID만 반환하고 전체 개수를 채운다")
+        void returnsIdPage() {
+            Pageable pageable = PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "creationTime"));
+            Specification<Event> spec = EventSpecifications.hasCategoryIn(Set.of(EventType.EAT, EventType.GAME));
+
+            Page<Long> page = eventIdQueryRepository.findIds(spec, pageable);
+
+            // 같은 시간은 ID 내림차순
+            assertThat(page.getContent()).containsExactly(expectedOrder.get(2), expectedOrder.get(3));
+            assertThat(page.getTotalElements()).isEqualTo(4);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.runinto.event.dto.cache;
+
+import com.runinto.event.domain.EventType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("GridSummaryDto 테스트")
+class GridSummaryDtoTest {
+
+    @Test
+    @DisplayName("카테고리 필터를 적용하면 해당 카테고리 이벤트만으로 개수와 중심을 계산한다")
+    void filtersCountAndCentroidByCategory() {
+        GridSummaryDto.Accumulator accumulator = new GridSummaryDto.Accumulator(1L, 2);
+        accumulator.add(37.0, 127.0, EnumSet.of(EventType.EAT));
+        accumulator.add(37.2, 127.2, EnumSet.of(EventType.EAT));
+        accumulator.add(35.0, 129.0, EnumSet.of(EventType.GAME));
+
+        GridSummaryDto filtered = accumulator.toDto().filtered(Set.of(EventType.EAT));
+
+        assertThat(filtered.count()).isEqualTo(2);
+        assertThat(filtered.centroidLatitude()).isCloseTo(37.1, within(1e-9));
+        assertThat(filtered.centroidLongitude()).isCloseTo(127.1, within(1e-9));
+        assertThat(filtered.categoryCounts()).containsOnlyKeys(EventType.EAT);
+    }
+
+    @Test
+    @DisplayName("Redis 해시로 옮겨도 카테고리별 좌표 합이 유지된다")
+    void roundTripsCategorySumsThroughHash() {
+        GridSummaryDto.Accumulator accumulator = new GridSummaryDto.Accumulator(1L, 2);
+        accumulator.add(37.0, 127.0, EnumSet.of(EventType.EAT, EventType.GAME));
+
+        GridSummaryDto restored = GridSummaryDto.fromHash(1L, 2, new HashMap<>(accumulator.toDto().toHash()));
+
+        assertThat(restored).isEqualTo(accumulator.toDto());
+    }
+}
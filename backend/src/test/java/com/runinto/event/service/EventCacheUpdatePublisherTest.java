@@ -0,0 +1,88 @@
+package com.runinto.event.service;
+
+import com.runinto.event.domain.EventType;
+import com.runinto.event.dto.EventCategoryInfoForResponseDto;
+import com.runinto.event.dto.cache.EventCacheDto;
+import com.runinto.kafka.outbox.OutboxService;
+import com.runinto.user.dto.response.EventParticipantsResponse;
+import com.runinto.util.GeoUtil;
+import common.kafka.dto.CacheUpdateAction;
+import common.kafka.dto.CacheUpdateMessage;
+import common.kafka.dto.GridSummaryDelta;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("EventCacheUpdatePublisher 테스트")
+class EventCacheUpdatePublisherTest {
+
+    private final OutboxService outboxService = mock(OutboxService.class);
+    private final EventCacheUpdatePublisher publisher = new EventCacheUpdatePublisher(outboxService);
+
+    @Nested
+    @DisplayName("eventUpdated 메소드는")
+    class Describe_eventUpdated {
+
+        @Test
+        @DisplayName("같은 셀 안에서 위치가 바뀌면 이전 위치를 빼고 새 위치를 더하는 요약 증감을 함께 담는다")
+        void carriesSummaryDeltasForMove() {
+            EventCacheDto previous = event(37.50001, 127.00001, EventType.EAT);
+            EventCacheDto current = event(37.50002, 127.00002, EventType.EAT);
+
+            publisher.eventUpdated(previous, current);
+
+            CacheUpdateMessage message = sentMessages(1).get(0);
+            assertThat(message.getAction()).isEqualTo(CacheUpdateAction.EVENT_UPDATED);
+            assertThat(message.getSummaryDeltas()).extracting(GridSummaryDelta::getCount).containsExactly(-1, 1);
+            GridSummaryDelta added = message.getSummaryDeltas().get(1);
+            assertThat(added.getGridIds()).hasSize(GeoUtil.LEVEL_COUNT)
+                    .first().isEqualTo(GeoUtil.getGridId(0, 37.50002, 127.00002));
+            assertThat(added.getLatitude()).isEqualTo(37.50002);
+            assertThat(added.getCategories()).containsExactly("EAT");
+        }
+
+        @Test
+        @DisplayName("위치와 카테고리가 그대로면 요약 증감을 담지 않는다")
+        void noSummaryDeltaWithoutMove() {
+            EventCacheDto event = event(37.5, 127.0, EventType.EAT);
+
+            publisher.eventUpdated(event, event);
+
+            assertThat(sentMessages(1).get(0).getSummaryDeltas()).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("eventRemoved는 이벤트를 빼는 요약 증감을 삭제 메시지에 담는다")
+    void removedCarriesNegativeDelta() {
+        publisher.eventRemoved(event(37.5, 127.0, EventType.GAME));
+
+        CacheUpdateMessage message = sentMessages(1).get(0);
+        assertThat(message.getAction()).isEqualTo(CacheUpdateAction.EVENT_REMOVED);
+        assertThat(message.getSummaryDeltas()).singleElement()
+                .satisfies(delta -> assertThat(delta.getCount()).isEqualTo(-1));
+    }
+
+    private List<CacheUpdateMessage> sentMessages(int count) {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(outboxService, times(count)).append(eq("cache-management-topic"), anyString(), captor.capture());
+        return captor.getAllValues().stream().map(CacheUpdateMessage.class::cast).toList();
+    }
+
+    private static EventCacheDto event(double latitude, double longitude, EventType type) {
+        return new EventCacheDto(1L, "이벤트", "설명", 10, null, latitude, longitude, null, true,
+                new EventParticipantsResponse(1L, "host", "img"), 0,
+                Set.of(new EventCategoryInfoForResponseDto(type.name())), GeoUtil.getGridId(latitude, longitude));
+    }
+}
@@ -9,6 +9,7 @@ import com.runinto.event.domain.EventType;
 import com.runinto.event.domain.EventParticipant;
 import com.runinto.event.domain.ParticipationStatus;
 import com.runinto.event.domain.repository.EventH2Repository;
+import com.runinto.event.dto.request.UpdateEventRequest;
 import com.runinto.exception.event.EventNotFoundException;
 import com.runinto.exception.user.UserIdNotFoundException;
 import com.runinto.user.domain.User;
@@ -139,18 +140,17 @@ class EventServiceUnitTest {
     }
 
     @Nested
-    @DisplayName("save 메소드는 (@Transactional)")
-    class Describe_save {
+    @DisplayName("update 메소드는 (@Transactional)")
+    class Describe_update {
         @Test
-        @DisplayName("주어진 Event 객체로 EventH2Repository.save를 호출한다")
-        void whenEventGiven_callsRepositorySave() {
-            // EventService.save는 void이고 @Transactional이므로,
-            // 주로 다른 메소드의 일부로 테스트되거나, 호출 여부만 검증합니다.
-            // eventRepositoryMock.save는 Event를 반환하도록 설정 (EventH2Repository.save 시그니처)
+        @DisplayName("요청의 필드를 반영해 EventH2Repository.save를 호출한다")
+        void whenRequestGiven_appliesFieldsAndCallsRepositorySave() {
+            when(eventRepositoryMock.findById(testEvent1.getId())).thenReturn(Optional.of(testEvent1));
             when(eventRepositoryMock.save(testEvent1)).thenReturn(testEvent1);
 
-            eventService.save(testEvent1);
+            eventService.update(testEvent1.getId(), new UpdateEventRequest("새 제목", null, null, null, null, null));
 
+            assertThat(testEvent1.getTitle()).isEqualTo("새 제목");
             verify(eventRepositoryMock).save(testEvent1);
         }
     }
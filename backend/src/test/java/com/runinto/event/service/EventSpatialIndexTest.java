@@ -0,0 +1,127 @@
+package com.runinto.event.service;
+
+import com.runinto.event.domain.EventType;
+import com.runinto.event.dto.EventCategoryInfoForResponseDto;
+import com.runinto.event.dto.cache.EventCacheDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EventSpatialIndex 단위 테스트")
+class EventSpatialIndexTest {
+
+    private EventSpatialIndex index;
+
+    private EventCacheDto event(long id, double latitude, double longitude, EventType... types) {
+        Set<EventCategoryInfoForResponseDto> categories = new HashSet<>();
+        for (EventType type : types) {
+            categories.add(new EventCategoryInfoForResponseDto(type.name()));
+        }
+        return new EventCacheDto(id, "이벤트" + id, "설명", 10, null, latitude, longitude,
+                null, true, null, 0, categories, null);
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new EventSpatialIndex();
+    }
+
+    @Nested
+    @DisplayName("search 메소드는")
+    class Describe_search {
+        @Test
+        @DisplayName("범위 안의 이벤트만 반환한다")
+        void returnsOnlyEventsInBoundingBox() {
+            index.loadAll(List.of(
+                    event(1L, 37.5665, 126.9780, EventType.EAT),
+                    event(2L, 37.5700, 126.9900, EventType.GAME),
+                    event(3L, 35.1796, 129.0756, EventType.EAT)));
+
+            List<EventCacheDto> result = index.search(37.5, 126.9, 37.6, 127.0, null);
+
+            assertThat(result).extracting(EventCacheDto::eventId).containsExactlyInAnyOrder(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("카테고리가 주어지면 해당 카테고리를 가진 이벤트만 반환한다")
+        void filtersByCategory() {
+            index.loadAll(List.of(
+                    event(1L, 37.5665, 126.9780, EventType.EAT, EventType.TALKING),
+                    event(2L, 37.5700, 126.9900, EventType.GAME)));
+
+            List<EventCacheDto> result = index.search(37.5, 126.9, 37.6, 127.0, Set.of(EventType.TALKING));
+
+            assertThat(result).extracting(EventCacheDto::eventId).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("노드가 분할될 만큼 이벤트가 많아도 빠짐없이 찾는다")
+        void findsAllEventsAfterSplit() {
+            List<EventCacheDto> events = new ArrayList<>();
+            for (long i = 0; i < 500; i++) {
+                events.add(event(i, 37.5 + (i % 25) * 0.001, 127.0 + (i / 25) * 0.001, EventType.ACTIVITY));
+            }
+            index.loadAll(events);
+
+            assertThat(index.search(37.4, 126.9, 37.6, 127.1, null)).hasSize(500);
+            assertThat(index.search(37.5, 127.0, 37.5045, 127.0045, null)).hasSize(25);
+        }
+    }
+
+    @Nested
+    @DisplayName("put/remove 메소드는")
+    class Describe_putAndRemove {
+        @Test
+        @DisplayName("같은 ID로 put 하면 위치가 갱신된다")
+        void putReplacesExistingEntry() {
+            index.put(event(1L, 37.5665, 126.9780));
+            index.put(event(1L, 35.1796, 129.0756));
+
+            assertThat(index.search(37.5, 126.9, 37.6, 127.0, null)).isEmpty();
+            assertThat(index.search(35.1, 129.0, 35.2, 129.1, null)).hasSize(1);
+            assertThat(index.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("remove 하면 더 이상 조회되지 않는다")
+        void removeDeletesEntry() {
+            for (long i = 0; i < 100; i++) {
+                index.put(event(i, 37.5 + i * 0.0001, 127.0));
+            }
+            for (long i = 0; i < 100; i += 2) {
+                index.remove(i);
+            }
+
+            assertThat(index.search(37.4, 126.9, 37.6, 127.1, null))
+                    .extracting(EventCacheDto::eventId)
+                    .allMatch(id -> id % 2 == 1)
+                    .hasSize(50);
+        }
+
+        @Test
+        @DisplayName("removeIfInGrid는 이벤트가 이미 다른 셀로 옮겨졌으면 지우지 않는다")
+        void removeIfInGridKeepsMovedEvent() {
+            index.put(withGrid(event(1L, 35.1796, 129.0756), 20L));
+
+            index.removeIfInGrid(1L, 10L);
+            assertThat(index.get(1L)).isNotNull();
+
+            index.removeIfInGrid(1L, 20L);
+            assertThat(index.get(1L)).isNull();
+        }
+    }
+
+    private static EventCacheDto withGrid(EventCacheDto event, long gridId) {
+        return new EventCacheDto(event.eventId(), event.title(), event.description(), event.maxParticipants(),
+                event.creationTime(), event.latitude(), event.longitude(), event.chatroomId(), event.isPublic(),
+                event.host(), event.participants(), event.eventCategories(), gridId);
+    }
+}
@@ -0,0 +1,113 @@
+package com.runinto.event.service;
+
+import com.runinto.config.properties.GridCacheProperties;
+import com.runinto.event.dto.cache.EventCacheDto;
+import com.runinto.event.dto.cache.GridCacheLookup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("GridCacheLoader 테스트")
+class GridCacheLoaderTest {
+
+    private static final long GRID_ID = 42L;
+
+    private EventCacheService eventCacheService;
+    private GridCacheLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        eventCacheService = mock(EventCacheService.class);
+        GridCacheProperties properties = new GridCacheProperties();
+        properties.setLeaseWaitTimeout(Duration.ofMillis(200));
+        loader = new GridCacheLoader(eventCacheService, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loader.shutdown();
+    }
+
+    @Nested
+    @DisplayName("load 메소드는")
+    class Describe_load {
+
+        @Test
+        @DisplayName("같은 셀을 동시에 요청하면 DB 조회는 한번만 한다")
+        void coalescesConcurrentLoads() throws Exception {
+            CountDownLatch dbEntered = new CountDownLatch(1);
+            CountDownLatch releaseDb = new CountDownLatch(1);
+            when(eventCacheService.tryAcquireGridLeases(anyList(), anyString(), any())).thenAnswer(inv -> inv.getArgument(0));
+            when(eventCacheService.findGridsFromDbAndCache(List.of(GRID_ID))).thenAnswer(inv -> {
+                dbEntered.countDown();
+                releaseDb.await(5, TimeUnit.SECONDS);
+                return Map.of(GRID_ID, List.<EventCacheDto>of());
+            });
+
+            ExecutorService pool = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<Map<Long, List<EventCacheDto>>>> futures = new ArrayList<>();
+                futures.add(pool.submit(() -> loader.load(List.of(GRID_ID))));
+                assertThat(dbEntered.await(5, TimeUnit.SECONDS)).isTrue();
+                for (int i = 0; i < 7; i++) {
+                    futures.add(pool.submit(() -> loader.load(List.of(GRID_ID))));
+                }
+                Thread.sleep(100);
+                releaseDb.countDown();
+
+                for (Future<Map<Long, List<EventCacheDto>>> future : futures) {
+                    assertThat(future.get(5, TimeUnit.SECONDS)).containsEntry(GRID_ID, List.of());
+                }
+            } finally {
+                pool.shutdownNow();
+            }
+            verify(eventCacheService, times(1)).findGridsFromDbAndCache(anyList());
+        }
+
+        @Test
+        @DisplayName("다른 노드가 lease를 가지고 있으면 캐시가 채워지길 기다린다")
+        void waitsForOtherNode() {
+            when(eventCacheService.tryAcquireGridLeases(anyList(), anyString(), any())).thenReturn(List.of());
+            when(eventCacheService.findGridsFromCache(any(long[].class)))
+                    .thenReturn(new GridCacheLookup(Map.of(GRID_ID, List.of()), List.of()));
+
+            Map<Long, List<EventCacheDto>> result = loader.load(List.of(GRID_ID));
+
+            assertThat(result).containsEntry(GRID_ID, List.of());
+            verify(eventCacheService, times(0)).findGridsFromDbAndCache(anyList());
+        }
+
+        @Test
+        @DisplayName("lease 대기 시간이 지나면 직접 DB에서 읽는다")
+        void fallsBackAfterTimeout() {
+            when(eventCacheService.tryAcquireGridLeases(anyList(), anyString(), any())).thenReturn(List.of());
+            when(eventCacheService.findGridsFromCache(any(long[].class)))
+                    .thenReturn(new GridCacheLookup(Map.of(), List.of()));
+            when(eventCacheService.findGridsFromDbAndCache(List.of(GRID_ID))).thenReturn(Map.of(GRID_ID, List.of()));
+
+            assertThat(loader.load(List.of(GRID_ID))).containsEntry(GRID_ID, List.of());
+            verify(eventCacheService, times(1)).findGridsFromDbAndCache(List.of(GRID_ID));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.runinto.kafka.consumer;
+
+import com.runinto.chat.service.ChatService;
+import common.kafka.dto.ChatMessageDto;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ChatMessagePersistenceConsumer 테스트")
+class ChatMessagePersistenceConsumerTest {
+
+    private final ChatService chatService = mock(ChatService.class);
+    private final ChatMessagePersistenceConsumer consumer = new ChatMessagePersistenceConsumer(chatService);
+
+    @Test
+    @DisplayName("읽을 수 없는 레코드를 만나면 그 앞까지 저장하고 위치와 함께 실패를 알린다")
+    void reportsUndeserializableRecord() {
+        ChatMessageDto first = message(1L);
+        ConsumerRecord<String, ChatMessageDto> broken = new ConsumerRecord<>("chat-messages-topic", 0, 1, "10", null);
+        // ErrorHandlingDeserializer가 실패한 레코드에 남기는 헤더
+        SerializationUtils.deserializationException(broken.headers(), "{".getBytes(), new IllegalStateException("bad json"), false);
+
+        assertThatThrownBy(() -> consumer.consume(List.of(
+                new ConsumerRecord<>("chat-messages-topic", 0, 0, "10", first),
+                broken,
+                new ConsumerRecord<>("chat-messages-topic", 0, 2, "10", message(2L)))))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getIndex()).isEqualTo(1));
+        verify(chatService).saveMessages(List.of(first));
+    }
+
+    private static ChatMessageDto message(long id) {
+        return ChatMessageDto.builder().messageId(id).chatroomId(10L).senderId(1L).content("hi").sentAt(1L).build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.runinto.kafka.outbox;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(showSql = false)
+@DisplayName("OutboxEventRepository 테스트")
+class OutboxEventRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 9, 0);
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Nested
+    @DisplayName("findReadyForUpdate 메소드는")
+    class Describe_findReadyForUpdate {
+
+        @Test
+        @DisplayName("다른 릴레이가 잡고 있는 행과 그 뒤의 같은 키 행은 건너뛴다")
+        void skipsRowsBehindClaimedRow() {
+            OutboxEvent claimed = save("10", NOW.plusSeconds(30));
+            save("10", null);
+            OutboxEvent other = save("20", null);
+
+            List<OutboxEvent> ready = outboxEventRepository.findReadyForUpdate(NOW, PageRequest.of(0, 10));
+
+            assertThat(ready).extracting(OutboxEvent::getId).containsExactly(other.getId());
+            assertThat(claimed.getClaimedUntil()).isAfter(NOW);
+        }
+
+        @Test
+        @DisplayName("claim 기간이 지난 행은 다시 가져온다")
+        void reclaimsExpiredClaim() {
+            OutboxEvent expired = save("10", NOW.minusSeconds(1));
+            OutboxEvent next = save("10", null);
+
+            List<OutboxEvent> ready = outboxEventRepository.findReadyForUpdate(NOW, PageRequest.of(0, 10));
+
+            assertThat(ready).extracting(OutboxEvent::getId).containsExactly(expired.getId(), next.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("findIdsBehindOtherRows는 같은 키의 이전 행이 목록 밖에 남아 있는 행을 찾는다")
+    void findsRowsBehindOtherRows() {
+        save("10", null);
+        OutboxEvent behind = save("10", null);
+        OutboxEvent first = save("20", null);
+        OutboxEvent second = save("20", null);
+
+        List<Long> ids = outboxEventRepository.findIdsBehindOtherRows(
+                List.of(behind.getId(), first.getId(), second.getId()));
+
+        assertThat(ids).containsExactly(behind.getId());
+    }
+
+    private OutboxEvent save(String key, LocalDateTime claimedUntil) {
+        return outboxEventRepository.saveAndFlush(OutboxEvent.builder()
+                .topic("cache-management-topic")
+                .messageKey(key)
+                .payload("{}")
+                .createdAt(NOW)
+                .nextAttemptAt(NOW)
+                .claimedUntil(claimedUntil)
+                .build());
+    }
+}
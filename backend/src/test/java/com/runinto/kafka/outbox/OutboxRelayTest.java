@@ -0,0 +1,174 @@
+package com.runinto.kafka.outbox;
+
+import com.runinto.config.properties.OutboxProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("OutboxRelay 테스트")
+class OutboxRelayTest {
+
+    private OutboxEventRepository repository;
+    private KafkaTemplate<String, String> kafkaTemplate;
+    private OutboxProperties properties;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        repository = mock(OutboxEventRepository.class);
+        kafkaTemplate = mock(KafkaTemplate.class);
+        properties = new OutboxProperties();
+        properties.setSendTimeout(Duration.ofMillis(200));
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        relay = new OutboxRelay(repository, kafkaTemplate, transactionTemplate, properties);
+    }
+
+    private static OutboxEvent outbox(long id, String key) {
+        LocalDateTime now = LocalDateTime.now();
+        return OutboxEvent.builder()
+                .id(id)
+                .topic("cache-management-topic")
+                .messageKey(key)
+                .payload("{\"gridId\":" + key + "}")
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("relayBatch 메소드는")
+    class Describe_relayBatch {
+
+        @Test
+        @DisplayName("전송에 성공한 행은 키와 함께 보내고 삭제한다")
+        void deletesSentRows() {
+            OutboxEvent first = outbox(1L, "10");
+            OutboxEvent second = outbox(2L, "20");
+            when(repository.findReadyForUpdate(any(LocalDateTime.class), any(Pageable.class)))
+                    .thenReturn(List.of(first, second));
+            when(kafkaTemplate.send(any(String.class), any(String.class), any(String.class))).thenAnswer(invocation -> {
+                // 전송하는 시점에는 이미 claim이 표시되어 있어야 함 (잠금 없이 전송)
+                assertThat(first.getClaimedUntil()).isNotNull();
+                return CompletableFuture.completedFuture(null);
+            });
+
+            int sent = relay.relayBatch();
+
+            assertThat(sent).isEqualTo(2);
+            verify(kafkaTemplate).send("cache-management-topic", "10", first.getPayload());
+            verify(kafkaTemplate).send("cache-management-topic", "20", second.getPayload());
+            verify(repository).deleteAllByIdInBatch(List.of(1L, 2L));
+        }
+
+        @Test
+        @DisplayName("전송에 실패한 행은 남겨두고 다음 시도 시각을 미룬다")
+        void backsOffFailedRows() {
+            OutboxEvent ok = outbox(1L, "10");
+            OutboxEvent failing = outbox(2L, "20");
+            LocalDateTime before = failing.getNextAttemptAt();
+            when(repository.findReadyForUpdate(any(LocalDateTime.class), any(Pageable.class)))
+                    .thenReturn(List.of(ok, failing));
+            when(kafkaTemplate.send(any(String.class), eq("10"), any(String.class)))
+                    .thenReturn(CompletableFuture.completedFuture(null));
+            when(kafkaTemplate.send(any(String.class), eq("20"), any(String.class)))
+                    .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+            int sent = relay.relayBatch();
+
+            assertThat(sent).isEqualTo(1);
+            verify(repository).deleteAllByIdInBatch(List.of(1L));
+            assertThat(failing.getAttempts()).isEqualTo(1);
+            assertThat(failing.getNextAttemptAt()).isAfter(before);
+        }
+
+        @Test
+        @DisplayName("같은 키의 앞선 행이 실패하면 뒤의 행은 전달됐더라도 삭제하지 않고 보류한다")
+        void holdsBackLaterRowsOfFailedKey() {
+            OutboxEvent failing = outbox(1L, "10");
+            OutboxEvent later = outbox(2L, "10");
+            OutboxEvent other = outbox(3L, "20");
+            LocalDateTime laterAttemptAt = later.getNextAttemptAt();
+            when(repository.findReadyForUpdate(any(LocalDateTime.class), any(Pageable.class)))
+                    .thenReturn(List.of(failing, later, other));
+            when(kafkaTemplate.send(any(String.class), any(String.class), any(String.class)))
+                    .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")))
+                    .thenReturn(CompletableFuture.completedFuture(null));
+
+            int sent = relay.relayBatch();
+
+            assertThat(sent).isEqualTo(1);
+            verify(repository).deleteAllByIdInBatch(List.of(3L));
+            assertThat(failing.getAttempts()).isEqualTo(1);
+            // 보류한 행은 실패로 세지 않고, 앞선 행이 백오프 중인 동안은 조회에서 빠짐
+            assertThat(later.getAttempts()).isZero();
+            assertThat(later.getNextAttemptAt()).isEqualTo(laterAttemptAt);
+            // 다시 잡을 수 있도록 claim을 풀어 저장
+            assertThat(failing.getClaimedUntil()).isNull();
+            assertThat(later.getClaimedUntil()).isNull();
+            verify(repository).saveAll(List.of(failing, later));
+        }
+
+        @Test
+        @DisplayName("같은 키의 앞선 행을 다른 릴레이가 잡고 있으면 그 키의 행은 보내지 않는다")
+        void skipsKeyClaimedByAnotherRelay() {
+            // 1번 행은 다른 릴레이가 잠가 SKIP LOCKED로 빠졌고, 2·3번은 같은 키의 뒤쪽 행
+            OutboxEvent behind = outbox(2L, "10");
+            OutboxEvent behindToo = outbox(3L, "10");
+            OutboxEvent other = outbox(4L, "20");
+            when(repository.findReadyForUpdate(any(LocalDateTime.class), any(Pageable.class)))
+                    .thenReturn(List.of(behind, behindToo, other));
+            when(repository.findIdsBehindOtherRows(List.of(2L, 3L, 4L))).thenReturn(List.of(2L));
+            when(kafkaTemplate.send(any(String.class), any(String.class), any(String.class)))
+                    .thenReturn(CompletableFuture.completedFuture(null));
+
+            int sent = relay.relayBatch();
+
+            assertThat(sent).isEqualTo(1);
+            verify(kafkaTemplate, never()).send(any(String.class), eq("10"), any(String.class));
+            verify(repository).deleteAllByIdInBatch(List.of(4L));
+            assertThat(behind.getClaimedUntil()).isNull();
+            assertThat(behindToo.getClaimedUntil()).isNull();
+        }
+
+        @Test
+        @DisplayName("보낼 행이 없으면 아무것도 하지 않는다")
+        void emptyBatch() {
+            when(repository.findReadyForUpdate(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of());
+
+            assertThat(relay.relayBatch()).isZero();
+            verify(repository, never()).deleteAllByIdInBatch(any());
+        }
+    }
+
+    @Test
+    @DisplayName("백오프는 시도마다 두배로 늘고 최대값을 넘지 않는다")
+    void backoffIsCapped() {
+        properties.setInitialBackoff(Duration.ofSeconds(1));
+        properties.setMaxBackoff(Duration.ofSeconds(5));
+
+        assertThat(relay.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(relay.backoff(3)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(relay.backoff(10)).isEqualTo(Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,125 @@
+package com.runinto.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GeoUtil 단위 테스트")
+class GeoUtilTest {
+
+    @Nested
+    @DisplayName("getGridId 메소드는")
+    class Describe_getGridId {
+        @Test
+        @DisplayName("셀 키에서 위도/경도 인덱스를 그대로 복원할 수 있다")
+        void encodedCellCanBeDecoded() {
+            double[][] points = {{37.5665, 126.9780}, {-33.8688, 151.2093}, {40.7128, -74.0060}, {-0.001, -0.001}};
+            for (double[] point : points) {
+                long gridId = GeoUtil.getGridId(point[0], point[1]);
+
+                assertThat(GeoUtil.decodeLatitudeIndex(gridId)).isEqualTo(GeoUtil.latitudeIndex(point[0]));
+                assertThat(GeoUtil.decodeLongitudeIndex(gridId)).isEqualTo(GeoUtil.longitudeIndex(point[1]));
+            }
+        }
+
+        @Test
+        @DisplayName("같은 셀 안의 좌표는 같은 키를, 0 주변의 좌표는 서로 다른 키를 가진다")
+        void sameCellSameKey() {
+            assertThat(GeoUtil.getGridId(37.5665, 126.9780)).isEqualTo(GeoUtil.getGridId(37.5666, 126.9781));
+            assertThat(GeoUtil.getGridId(0.001, 0.001)).isNotEqualTo(GeoUtil.getGridId(-0.001, -0.001));
+        }
+    }
+
+    @Nested
+    @DisplayName("getGridIdsForBoundingBox 메소드는")
+    class Describe_getGridIdsForBoundingBox {
+        @Test
+        @DisplayName("박스에 걸친 모든 셀을 중복 없이 반환한다")
+        void returnsAllCellsWithoutDuplicates() {
+            long[] gridIds = GeoUtil.getGridIdsForBoundingBox(37.50, 126.90, 37.52, 126.93);
+
+            long latCells = GeoUtil.latitudeIndex(37.52) - GeoUtil.latitudeIndex(37.50) + 1;
+            long lngCells = GeoUtil.longitudeIndex(126.93) - GeoUtil.longitudeIndex(126.90) + 1;
+            assertThat(gridIds).hasSize((int) (latCells * lngCells));
+            assertThat(Arrays.stream(gridIds).distinct().count()).isEqualTo(gridIds.length);
+            assertThat(gridIds).contains(GeoUtil.getGridId(37.51, 126.91), GeoUtil.getGridId(37.52, 126.93));
+        }
+
+        @Test
+        @DisplayName("뒤집힌 박스는 빈 결과를 반환한다")
+        void invertedBoxIsEmpty() {
+            assertThat(GeoUtil.getGridIdsForBoundingBox(37.6, 127.0, 37.5, 126.9)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("CellIterator는")
+    class Describe_CellIterator {
+        @Test
+        @DisplayName("size만큼 순회한 뒤에는 더 이상 원소가 없다")
+        void iteratesExactlySizeElements() {
+            GeoUtil.CellIterator cells = GeoUtil.cellsInBoundingBox(37.50, 126.90, 37.51, 126.91);
+            long count = 0;
+            while (cells.hasNext()) {
+                cells.nextLong();
+                count++;
+            }
+
+            assertThat(count).isEqualTo(cells.size());
+            assertThatThrownBy(cells::nextLong).isInstanceOf(NoSuchElementException.class);
+        }
+
+        @Test
+        @DisplayName("int 범위를 넘는 세계 전체 범위도 셀을 만들지 않고 개수만 계산한다")
+        void countsWorldWideBoxWithoutOverflow() {
+            GeoUtil.CellIterator cells = GeoUtil.cellsInBoundingBox(-90, -180, 90, 180);
+
+            assertThat(cells.size()).isGreaterThan(Integer.MAX_VALUE)
+                    .isEqualTo(GeoUtil.countCells(0, -90, -180, 90, 180));
+            assertThat(cells.hasNext()).isTrue();
+            assertThatThrownBy(() -> GeoUtil.getGridIdsForBoundingBox(-90, -180, 90, 180))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("계층형 그리드는")
+    class Describe_levels {
+        @Test
+        @DisplayName("상위 레벨 셀이 하위 레벨 셀을 정확히 포함한다")
+        void coarseCellContainsFineCell() {
+            double latitude = 37.5665, longitude = 126.9780;
+            long fine = GeoUtil.getGridId(0, latitude, longitude);
+            long coarse = GeoUtil.getGridId(1, latitude, longitude);
+
+            assertThat(fine).isEqualTo(GeoUtil.getGridId(latitude, longitude));
+            assertThat(GeoUtil.levelOf(coarse)).isEqualTo(1);
+            assertThat(GeoUtil.decodeLatitudeIndex(coarse)).isEqualTo(Math.floorDiv(GeoUtil.decodeLatitudeIndex(fine), 8));
+            assertThat(GeoUtil.decodeLongitudeIndex(coarse)).isEqualTo(Math.floorDiv(GeoUtil.decodeLongitudeIndex(fine), 8));
+        }
+
+        @Test
+        @DisplayName("셀 수 상한을 지키는 가장 세밀한 레벨을 고른다")
+        void choosesFinestLevelWithinBound() {
+            // 동네 (약 2km x 2km)
+            assertThat(GeoUtil.chooseLevel(37.55, 126.97, 37.57, 126.99, 64)).isEqualTo(0);
+            // 서울 도심권 (약 20km x 20km)
+            assertThat(GeoUtil.chooseLevel(37.45, 126.90, 37.65, 127.15, 64)).isEqualTo(1);
+            // 한반도 남부
+            assertThat(GeoUtil.chooseLevel(33.0, 125.0, 38.5, 130.0, 64)).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("가장 거친 레벨은 지구 전체도 클러스터 셀 상한 안에서 덮는다")
+        void coarsestLevelCoversWholeWorld() {
+            assertThat(GeoUtil.chooseLevel(-90, -180, 90, 180, 256)).isEqualTo(GeoUtil.LEVEL_COUNT - 1);
+            assertThat(GeoUtil.countCells(GeoUtil.LEVEL_COUNT - 1, -90, -180, 90, 180)).isLessThanOrEqualTo(256);
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package com.Runinto.consumer.config;
 
+import com.Runinto.consumer.config.properties.CacheConsumerProperties;
 import common.kafka.dto.CacheUpdateMessage;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.MicrometerConsumerListener;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 
 import java.util.HashMap;
@@ -17,30 +21,45 @@ import java.util.Map;
 public class KafkaConsumerConfig {
 
     // application.yml 또는 properties에 설정된 Kafka 서버 주소
-    private String bootstrapServers = "localhost:9092"; // 실제 환경에 맞게 수정
+    @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
 
     @Bean
-    public ConsumerFactory<String, CacheUpdateMessage> cacheUpdateConsumerFactory() {
+    public ConsumerFactory<String, CacheUpdateMessage> cacheUpdateConsumerFactory(CacheConsumerProperties properties,
+                                                                                  MeterRegistry meterRegistry) {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, "cache-management-group");
+        // 💡 한번의 poll로 여러 메시지를 가져와 배치 단위로 처리
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, properties.getMaxPollRecords());
+        props.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, properties.getFetchMinBytes());
+        props.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, (int) properties.getFetchMaxWait().toMillis());
 
         // 💡 역직렬화 설정
         JsonDeserializer<CacheUpdateMessage> deserializer = new JsonDeserializer<>(CacheUpdateMessage.class);
         // 신뢰할 수 없는 패키지로부터의 역직렬화를 허용 (개발 편의성, 보안에 유의)
         deserializer.addTrustedPackages("*");
 
-        return new DefaultKafkaConsumerFactory<>(
+        DefaultKafkaConsumerFactory<String, CacheUpdateMessage> factory = new DefaultKafkaConsumerFactory<>(
                 props,
                 new StringDeserializer(),
                 deserializer); // JsonDeserializer를 값(value) 역직렬화기로 사용
+        // 카프카 클라이언트 메트릭(records-lag-max, records-consumed-rate 등)을 Micrometer로 노출
+        factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return factory;
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, CacheUpdateMessage> cacheUpdateListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, CacheUpdateMessage> cacheUpdateListenerContainerFactory(
+            ConsumerFactory<String, CacheUpdateMessage> cacheUpdateConsumerFactory, CacheConsumerProperties properties) {
         ConcurrentKafkaListenerContainerFactory<String, CacheUpdateMessage> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(cacheUpdateConsumerFactory());
+        factory.setConsumerFactory(cacheUpdateConsumerFactory);
+        factory.setBatchListener(true);
+        factory.setConcurrency(properties.getConcurrency());
+        factory.getContainerProperties().setPollTimeout(properties.getPollTimeout().toMillis());
+        // 리스너 처리 시간/성공 여부를 spring.kafka.listener 타이머로 기록
+        factory.getContainerProperties().setMicrometerEnabled(true);
         return factory;
     }
-}
\ No newline at end of file
+}
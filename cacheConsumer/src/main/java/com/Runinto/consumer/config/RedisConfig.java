@@ -24,6 +24,8 @@ public class RedisConfig {
         template.setConnectionFactory(cacheRedisConnectionFactory);
         template.setKeySerializer(new StringRedisSerializer());
         template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        // 그리드 해시 필드(eventId)는 backend와 같은 문자열 직렬화를 사용
+        template.setHashKeySerializer(new StringRedisSerializer());
         return template;
     }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.Runinto.consumer.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "cache-consumer")
+public class CacheConsumerProperties {
+    // 리스너 스레드 수 (토픽 파티션 수 이하로 설정)
+    private int concurrency = 3;
+    // 한번의 poll에서 가져오는 최대 메시지 수 (= 한 배치 크기)
+    private int maxPollRecords = 500;
+    // 브로커가 fetchMinBytes를 채울 때까지 기다리는 최대 시간 (짧은 버스트를 한 배치로 모음)
+    private Duration fetchMaxWait = Duration.ofMillis(100);
+    private int fetchMinBytes = 1;
+    private Duration pollTimeout = Duration.ofSeconds(1);
+}
@@ -0,0 +1,156 @@
+package com.Runinto.consumer.kafka;
+
+import common.cache.GridSummaryFields;
+import common.kafka.dto.CacheUpdateMessage;
+import common.kafka.dto.GridSummaryDelta;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한번의 poll로 받은 메시지를 Redis 명령 단위로 합칩니다.
+ * - 같은 그리드의 무효화는 한번만, 무효화된 그리드에 대한 패치는 버림 (다음 조회에서 DB로부터 다시 채워짐)
+ * - 같은 (그리드, 이벤트)에 대한 패치는 마지막 메시지만 적용
+ * - 셀 요약 증감은 덮어쓰지 않고 셀별로 모두 더함 (그리드 무효화와 상관없이 반영)
+ * 메시지는 파티션 순서대로 들어오므로 "마지막"은 가장 최근 변경입니다.
+ */
+class CacheUpdateBatch {
+
+    // 무효화할 그리드 ID
+    private final Set<Long> invalidatedGrids = new LinkedHashSet<>();
+    // 그리드 → (이벤트 ID → payload, null이면 제거)
+    private final Map<Long, Map<Long, byte[]>> gridPatches = new LinkedHashMap<>();
+    // 이벤트 단건 캐시 → payload (null이면 삭제)
+    private final Map<Long, byte[]> eventPatches = new LinkedHashMap<>();
+    // 요약 셀 ID → 필드별 증감
+    private final Map<Long, SummaryIncrement> summaryIncrements = new LinkedHashMap<>();
+
+    static CacheUpdateBatch of(List<CacheUpdateMessage> messages) {
+        CacheUpdateBatch batch = new CacheUpdateBatch();
+        messages.forEach(batch::add);
+        return batch;
+    }
+
+    void add(CacheUpdateMessage message) {
+        if (message == null || message.getAction() == null || message.getGridId() == null) {
+            return;
+        }
+        addSummaryDeltas(message.getSummaryDeltas());
+        Long gridId = message.getGridId();
+        switch (message.getAction()) {
+            case INVALIDATE_GRID -> invalidate(gridId);
+            case EVENT_ADDED, EVENT_UPDATED, PARTICIPANTS_CHANGED -> {
+                if (message.getEventId() == null || message.getPayload() == null) {
+                    // 내용을 알 수 없으면 셀을 지워 다음 조회에서 DB로부터 다시 채우게 함
+                    invalidate(gridId);
+                    return;
+                }
+                patch(gridId, message.getEventId(), message.getPayload());
+            }
+            case EVENT_REMOVED -> {
+                if (message.getEventId() == null) {
+                    invalidate(gridId);
+                    return;
+                }
+                patch(gridId, message.getEventId(), null);
+            }
+        }
+    }
+
+    private void invalidate(Long gridId) {
+        invalidatedGrids.add(gridId);
+        gridPatches.remove(gridId);
+    }
+
+    private void patch(Long gridId, Long eventId, byte[] payload) {
+        eventPatches.put(eventId, payload);
+        if (!invalidatedGrids.contains(gridId)) {
+            gridPatches.computeIfAbsent(gridId, id -> new LinkedHashMap<>()).put(eventId, payload);
+        }
+    }
+
+    private void addSummaryDeltas(List<GridSummaryDelta> deltas) {
+        if (deltas == null) {
+            return;
+        }
+        for (GridSummaryDelta delta : deltas) {
+            if (delta == null || delta.getGridIds() == null || delta.getCount() == 0) {
+                continue;
+            }
+            for (Long summaryGridId : delta.getGridIds()) {
+                summaryIncrements.computeIfAbsent(summaryGridId, id -> new SummaryIncrement()).add(delta);
+            }
+        }
+    }
+
+    Set<Long> invalidatedGrids() {
+        return invalidatedGrids;
+    }
+
+    Map<Long, Map<Long, byte[]>> gridPatches() {
+        return gridPatches;
+    }
+
+    Map<Long, byte[]> eventPatches() {
+        return eventPatches;
+    }
+
+    List<Long> removedEvents() {
+        List<Long> removed = new ArrayList<>();
+        eventPatches.forEach((eventId, payload) -> {
+            if (payload == null) {
+                removed.add(eventId);
+            }
+        });
+        return removed;
+    }
+
+    Map<Long, SummaryIncrement> summaryIncrements() {
+        return summaryIncrements;
+    }
+
+    // 합친 뒤 실제로 Redis에 반영되는 항목 수
+    int operationCount() {
+        int count = invalidatedGrids.size() + eventPatches.size() + summaryIncrements.size();
+        for (Map<Long, byte[]> patches : gridPatches.values()) {
+            count += patches.size();
+        }
+        return count;
+    }
+
+    /**
+     * 셀 요약 하나에 더할 값. 개수 필드는 HINCRBY, 좌표 합 필드는 HINCRBYFLOAT로 반영합니다.
+     */
+    static class SummaryIncrement {
+        private final Map<String, Long> counts = new LinkedHashMap<>();
+        private final Map<String, Double> sums = new LinkedHashMap<>();
+
+        void add(GridSummaryDelta delta) {
+            int count = delta.getCount();
+            double latitude = delta.getLatitude() * count;
+            double longitude = delta.getLongitude() * count;
+            counts.merge(GridSummaryFields.COUNT, (long) count, Long::sum);
+            sums.merge(GridSummaryFields.LATITUDE_SUM, latitude, Double::sum);
+            sums.merge(GridSummaryFields.LONGITUDE_SUM, longitude, Double::sum);
+            if (delta.getCategories() != null) {
+                for (String category : delta.getCategories()) {
+                    counts.merge(GridSummaryFields.category(category), (long) count, Long::sum);
+                    sums.merge(GridSummaryFields.categoryLatitudeSum(category), latitude, Double::sum);
+                    sums.merge(GridSummaryFields.categoryLongitudeSum(category), longitude, Double::sum);
+                }
+            }
+        }
+
+        Map<String, Long> counts() {
+            return counts;
+        }
+
+        Map<String, Double> sums() {
+            return sums;
+        }
+    }
+}
@@ -1,29 +1,215 @@
 package com.Runinto.consumer.kafka;
 
+import common.cache.CacheKeys;
 import common.kafka.dto.CacheUpdateMessage;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CacheUpdateConsumer {
 
-    @Qualifier("cacheRedisTemplate")
+    // KEYS[i]마다 ARGV[2i], ARGV[2i+1] = (필드, 직렬화된 이벤트), ARGV[1] = 그리드 키 개수 n
+    // 앞의 n개는 그리드 해시: 캐시되어 있을 때만 이벤트 필드를 교체
+    // 나머지는 이벤트 단건 키: 캐시되어 있을 때만 TTL을 유지한 채 덮어씀
+    private static final byte[] UPSERT_EVENTS_SCRIPT = (
+            "local n = tonumber(ARGV[1]) " +
+            "for i = 1, #KEYS do " +
+            "  if i <= n then " +
+            "    if redis.call('EXISTS', KEYS[i]) == 1 then redis.call('HSET', KEYS[i], ARGV[2 * i], ARGV[2 * i + 1]) end " +
+            "  else " +
+            "    redis.call('SET', KEYS[i], ARGV[2 * i + 1], 'XX', 'KEEPTTL') " +
+            "  end " +
+            "end " +
+            "return 0").getBytes(StandardCharsets.UTF_8);
+    // KEYS는 (요약 키, 버전 키) 쌍, ARGV[1] = 버전 키 TTL
+    // 이후 쌍마다 (개수 필드 수 c, 좌표 합 필드 수 f, c개의 (필드, 정수 증감), f개의 (필드, 실수 증감))
+    // 요약이 캐시되어 있을 때만 증감 (없으면 다음 조회에서 DB로부터 새로 집계)
+    // 💡 버전은 캐시 여부와 상관없이 올림 → 그 사이 DB에서 집계하던 backend가 결과를 쓰지 않음 (증감 누락/중복 방지)
+    private static final byte[] ADJUST_SUMMARIES_SCRIPT = (
+            "local a = 2 " +
+            "for i = 1, #KEYS, 2 do " +
+            "  local counts = tonumber(ARGV[a]) " +
+            "  local sums = tonumber(ARGV[a + 1]) " +
+            "  a = a + 2 " +
+            "  redis.call('INCR', KEYS[i + 1]) " +
+            "  redis.call('PEXPIRE', KEYS[i + 1], ARGV[1]) " +
+            "  local cached = redis.call('EXISTS', KEYS[i]) == 1 " +
+            "  for j = 1, counts do " +
+            "    if cached then redis.call('HINCRBY', KEYS[i], ARGV[a], ARGV[a + 1]) end " +
+            "    a = a + 2 " +
+            "  end " +
+            "  for j = 1, sums do " +
+            "    if cached then redis.call('HINCRBYFLOAT', KEYS[i], ARGV[a], ARGV[a + 1]) end " +
+            "    a = a + 2 " +
+            "  end " +
+            "end " +
+            "return 0").getBytes(StandardCharsets.UTF_8);
+    // backend가 요약을 집계하는 시간보다 충분히 길게 (만료된 뒤 다시 1부터 세면 집계 중인 쪽이 변경을 놓칠 수 있음)
+    private static final long SUMMARY_VERSION_TTL_MILLIS = TimeUnit.MINUTES.toMillis(15);
+    private static final byte[] EMPTY = new byte[0];
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final Counter receivedCounter;
+    private final Counter operationCounter;
+    private final DistributionSummary batchSize;
+    private final Timer applyTimer;
 
-    // 💡 위에서 만든 설정(ContainerFactory)을 사용하도록 지정
+    public CacheUpdateConsumer(@Qualifier("cacheRedisTemplate") RedisTemplate<String, Object> redisTemplate,
+                               MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.receivedCounter = Counter.builder("cache.update.messages")
+                .description("수신한 캐시 갱신 메시지 수")
+                .register(meterRegistry);
+        this.operationCounter = Counter.builder("cache.update.operations")
+                .description("중복 제거 후 Redis에 반영한 항목 수")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("cache.update.batch.size")
+                .description("poll 한번에 처리한 메시지 수")
+                .register(meterRegistry);
+        this.applyTimer = Timer.builder("cache.update.batch.apply")
+                .description("배치 하나를 Redis에 반영하는 데 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    // 💡 위에서 만든 설정(ContainerFactory)을 사용하도록 지정 (배치 리스너)
     @KafkaListener(topics = "cache-management-topic", containerFactory = "cacheUpdateListenerContainerFactory")
-    public void consume(CacheUpdateMessage message) {
-        log.info("Consumed message for cache update: gridId={}, action={}", message.getGridId(), message.getAction());
+    public void consume(List<CacheUpdateMessage> messages) {
+        CacheUpdateBatch batch = CacheUpdateBatch.of(messages);
+        receivedCounter.increment(messages.size());
+        batchSize.record(messages.size());
+        operationCounter.increment(batch.operationCount());
+
+        applyTimer.record(() -> apply(batch));
+        log.info("Consumed {} cache update messages: invalidated grids={}, patched grids={}, events={}, summaries={}",
+                messages.size(), batch.invalidatedGrids().size(), batch.gridPatches().size(), batch.eventPatches().size(),
+                batch.summaryIncrements().size());
+    }
+
+    // 배치 전체를 한번의 파이프라인(UNLINK + HDEL + EVAL + 요약 EVAL)으로 전송
+    private void apply(CacheUpdateBatch batch) {
+        List<byte[]> unlinkKeys = new ArrayList<>();
+        batch.invalidatedGrids().forEach(gridId -> unlinkKeys.add(utf8(CacheKeys.grid(gridId))));
+        batch.removedEvents().forEach(eventId -> unlinkKeys.add(utf8(CacheKeys.event(eventId))));
 
-        if ("INVALIDATE_GRID".equals(message.getAction())) {
-            redisTemplate.delete(message.getGridId());
-            log.info("Cache invalidated for gridId: {}", message.getGridId());
+        List<byte[][]> hashDeletes = new ArrayList<>();
+        for (Map.Entry<Long, Map<Long, byte[]>> grid : batch.gridPatches().entrySet()) {
+            List<byte[]> removedFields = new ArrayList<>();
+            removedFields.add(utf8(CacheKeys.grid(grid.getKey())));
+            grid.getValue().forEach((eventId, payload) -> {
+                if (payload == null) {
+                    removedFields.add(utf8(String.valueOf(eventId)));
+                }
+            });
+            if (removedFields.size() > 1) {
+                hashDeletes.add(removedFields.toArray(byte[][]::new));
+            }
         }
+        ScriptCall upserts = upsertCall(batch);
+        ScriptCall summaries = summaryCall(batch.summaryIncrements());
+
+        if (unlinkKeys.isEmpty() && hashDeletes.isEmpty() && upserts == null && summaries == null) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            if (!unlinkKeys.isEmpty()) {
+                connection.keyCommands().unlink(unlinkKeys.toArray(byte[][]::new));
+            }
+            for (byte[][] keyAndFields : hashDeletes) {
+                byte[][] fields = new byte[keyAndFields.length - 1][];
+                System.arraycopy(keyAndFields, 1, fields, 0, fields.length);
+                connection.hashCommands().hDel(keyAndFields[0], fields);
+            }
+            if (upserts != null) {
+                connection.scriptingCommands().eval(UPSERT_EVENTS_SCRIPT, ReturnType.INTEGER,
+                        upserts.numKeys(), upserts.keysAndArgs());
+            }
+            if (summaries != null) {
+                connection.scriptingCommands().eval(ADJUST_SUMMARIES_SCRIPT, ReturnType.INTEGER,
+                        summaries.numKeys(), summaries.keysAndArgs());
+            }
+            return null;
+        });
+    }
+
+    // UPSERT_EVENTS_SCRIPT의 KEYS + ARGV (그리드 해시 키들, 이벤트 단건 키들, 그리드 키 개수, (필드, 값) 쌍들). 반영할 값이 없으면 null
+    static ScriptCall upsertCall(CacheUpdateBatch batch) {
+        List<byte[]> keys = new ArrayList<>();
+        List<byte[]> args = new ArrayList<>();
+        batch.gridPatches().forEach((gridId, patches) -> {
+            byte[] gridKey = utf8(CacheKeys.grid(gridId));
+            patches.forEach((eventId, payload) -> {
+                if (payload != null) {
+                    keys.add(gridKey);
+                    args.add(utf8(String.valueOf(eventId)));
+                    args.add(payload);
+                }
+            });
+        });
+        int gridUpserts = keys.size();
+        batch.eventPatches().forEach((eventId, payload) -> {
+            if (payload != null) {
+                keys.add(utf8(CacheKeys.event(eventId)));
+                args.add(EMPTY);
+                args.add(payload);
+            }
+        });
+        if (keys.isEmpty()) {
+            return null;
+        }
+        int numKeys = keys.size();
+        keys.add(utf8(Integer.toString(gridUpserts)));
+        keys.addAll(args);
+        return new ScriptCall(numKeys, keys.toArray(byte[][]::new));
+    }
+
+    // ADJUST_SUMMARIES_SCRIPT의 KEYS + ARGV. 반영할 증감이 없으면 null
+    static ScriptCall summaryCall(Map<Long, CacheUpdateBatch.SummaryIncrement> summaries) {
+        if (summaries.isEmpty()) {
+            return null;
+        }
+        List<byte[]> keys = new ArrayList<>(2 * summaries.size());
+        List<byte[]> args = new ArrayList<>();
+        args.add(utf8(Long.toString(SUMMARY_VERSION_TTL_MILLIS)));
+        summaries.forEach((gridId, increment) -> {
+            keys.add(utf8(CacheKeys.gridSummary(gridId)));
+            keys.add(utf8(CacheKeys.gridSummaryVersion(gridId)));
+            args.add(utf8(Integer.toString(increment.counts().size())));
+            args.add(utf8(Integer.toString(increment.sums().size())));
+            increment.counts().forEach((field, value) -> {
+                args.add(utf8(field));
+                args.add(utf8(Long.toString(value)));
+            });
+            increment.sums().forEach((field, value) -> {
+                args.add(utf8(field));
+                args.add(utf8(Double.toString(value)));
+            });
+        });
+        int numKeys = keys.size();
+        keys.addAll(args);
+        return new ScriptCall(numKeys, keys.toArray(byte[][]::new));
+    }
+
+    // EVAL에 넘기는 키 개수와 KEYS + ARGV
+    record ScriptCall(int numKeys, byte[][] keysAndArgs) {
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
     }
-}
\ No newline at end of file
+}
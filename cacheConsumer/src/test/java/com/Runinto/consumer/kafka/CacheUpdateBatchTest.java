@@ -0,0 +1,100 @@
+package com.Runinto.consumer.kafka;
+
+import common.cache.GridSummaryFields;
+import common.kafka.dto.CacheUpdateAction;
+import common.kafka.dto.CacheUpdateMessage;
+import common.kafka.dto.GridSummaryDelta;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.offset;
+
+@DisplayName("CacheUpdateBatch 테스트")
+class CacheUpdateBatchTest {
+
+    private static final byte[] FIRST = {1};
+    private static final byte[] SECOND = {2};
+
+    @Nested
+    @DisplayName("add 메소드는")
+    class Describe_add {
+
+        @Test
+        @DisplayName("그리드가 무효화되면 앞뒤의 패치를 그리드에 적용하지 않는다")
+        void invalidateWinsOverPatch() {
+            CacheUpdateBatch batch = CacheUpdateBatch.of(List.of(
+                    updated(10L, 1L, FIRST),
+                    new CacheUpdateMessage(CacheUpdateAction.INVALIDATE_GRID, 10L),
+                    updated(10L, 2L, SECOND)));
+
+            assertThat(batch.invalidatedGrids()).containsExactly(10L);
+            assertThat(batch.gridPatches()).isEmpty();
+            // 이벤트 단건 캐시는 그리드와 별개로 갱신
+            assertThat(batch.eventPatches()).containsOnlyKeys(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("같은 (그리드, 이벤트)에 대한 패치는 마지막 것만 남긴다")
+        void lastPatchWins() {
+            CacheUpdateBatch batch = CacheUpdateBatch.of(List.of(
+                    updated(10L, 1L, FIRST),
+                    updated(10L, 1L, SECOND)));
+
+            assertThat(batch.gridPatches().get(10L)).containsExactly(entry(1L, SECOND));
+            assertThat(batch.eventPatches()).containsExactly(entry(1L, SECOND));
+            assertThat(batch.operationCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("다른 셀로 옮겨진 이벤트는 이전 셀에서 지우고 새 셀에 넣으며 단건 캐시는 지우지 않는다")
+        void removeThenAddForMovedEvent() {
+            CacheUpdateBatch batch = CacheUpdateBatch.of(List.of(
+                    CacheUpdateMessage.removed(10L, 1L, List.of()),
+                    CacheUpdateMessage.upsert(CacheUpdateAction.EVENT_ADDED, 20L, 1L, FIRST, List.of())));
+
+            assertThat(batch.gridPatches().get(10L)).containsExactly(entry(1L, null));
+            assertThat(batch.gridPatches().get(20L)).containsExactly(entry(1L, FIRST));
+            assertThat(batch.eventPatches()).containsExactly(entry(1L, FIRST));
+            assertThat(batch.removedEvents()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("payload가 없는 패치는 그리드를 무효화한다")
+        void invalidatesWithoutPayload() {
+            CacheUpdateBatch batch = CacheUpdateBatch.of(List.of(updated(10L, 1L, null)));
+
+            assertThat(batch.invalidatedGrids()).containsExactly(10L);
+            assertThat(batch.eventPatches()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("셀 요약 증감은 덮어쓰지 않고 셀별로 더한다")
+        void sumsSummaryDeltas() {
+            CacheUpdateBatch batch = CacheUpdateBatch.of(List.of(
+                    CacheUpdateMessage.upsert(CacheUpdateAction.EVENT_ADDED, 10L, 1L, FIRST,
+                            List.of(new GridSummaryDelta(List.of(10L, 100L), 1, 37.5, 127.0, List.of("EAT")))),
+                    CacheUpdateMessage.upsert(CacheUpdateAction.EVENT_ADDED, 10L, 2L, SECOND,
+                            List.of(new GridSummaryDelta(List.of(10L, 100L), 1, 37.6, 127.0, List.of()))),
+                    CacheUpdateMessage.removed(30L, 3L,
+                            List.of(new GridSummaryDelta(List.of(30L, 100L), -1, 37.5, 127.0, List.of("EAT"))))));
+
+            CacheUpdateBatch.SummaryIncrement cell = batch.summaryIncrements().get(10L);
+            assertThat(cell.counts()).containsEntry(GridSummaryFields.COUNT, 2L)
+                    .containsEntry(GridSummaryFields.category("EAT"), 1L);
+            assertThat(cell.sums().get(GridSummaryFields.LATITUDE_SUM)).isCloseTo(75.1, offset(1e-9));
+            // 같은 상위 셀 안에서의 추가/삭제는 상쇄
+            CacheUpdateBatch.SummaryIncrement parent = batch.summaryIncrements().get(100L);
+            assertThat(parent.counts()).containsEntry(GridSummaryFields.COUNT, 1L)
+                    .containsEntry(GridSummaryFields.category("EAT"), 0L);
+        }
+    }
+
+    private static CacheUpdateMessage updated(long gridId, long eventId, byte[] payload) {
+        return CacheUpdateMessage.upsert(CacheUpdateAction.EVENT_UPDATED, gridId, eventId, payload, List.of());
+    }
+}
@@ -0,0 +1,83 @@
+package com.Runinto.consumer.kafka;
+
+import common.cache.CacheKeys;
+import common.cache.GridSummaryFields;
+import common.kafka.dto.CacheUpdateAction;
+import common.kafka.dto.CacheUpdateMessage;
+import common.kafka.dto.GridSummaryDelta;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CacheUpdateConsumer 테스트")
+class CacheUpdateConsumerTest {
+
+    private static final byte[] PAYLOAD = {7, 8};
+
+    @Nested
+    @DisplayName("upsertCall 메소드는")
+    class Describe_upsertCall {
+
+        @Test
+        @DisplayName("그리드 키, 이벤트 키, 그리드 키 개수, (필드, 값) 쌍 순서로 인자를 만든다")
+        void layout() {
+            CacheUpdateBatch batch = CacheUpdateBatch.of(List.of(
+                    CacheUpdateMessage.upsert(CacheUpdateAction.EVENT_UPDATED, 10L, 1L, PAYLOAD, List.of()),
+                    CacheUpdateMessage.removed(10L, 2L, List.of())));
+
+            CacheUpdateConsumer.ScriptCall call = CacheUpdateConsumer.upsertCall(batch);
+
+            assertThat(call.numKeys()).isEqualTo(2);
+            assertThat(strings(call.keysAndArgs(), 0, 3)).containsExactly(
+                    CacheKeys.grid(10L), CacheKeys.event(1L), "1");
+            // ARGV[2i], ARGV[2i+1] = KEYS[i]의 (필드, 값): 그리드는 eventId 필드, 단건 키는 빈 필드
+            assertThat(string(call.keysAndArgs()[3])).isEqualTo("1");
+            assertThat(call.keysAndArgs()[4]).isEqualTo(PAYLOAD);
+            assertThat(call.keysAndArgs()[5]).isEmpty();
+            assertThat(call.keysAndArgs()[6]).isEqualTo(PAYLOAD);
+            assertThat(call.keysAndArgs().length).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("제거만 있으면 스크립트를 호출하지 않는다")
+        void nothingToUpsert() {
+            CacheUpdateBatch batch = CacheUpdateBatch.of(List.of(CacheUpdateMessage.removed(10L, 2L, List.of())));
+
+            assertThat(CacheUpdateConsumer.upsertCall(batch)).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("summaryCall은 셀마다 (요약 키, 버전 키)와 (개수 필드 수, 합 필드 수, 필드 쌍들)을 만든다")
+    void summaryLayout() {
+        CacheUpdateBatch batch = CacheUpdateBatch.of(List.of(
+                CacheUpdateMessage.upsert(CacheUpdateAction.EVENT_ADDED, 10L, 1L, PAYLOAD,
+                        List.of(new GridSummaryDelta(List.of(10L), 1, 37.5, 127.0, List.of())))));
+
+        CacheUpdateConsumer.ScriptCall call = CacheUpdateConsumer.summaryCall(batch.summaryIncrements());
+
+        assertThat(call.numKeys()).isEqualTo(2);
+        byte[][] keysAndArgs = call.keysAndArgs();
+        assertThat(strings(keysAndArgs, 0, 2)).containsExactly(CacheKeys.gridSummary(10L), CacheKeys.gridSummaryVersion(10L));
+        // ARGV[1]은 버전 키 TTL
+        assertThat(strings(keysAndArgs, 3, keysAndArgs.length)).containsExactly(
+                "1", "2",
+                GridSummaryFields.COUNT, "1",
+                GridSummaryFields.LATITUDE_SUM, "37.5",
+                GridSummaryFields.LONGITUDE_SUM, "127.0");
+    }
+
+    private static List<String> strings(byte[][] values, int from, int to) {
+        return Arrays.stream(values, from, to).map(CacheUpdateConsumerTest::string).toList();
+    }
+
+    private static String string(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
@@ -1,5 +1,6 @@
 package com.runinto.consumer.kafka;
 
+import common.chat.ChatChannels;
 import common.kafka.dto.ChatMessageDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,11 +19,10 @@ public class ChatConsumer {
     public void consume(ChatMessageDto message) {
         log.info("Kafka로부터 채팅 메시지 수신: {}", message.getContent());
 
-        // (선택) 여기에 DB에 채팅 내역을 저장하는 로직 추가
-        // chatRepository.save(message);
+        // DB 저장은 backend의 ChatMessagePersistenceConsumer가 별도 컨슈머 그룹으로 일괄 처리합니다.
 
         // Redis Pub/Sub을 통해 모든 backend 서버에 메시지 전파
-        String channel = "chatroom:" + message.getChatroomId();
+        String channel = ChatChannels.chatroom(message.getChatroomId());
         redisTemplate.convertAndSend(channel, message);
     }
 }
\ No newline at end of file
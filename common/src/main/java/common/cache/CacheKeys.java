@@ -0,0 +1,69 @@
+package common.cache;
+
+/**
+ * backend와 cacheConsumer가 함께 쓰는 캐시 Redis 키 규칙
+ */
+public final class CacheKeys {
+
+    public static final String EVENT_PREFIX = "event::";
+    // 그리드는 이벤트 ID를 필드로 가지는 해시 (기존 문자열 값 "grid::"와 타입이 달라 접두어를 바꿈)
+    public static final String GRID_PREFIX = "grid-events::";
+    // 빈 그리드도 캐시되도록 항상 넣어두는 필드
+    public static final String GRID_MARKER_FIELD = "_";
+    public static final String GRID_SUMMARY_PREFIX = "grid-summary::";
+    public static final String GRID_SUMMARY_VERSION_PREFIX = "grid-summary-version::";
+    public static final String GRID_FRESH_PREFIX = "grid-fresh::";
+    public static final String GRID_LEASE_PREFIX = "grid-lease::";
+    public static final String CHAT_RECENT_PREFIX = "chat-recent::";
+    // 채팅 메시지 id 생성기의 노드 번호 lease (번호마다 키 하나)
+    public static final String CHAT_MESSAGE_WORKER_PREFIX = "chat-message-id:worker:";
+    public static final String CHAT_PRESENCE_PREFIX = "chat-presence::";
+
+    private CacheKeys() {
+    }
+
+    public static String event(long eventId) {
+        return EVENT_PREFIX + eventId;
+    }
+
+    // 64비트 셀 키를 16진수로 표현 (예: "grid-events::c00000f3a1b2")
+    public static String grid(long gridId) {
+        return GRID_PREFIX + Long.toHexString(gridId);
+    }
+
+    // 이 키가 만료되면 grid 값은 "오래된" 값으로 취급 (stale-while-revalidate)
+    public static String gridFresh(long gridId) {
+        return GRID_FRESH_PREFIX + Long.toHexString(gridId);
+    }
+
+    // 그리드를 DB에서 다시 채우는 노드가 잡는 짧은 lease
+    public static String gridLease(long gridId) {
+        return GRID_LEASE_PREFIX + Long.toHexString(gridId);
+    }
+
+    // 모든 레벨의 셀 요약(개수/중심/카테고리 분포) 해시 키
+    public static String gridSummary(long gridId) {
+        return GRID_SUMMARY_PREFIX + Long.toHexString(gridId);
+    }
+
+    // cacheConsumer가 셀 요약 증감을 처리할 때마다 올리는 번호
+    // (DB에서 요약을 다시 집계하는 동안 번호가 바뀌었으면 집계 결과를 캐시에 쓰지 않음)
+    public static String gridSummaryVersion(long gridId) {
+        return GRID_SUMMARY_VERSION_PREFIX + Long.toHexString(gridId);
+    }
+
+    // 채팅방의 최근 메시지 protobuf 프레임 리스트 (오래된 → 최신 순, 길이 N으로 유지)
+    public static String chatRecent(long chatroomId) {
+        return CHAT_RECENT_PREFIX + chatroomId;
+    }
+
+    // 노드 번호를 쓰고 있는 노드의 토큰 (만료되면 다른 노드가 가져갈 수 있음)
+    public static String chatMessageWorker(int workerId) {
+        return CHAT_MESSAGE_WORKER_PREFIX + workerId;
+    }
+
+    // 사용자가 연결된 노드들의 정렬 집합 (멤버: 노드 id, 점수: 항목 만료 시각)
+    public static String chatPresence(long userId) {
+        return CHAT_PRESENCE_PREFIX + userId;
+    }
+}
@@ -0,0 +1,30 @@
+package common.cache;
+
+/**
+ * 상위 레벨 그리드 요약("grid-summary::") Redis 해시의 필드 이름
+ */
+public final class GridSummaryFields {
+
+    public static final String COUNT = "count";
+    public static final String LATITUDE_SUM = "latSum";
+    public static final String LONGITUDE_SUM = "lngSum";
+    public static final String CATEGORY_PREFIX = "c:";
+    // 카테고리별 좌표 합 (카테고리 필터가 있을 때 클러스터 중심 계산용)
+    public static final String CATEGORY_LATITUDE_SUM_PREFIX = "cl:";
+    public static final String CATEGORY_LONGITUDE_SUM_PREFIX = "cg:";
+
+    private GridSummaryFields() {
+    }
+
+    public static String category(String categoryName) {
+        return CATEGORY_PREFIX + categoryName;
+    }
+
+    public static String categoryLatitudeSum(String categoryName) {
+        return CATEGORY_LATITUDE_SUM_PREFIX + categoryName;
+    }
+
+    public static String categoryLongitudeSum(String categoryName) {
+        return CATEGORY_LONGITUDE_SUM_PREFIX + categoryName;
+    }
+}
@@ -0,0 +1,45 @@
+package common.chat;
+
+/**
+ * chatConsumer가 발행하고 backend가 구독하는 채팅방 Redis pub/sub 채널 규칙
+ */
+public final class ChatChannels {
+
+    public static final String CHATROOM_PREFIX = "chatroom:";
+    // 입력 중/읽음/접속 신호 채널 (backend 노드끼리 직접 발행, chatConsumer를 거치지 않음)
+    public static final String SIGNAL_PREFIX = "chatroom-signal:";
+    // 채팅방 참여/강퇴 변경을 모든 backend 노드에 알리는 채널 (방마다가 아니라 하나)
+    public static final String MEMBERSHIP = "chatroom-membership";
+
+    private ChatChannels() {
+    }
+
+    public static String chatroom(long chatroomId) {
+        return CHATROOM_PREFIX + chatroomId;
+    }
+
+    public static String signal(long chatroomId) {
+        return SIGNAL_PREFIX + chatroomId;
+    }
+
+    // "chatroom:42" → 42, 규칙에 맞지 않으면 null
+    public static Long chatroomId(String channel) {
+        return parse(channel, CHATROOM_PREFIX);
+    }
+
+    // "chatroom-signal:42" → 42, 규칙에 맞지 않으면 null
+    public static Long signalChatroomId(String channel) {
+        return parse(channel, SIGNAL_PREFIX);
+    }
+
+    private static Long parse(String channel, String prefix) {
+        if (channel == null || !channel.startsWith(prefix)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(channel.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
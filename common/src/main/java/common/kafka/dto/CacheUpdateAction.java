@@ -0,0 +1,12 @@
+package common.kafka.dto;
+
+/**
+ * cache-management-topic 메시지 종류
+ */
+public enum CacheUpdateAction {
+    INVALIDATE_GRID,      // 그리드 전체 삭제 (다음 조회 시 DB에서 다시 채움)
+    EVENT_ADDED,          // 그리드에 이벤트 추가
+    EVENT_REMOVED,        // 그리드에서 이벤트 제거
+    EVENT_UPDATED,        // 같은 그리드 안에서 이벤트 내용 변경
+    PARTICIPANTS_CHANGED  // 참여자 수만 변경
+}
@@ -5,11 +5,31 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.List;
+
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class CacheUpdateMessage {
-    private String action; // 수행할 작업 (예: "INVALIDATE_GRID")
-    private String gridId; // 작업 대상이 되는 그리드 ID
-}
\ No newline at end of file
+    private CacheUpdateAction action; // 수행할 작업
+    private Long gridId; // 작업 대상이 되는 그리드 ID (GeoUtil의 64비트 셀 키)
+    private Long eventId; // 대상 이벤트 ID (INVALIDATE_GRID는 null일 수 있음)
+    private byte[] payload; // 캐시에 그대로 저장할 이벤트 값 (버전 바이트 + protobuf), 추가/변경 시에만 사용
+    // 셀 요약에 반영할 증감 (위치/카테고리가 바뀌지 않았으면 비어 있음)
+    // 💡 변경과 같은 아웃박스 메시지에 담기므로, 요청 노드가 커밋 직후 죽어도 요약 증감이 사라지지 않음
+    private List<GridSummaryDelta> summaryDeltas;
+
+    public CacheUpdateMessage(CacheUpdateAction action, Long gridId) {
+        this(action, gridId, null, null, null);
+    }
+
+    public static CacheUpdateMessage upsert(CacheUpdateAction action, Long gridId, Long eventId, byte[] payload,
+                                            List<GridSummaryDelta> summaryDeltas) {
+        return new CacheUpdateMessage(action, gridId, eventId, payload, summaryDeltas);
+    }
+
+    public static CacheUpdateMessage removed(Long gridId, Long eventId, List<GridSummaryDelta> summaryDeltas) {
+        return new CacheUpdateMessage(CacheUpdateAction.EVENT_REMOVED, gridId, eventId, null, summaryDeltas);
+    }
+}
@@ -4,9 +4,13 @@ import lombok.*;
 
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class ChatMessageDto {
+    // 메시지를 받은 노드가 붙인 전역 유일 id (DB 기본 키로도 사용)
+    private Long messageId;
     private Long chatroomId;
     private Long senderId;
     private String senderName;
     private String senderImgUrl;
     private String content;
+    // backend가 메시지를 받은 시각 (epoch millis)
+    private Long sentAt;
 }
\ No newline at end of file
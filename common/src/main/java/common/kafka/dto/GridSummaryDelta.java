@@ -0,0 +1,24 @@
+package common.kafka.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 이벤트 하나가 셀 요약("grid-summary::")에 더하거나 빼는 양.
+ * 레벨별 셀 키는 발행하는 쪽(backend)이 계산해서 넣으므로 cacheConsumer는 좌표 계산을 하지 않습니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GridSummaryDelta {
+    private List<Long> gridIds; // 이벤트가 속한 모든 레벨의 셀 키
+    private int count; // +1(추가) / -1(제거)
+    private double latitude; // 이벤트 좌표 (좌표 합에는 count를 곱해서 반영)
+    private double longitude;
+    private List<String> categories; // 카테고리 이름 (카테고리별 개수/좌표 합 필드)
+}